@@ -10,21 +10,38 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A font for characters with a space as default character. Only one instance of this class should ever exist and should
  * be used everywhere.
+ * <p>
+ * The character mappings are read from the csv file once this font is used for the first time and the item for a
+ * character is only created once that character is requested. Use {@link #load()} to prepare all items ahead of time.
  *
  * @since 0.5.0
  */
 public class CSVFont extends Font {
 
     /**
-     * A map with all the items and their dedicated characters
+     * A map with all the created items and their dedicated characters
      */
-    private final Map<Character, ItemStack> characterMappings;
+    @NotNull
+    private final Map<Character, ItemStack> characterMappings = new ConcurrentHashMap<>();
+
+    /**
+     * A map with the skull ids of all characters, or null if the csv file hasn't been read yet
+     */
+    @Nullable
+    private volatile Map<Character, String> skullIds;
+
+    /**
+     * The relative file path to the csv file containing the character mappings
+     */
+    @NotNull
+    private final String filePath;
 
     /**
      * The default character to use when a requested character cannot be found
@@ -32,34 +49,102 @@ public class CSVFont extends Font {
     private final char defaultCharacter;
 
     /**
-     * Creates a new default font
+     * Creates a new default font. The csv file will not be read until this font is used.
      *
      * @param defaultCharacter the default character to use when a requested character cannot be found
      * @param filePath the relative file path to the csv file containing the character mappings
      * @since 0.5.0
      */
-    public CSVFont(char defaultCharacter, String filePath) {
+    public CSVFont(char defaultCharacter, @NotNull String filePath) {
         this.defaultCharacter = defaultCharacter;
-
-        try (InputStream inputStream = getClass().getResourceAsStream(filePath)) {
-            characterMappings = CSVUtil.readAll(inputStream).stream()
-                    .collect(Collectors.toMap(v -> v[0].charAt(0), v -> SkullUtil.getSkull(v[1])));
-        } catch (IOException e) {
-            throw new RuntimeException("Error loading CSV-based font: " + filePath, e);
-        }
+        this.filePath = filePath;
     }
 
     @NotNull
     @Contract(pure = true)
     @Override
     public ItemStack getDefaultItem() {
-        return characterMappings.get(defaultCharacter);
+        ItemStack item = toItem(defaultCharacter);
+
+        if (item == null) {
+            throw new IllegalStateException("Default character is missing from CSV-based font: " + filePath);
+        }
+
+        return item;
     }
 
     @Nullable
     @Contract(pure = true)
     @Override
     public ItemStack toItem(char character) {
-        return characterMappings.get(character);
+        ItemStack item = characterMappings.get(character);
+
+        if (item != null) {
+            return item;
+        }
+
+        String skullId = getSkullIds().get(character);
+
+        if (skullId == null) {
+            return null;
+        }
+
+        return characterMappings.computeIfAbsent(character, key -> SkullUtil.getSkull(skullId));
+    }
+
+    @Override
+    public void load() {
+        for (char character : getSkullIds().keySet()) {
+            toItem(character);
+        }
+    }
+
+    /**
+     * Gets the skull ids of all characters in this font, reading the csv file if this hasn't been done yet.
+     *
+     * @return the skull ids by their characters
+     * @since 0.12.1
+     */
+    @NotNull
+    private Map<Character, String> getSkullIds() {
+        Map<Character, String> skullIds = this.skullIds;
+
+        if (skullIds != null) {
+            return skullIds;
+        }
+
+        synchronized (this) {
+            if (this.skullIds == null) {
+                this.skullIds = readSkullIds();
+            }
+
+            return this.skullIds;
+        }
+    }
+
+    /**
+     * Reads the skull ids of all characters from the csv file.
+     *
+     * @return the skull ids by their characters
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    private Map<Character, String> readSkullIds() {
+        try (InputStream inputStream = getClass().getResourceAsStream(filePath)) {
+            if (inputStream == null) {
+                throw new IOException("File not found");
+            }
+
+            Map<Character, String> skullIds = new HashMap<>();
+
+            for (String[] values : CSVUtil.readAll(inputStream)) {
+                skullIds.put(values[0].charAt(0), values[1]);
+            }
+
+            return skullIds;
+        } catch (IOException e) {
+            throw new RuntimeException("Error loading CSV-based font: " + filePath, e);
+        }
     }
 }
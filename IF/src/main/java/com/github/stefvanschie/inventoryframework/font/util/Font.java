@@ -9,9 +9,11 @@ import org.jetbrains.annotations.Nullable;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
- * An interface for fonts
+ * An interface for fonts. The built-in fonts only create their items once they are used, so referencing a font, or
+ * looking one up via {@link #fromName(String)}, is cheap.
  *
  * @since 0.5.0
  */
@@ -210,6 +212,33 @@ public abstract class Font {
     @Contract(pure = true)
     public abstract ItemStack toItem(char character);
 
+    /**
+     * Prepares all items of this font ahead of time, so later lookups do not have to create them. Fonts that do not
+     * create their items lazily do nothing here.
+     *
+     * @since 0.12.1
+     */
+    public void load() {}
+
+    /**
+     * Prepares all items of the specified fonts on a separate thread, as per {@link #load()}. The returned future
+     * completes once all fonts have been loaded. If no fonts are specified, all registered fonts will be loaded.
+     *
+     * @param fonts the fonts to load
+     * @return a future that completes once the fonts have been loaded
+     * @since 0.12.1
+     */
+    @NotNull
+    public static CompletableFuture<Void> loadAsync(@NotNull Font @NotNull ... fonts) {
+        Font[] toLoad = fonts.length == 0 ? FONT_BY_NAME.values().toArray(new Font[0]) : fonts;
+
+        return CompletableFuture.runAsync(() -> {
+            for (Font font : toLoad) {
+                font.load();
+            }
+        });
+    }
+
     /**
      * Gets a font by its name. The name will be made uppercase and spaces will be replaced with underscore before
      * trying to access it.
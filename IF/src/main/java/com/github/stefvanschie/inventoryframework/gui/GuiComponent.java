@@ -30,7 +30,8 @@ public class GuiComponent {
 
     /**
      * A set of all panes in this inventory. This is guaranteed to be sorted in order of the pane's priorities, from the
-     * lowest priority to the highest priority. The order of panes with the same priority is unspecified.
+     * lowest priority to the highest priority. Panes with the same priority are kept in the order in which they were
+     * added, so of those, the pane added last is displayed on top.
      */
     @NotNull
     protected final List<PositionedPane> panes = new ArrayList<>();
@@ -68,7 +69,8 @@ public class GuiComponent {
     }
 
     /**
-     * Adds a pane to the current collection of panes.
+     * Adds a pane to the current collection of panes. Of panes with the same priority, the pane added last is displayed
+     * on top.
      *
      * @param slot the position of the pane
      * @param pane the pane to add
@@ -90,25 +92,18 @@ public class GuiComponent {
         int left = 0;
         int right = size - 1;
 
+        //insert after the last pane with a priority that is not higher, so panes added later are displayed on top
         while (left <= right) {
             int middle = (left + right) / 2;
 
-            Pane.Priority middlePriority = getPane(middle).getPriority();
-
-            if (middlePriority == priority) {
-                this.panes.add(middle, positionedPane);
-
-                return;
-            }
-
-            if (middlePriority.isLessThan(priority)) {
-                left = middle + 1;
-            } else if (middlePriority.isGreaterThan(priority)) {
+            if (getPane(middle).getPriority().isGreaterThan(priority)) {
                 right = middle - 1;
+            } else {
+                left = middle + 1;
             }
         }
 
-        this.panes.add(right + 1, positionedPane);
+        this.panes.add(left, positionedPane);
     }
 
     /**
@@ -207,6 +202,67 @@ public class GuiComponent {
         }
     }
 
+    /**
+     * This places the items currently existing in this gui component into the specified inventory, like
+     * {@link #placeItems(Inventory, int)}, and keeps track of which items were placed. The frame holds the
+     * {@link GuiItem} in each slot of the inventory, or null for an empty slot, as recorded by the previous call. The
+     * frame is updated for every slot this component covers, and the amount of those slots that now hold a different
+     * item than before is returned. Items are compared by their {@link UUID} only, so changes to the item of a
+     * {@link GuiItem} itself are not counted.
+     *
+     * @param inventory the inventory to place the items in
+     * @param offset the offset from which to start counting the slots
+     * @param frame the gui items in each slot of the inventory
+     * @return the amount of slots whose item changed
+     * @since 0.12.1
+     */
+    public int placeItems(@NotNull Inventory inventory, int offset, @Nullable GuiItem @NotNull [] frame) {
+        int changed = 0;
+
+        for (int y = 0; y < getHeight(); y++) {
+            for (int x = 0; x < getLength(); x++) {
+                int slot = y * getLength() + x + offset;
+                GuiItem item = this.container.getItem(x, y);
+                GuiItem previous = frame[slot];
+
+                if (previous == null ? item != null : item == null || !previous.getUUID().equals(item.getUUID())) {
+                    changed++;
+                }
+
+                frame[slot] = item;
+
+                if (item != null) {
+                    inventory.setItem(slot, item.getItem());
+                }
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * This places the items currently existing in this gui component into the specified array. The indices will start
+     * at the given offset up to this component's size + the offset specified. Like {@link #placeItems(Inventory, int)}
+     * this does not render the panes of this component.
+     *
+     * @param items the array to place the items in
+     * @param offset the offset from which to start counting the indices
+     * @since 0.12.1
+     */
+    public void placeItems(@Nullable ItemStack @NotNull [] items, int offset) {
+        for (int x = 0; x < getLength(); x++) {
+            for (int y = 0; y < getHeight(); y++) {
+                GuiItem item = this.container.getItem(x, y);
+
+                if (item == null) {
+                    continue;
+                }
+
+                items[y * getLength() + x + offset] = item.getItem();
+            }
+        }
+    }
+
     /**
      * Delegates the handling of the specified click event to the panes of this component. This will call
      * {@link Pane#click(Gui, GuiComponent, InventoryClickEvent, Slot)} on each pane until the
@@ -361,8 +417,9 @@ public class GuiComponent {
 
     /**
      * This will make each pane in this component render their items in this gui component. The panes are displayed
-     * according to their priority, with the lowest priority rendering first and the highest priority (note: highest
-     * priority, not {@link Pane.Priority#HIGHEST} priority) rendering last.
+     * according to their priority, with items of higher priority panes (note: highest priority, not
+     * {@link Pane.Priority#HIGHEST} priority) being shown over those of lower priority panes. Panes are composited from
+     * the highest priority down, so a pane whose area is already completely filled by panes above it is not rendered.
      *
      * @since 0.8.0
      * @see #display(Inventory, int)
@@ -370,11 +427,9 @@ public class GuiComponent {
     public void display() {
         this.container.clearItems();
 
-        if (this.items != null) {
-            this.container.apply(this.items.display(), 0, 0);
-        }
-
-        for (PositionedPane positionedPane : this.panes) {
+        //loop panes in reverse, so panes hidden below higher priority panes can be skipped
+        for (int i = this.panes.size() - 1; i >= 0; i--) {
+            PositionedPane positionedPane = this.panes.get(i);
             Pane pane = positionedPane.getPane();
 
             if (!pane.isVisible()) {
@@ -382,8 +437,18 @@ public class GuiComponent {
             }
 
             Slot slot = positionedPane.getSlot();
+            int x = slot.getX(getLength());
+            int y = slot.getY(getLength());
+
+            if (this.container.isFilled(x, y, pane.getLength(), pane.getHeight())) {
+                continue;
+            }
+
+            this.container.applyBelow(pane.displayForCompositing(), x, y);
+        }
 
-            this.container.apply(pane.display(), slot.getX(getLength()), slot.getY(getLength()));
+        if (this.items != null && !this.container.isFilled(0, 0, getLength(), getHeight())) {
+            this.container.applyBelow(this.items.displayForCompositing(), 0, 0);
         }
     }
 
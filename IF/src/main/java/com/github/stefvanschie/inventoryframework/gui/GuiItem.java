@@ -14,6 +14,7 @@ import org.bukkit.Material;
 import org.bukkit.NamespacedKey;
 import org.bukkit.Registry;
 import org.bukkit.enchantments.Enchantment;
+import org.bukkit.entity.HumanEntity;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -36,6 +37,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.logging.Level;
@@ -95,6 +97,12 @@ public class GuiItem {
     @NotNull
     private UUID uuid = UUID.randomUUID();
 
+    /**
+     * Changes how this item looks for each viewer, or null if every viewer sees the same item
+     */
+    @Nullable
+    private BiFunction<? super HumanEntity, ? super ItemStack, ? extends ItemStack> renderer;
+
     /**
      * Creates a new gui item based on the item stack and action
      *
@@ -176,6 +184,7 @@ public class GuiItem {
         guiItem.visible = visible;
         guiItem.uuid = uuid;
         guiItem.properties = new ArrayList<>(properties);
+        guiItem.renderer = renderer;
 
         return guiItem;
     }
@@ -202,6 +211,32 @@ public class GuiItem {
         }
     }
 
+    /**
+     * Renders this item for the specified viewer. If this item has a renderer, the renderer is called with a copy of
+     * the specified item, otherwise the specified item is returned as-is. Exceptions thrown by the renderer are caught
+     * and logged, in which case the specified item is returned as well.
+     *
+     * @param viewer the viewer to render this item for
+     * @param item the item as it is placed in the inventory
+     * @return the item to show to the viewer
+     * @since 0.12.1
+     */
+    @NotNull
+    public ItemStack render(@NotNull HumanEntity viewer, @NotNull ItemStack item) {
+        if (this.renderer == null) {
+            return item;
+        }
+
+        try {
+            return this.renderer.apply(viewer, item.clone());
+        } catch (Throwable t) {
+            this.logger.log(Level.SEVERE, "Exception while rendering item for viewer '" + viewer.getName() +
+                    "', item=" + item.getType(), t);
+
+            return item;
+        }
+    }
+
     /**
      * Sets the internal UUID of this gui item onto the underlying item. Previously set UUID will be overwritten by the
      * current UUID. If the underlying item does not have an item meta, this method will silently do nothing.
@@ -227,6 +262,37 @@ public class GuiItem {
         this.item = item;
     }
 
+    /**
+     * Sets the renderer that changes how this item looks for each viewer. The renderer is called with the viewer and a
+     * copy of the item and returns the item that should be shown to that viewer. The rendered item is only sent to the
+     * viewer: the inventory keeps the shared item, so clicks are still handled by this gui item as usual. This allows
+     * showing per-player data, like a balance in the lore, without copying the gui for every player. Items are
+     * rendered whenever the gui is shown or updated and after a viewer's click or drag in the gui is cancelled. To
+     * render them again when the data they show changes, or after changing the renderer of an item that is already
+     * displayed, use {@link Gui#renderItems()}. Specify null to show the same item to every viewer.
+     *
+     * @param renderer the renderer, or null to remove the current renderer
+     * @since 0.12.1
+     */
+    public void setRenderer(
+            @Nullable BiFunction<? super HumanEntity, ? super ItemStack, ? extends ItemStack> renderer
+    ) {
+        this.renderer = renderer;
+    }
+
+    /**
+     * Gets the renderer that changes how this item looks for each viewer, or null if every viewer sees the same item.
+     *
+     * @return the renderer or null
+     * @since 0.12.1
+     * @see #setRenderer(BiFunction)
+     */
+    @Nullable
+    @Contract(pure = true)
+    public BiFunction<? super HumanEntity, ? super ItemStack, ? extends ItemStack> getRenderer() {
+        return renderer;
+    }
+
     /**
      * Sets the action to be executed when a human entity clicks on this item.
      *
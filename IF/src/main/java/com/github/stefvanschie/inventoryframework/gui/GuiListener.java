@@ -3,13 +3,13 @@ package com.github.stefvanschie.inventoryframework.gui;
 import com.github.stefvanschie.inventoryframework.HumanEntityCache;
 import com.github.stefvanschie.inventoryframework.gui.type.*;
 import com.github.stefvanschie.inventoryframework.gui.type.util.Gui;
-import com.github.stefvanschie.inventoryframework.gui.type.util.NamedGui;
 import com.github.stefvanschie.inventoryframework.util.InventoryViewUtil;
 import com.github.stefvanschie.inventoryframework.util.UUIDTagType;
 import org.bukkit.Bukkit;
 import org.bukkit.NamespacedKey;
 import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -96,6 +96,11 @@ public class GuiListener implements Listener {
                 /* due to a client issue off-hand items appear as ghost items, this updates the off-hand correctly
                    client-side */
                 playerInventory.setItemInOffHand(playerInventory.getItemInOffHand());
+
+                //the server resends the clicked slot as it is stored, so the rendered items need to be sent again
+                if (gui.getViewers().contains(event.getWhoClicked())) {
+                    gui.renderItems(event.getWhoClicked());
+                }
             });
         }
     }
@@ -178,6 +183,15 @@ public class GuiListener implements Listener {
             if (bottom) {
                 gui.callOnBottomDrag(event);
             }
+
+            if (top && event.isCancelled()) {
+                //the server resends the dragged over slots as they are stored, so the rendered items need to be resent
+                Bukkit.getScheduler().runTask(this.plugin, () -> {
+                    if (gui.getViewers().contains(event.getWhoClicked())) {
+                        gui.renderItems(event.getWhoClicked());
+                    }
+                });
+            }
         } else {
             int index = inventorySlots.toArray(new Integer[0])[0];
             InventoryType.SlotType slotType = InventoryViewUtil.getInstance().getSlotType(view, index);
@@ -230,7 +244,7 @@ public class GuiListener implements Listener {
     public void onInventoryClose(@NotNull InventoryCloseEvent event) {
         Gui gui = getGui(event.getInventory());
 
-        if (gui == null || isNamedGuiUpdatingDirtily(gui)) {
+        if (gui == null || isUpdatingDirtily(gui)) {
             return;
         }
 
@@ -279,6 +293,22 @@ public class GuiListener implements Listener {
         Bukkit.getScheduler().runTask(this.plugin, () -> gui.navigateToParent(humanEntity));
     }
 
+    /**
+     * Resynchronizes the inventory of a player closing a virtual gui, since any changes made in a virtual gui only
+     * happened on the client.
+     *
+     * @param event the event fired
+     * @since 0.12.1
+     */
+    @EventHandler
+    public void onVirtualGuiClose(@NotNull InventoryCloseEvent event) {
+        HumanEntity humanEntity = event.getPlayer();
+
+        if (Gui.removeVirtualViewer(humanEntity) && humanEntity instanceof Player) {
+            ((Player) humanEntity).updateInventory();
+        }
+    }
+
     /**
      * Handles removing identifiers from gui items when an item is dropped from the gui.
      *
@@ -327,13 +357,25 @@ public class GuiListener implements Listener {
     public void onInventoryOpen(@NotNull InventoryOpenEvent event) {
         Gui gui = getGui(event.getInventory());
 
-        if (gui == null || isNamedGuiUpdatingDirtily(gui)) {
+        if (gui == null || isUpdatingDirtily(gui)) {
             return;
         }
 
         activeGuiInstances.add(gui);
     }
 
+    /**
+     * Forgets about virtual guis that are replaced by a newly opened inventory. Opening an inventory synchronizes it
+     * fully, so the virtual gui doesn't need to be resynchronized anymore.
+     *
+     * @param event the event fired
+     * @since 0.12.1
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onVirtualGuiReplace(@NotNull InventoryOpenEvent event) {
+        Gui.removeVirtualViewer(event.getPlayer());
+    }
+
     /**
      * Handles the disabling of the plugin
      *
@@ -390,10 +432,17 @@ public class GuiListener implements Listener {
         return null;
     }
 
-    private boolean isNamedGuiUpdatingDirtily(@NotNull Gui gui) {
-        boolean dirtyTitle = gui instanceof NamedGui && (((NamedGui) gui).isDirty());
-        boolean dirtyRows = gui instanceof ChestGui && ((ChestGui) gui).isDirtyRows();
-        return gui.isUpdating() && (dirtyTitle || dirtyRows);
+    /**
+     * Gets whether the provided gui is being updated while it is dirty. While this is the case, viewers may be moved to
+     * a new inventory, which causes inventory open and close events that should be ignored.
+     *
+     * @param gui the gui to check
+     * @return true if the gui is updating while dirty, false otherwise
+     * @since 0.12.1
+     */
+    @Contract(pure = true)
+    private boolean isUpdatingDirtily(@NotNull Gui gui) {
+        return gui.isUpdating() && gui.isDirty();
     }
 
 }
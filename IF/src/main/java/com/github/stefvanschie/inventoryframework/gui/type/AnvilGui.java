@@ -9,7 +9,6 @@ import com.github.stefvanschie.inventoryframework.gui.GuiItem;
 import com.github.stefvanschie.inventoryframework.gui.type.util.InventoryBased;
 import com.github.stefvanschie.inventoryframework.gui.type.util.NamedGui;
 import com.github.stefvanschie.inventoryframework.pane.Pane;
-import com.github.stefvanschie.inventoryframework.util.version.Version;
 import com.github.stefvanschie.inventoryframework.util.version.VersionMatcher;
 import org.bukkit.Material;
 import org.bukkit.entity.HumanEntity;
@@ -79,7 +78,7 @@ public class AnvilGui extends NamedGui implements InventoryBased {
      * An internal anvil inventory
      */
     @NotNull
-    private final AnvilInventory anvilInventory = VersionMatcher.newAnvilInventory(Version.getVersion());
+    private final AnvilInventory anvilInventory = VersionMatcher.newAnvilInventory();
 
     /**
      * Constructs a new anvil gui
@@ -137,7 +136,7 @@ public class AnvilGui extends NamedGui implements InventoryBased {
     public void update() {
         super.updating = true;
 
-        if (isDirty()) {
+        if (isDirty() && !updateTitleInPlace()) {
             Inventory oldInventory = this.inventory;
             this.inventory = createInventory();
 
@@ -152,9 +151,12 @@ public class AnvilGui extends NamedGui implements InventoryBased {
 
         getInventory().clear();
 
-        getFirstItemComponent().display(getInventory(), 0);
-        getSecondItemComponent().display(getInventory(), 1);
-        getResultComponent().display(getInventory(), 2);
+        getFirstItemComponent().display();
+        placeItems(getFirstItemComponent(), 0);
+        getSecondItemComponent().display();
+        placeItems(getSecondItemComponent(), 1);
+        getResultComponent().display();
+        placeItems(getResultComponent(), 2);
 
         getPlayerGuiComponent().display();
 
@@ -169,6 +171,9 @@ public class AnvilGui extends NamedGui implements InventoryBased {
             viewer.setItemOnCursor(cursor);
         }
 
+        sendContents();
+        renderItems();
+
         if (!super.updating) {
             throw new AssertionError("Gui#isUpdating became false before Gui#update finished");
         }
@@ -210,6 +215,10 @@ public class AnvilGui extends NamedGui implements InventoryBased {
         populateBottomInventory(humanEntity);
 
         humanEntity.openInventory(getInventory());
+
+        updateTitleInPlace(humanEntity);
+
+        renderItems(humanEntity);
     }
 
     /**
@@ -303,6 +312,13 @@ public class AnvilGui extends NamedGui implements InventoryBased {
         return inventory;
     }
 
+    @Override
+    protected boolean retitleInventory(@NotNull TextHolder title) {
+        this.anvilInventory.setTitle(title);
+
+        return true;
+    }
+
     /**
      * Gets the rename text currently specified in the anvil.
      *
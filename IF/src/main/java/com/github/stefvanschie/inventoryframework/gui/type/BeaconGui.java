@@ -8,7 +8,6 @@ import com.github.stefvanschie.inventoryframework.gui.GuiItem;
 import com.github.stefvanschie.inventoryframework.gui.type.util.Gui;
 import com.github.stefvanschie.inventoryframework.gui.type.util.InventoryBased;
 import com.github.stefvanschie.inventoryframework.pane.Pane;
-import com.github.stefvanschie.inventoryframework.util.version.Version;
 import com.github.stefvanschie.inventoryframework.util.version.VersionMatcher;
 import org.bukkit.Material;
 import org.bukkit.entity.HumanEntity;
@@ -58,7 +57,7 @@ public class BeaconGui extends Gui implements InventoryBased {
      * An internal beacon inventory
      */
     @NotNull
-    private final BeaconInventory beaconInventory = VersionMatcher.newBeaconInventory(Version.getVersion());
+    private final BeaconInventory beaconInventory = VersionMatcher.newBeaconInventory();
 
     /**
      * Constructs a new beacon gui.
@@ -86,7 +85,8 @@ public class BeaconGui extends Gui implements InventoryBased {
 
         getInventory().clear();
 
-        getPaymentItemComponent().display(getInventory(), 0);
+        getPaymentItemComponent().display();
+        placeItems(getPaymentItemComponent(), 0);
         getPlayerGuiComponent().display();
 
         for (HumanEntity viewer : getViewers()) {
@@ -98,6 +98,9 @@ public class BeaconGui extends Gui implements InventoryBased {
             viewer.setItemOnCursor(cursor);
         }
 
+        sendContents();
+        renderItems();
+
         if (!super.updating) {
             throw new AssertionError("Gui#isUpdating became false before Gui#update finished");
         }
@@ -131,6 +134,8 @@ public class BeaconGui extends Gui implements InventoryBased {
         populateBottomInventory(humanEntity);
 
         humanEntity.openInventory(getInventory());
+
+        renderItems(humanEntity);
     }
 
     /**
@@ -65,6 +65,26 @@ public class BlastFurnaceGui extends NamedGui implements InventoryBased {
     @NotNull
     private GuiComponent playerGuiComponent = new GuiComponent(9, 4);
 
+    /**
+     * The id of the property for the remaining burn time of the fuel
+     */
+    private static final int BURN_TIME_PROPERTY = 0;
+
+    /**
+     * The id of the property for the total burn time of the fuel
+     */
+    private static final int TOTAL_BURN_TIME_PROPERTY = 1;
+
+    /**
+     * The id of the property for the cooking progress
+     */
+    private static final int COOK_TIME_PROPERTY = 2;
+
+    /**
+     * The id of the property for the total cooking time
+     */
+    private static final int TOTAL_COOK_TIME_PROPERTY = 3;
+
     /**
      * Constructs a new GUI
      *
@@ -113,13 +133,14 @@ public class BlastFurnaceGui extends NamedGui implements InventoryBased {
     public void update() {
         super.updating = true;
 
-        if (isDirty()) {
+        if (isDirty() && !updateTitleInPlace()) {
             Inventory oldInventory = this.inventory;
             this.inventory = createInventory();
 
             if (oldInventory != null) {
                 for (HumanEntity viewer : new ArrayList<>(oldInventory.getViewers())) {
                     viewer.openInventory(this.inventory);
+                    sendProperties(viewer);
                 }
             }
 
@@ -128,9 +149,12 @@ public class BlastFurnaceGui extends NamedGui implements InventoryBased {
 
         getInventory().clear();
 
-        getIngredientComponent().display(getInventory(), 0);
-        getFuelComponent().display(getInventory(), 1);
-        getOutputComponent().display(getInventory(), 2);
+        getIngredientComponent().display();
+        placeItems(getIngredientComponent(), 0);
+        getFuelComponent().display();
+        placeItems(getFuelComponent(), 1);
+        getOutputComponent().display();
+        placeItems(getOutputComponent(), 2);
         getPlayerGuiComponent().display();
 
         for (HumanEntity viewer : getViewers()) {
@@ -142,6 +166,9 @@ public class BlastFurnaceGui extends NamedGui implements InventoryBased {
             viewer.setItemOnCursor(cursor);
         }
 
+        sendContents();
+        renderItems();
+
         if (!super.updating) {
             throw new AssertionError("Gui#isUpdating became false before Gui#update finished");
         }
@@ -183,6 +210,12 @@ public class BlastFurnaceGui extends NamedGui implements InventoryBased {
         populateBottomInventory(humanEntity);
 
         humanEntity.openInventory(getInventory());
+
+        updateTitleInPlace(humanEntity);
+
+        renderItems(humanEntity);
+
+        sendProperties(humanEntity);
     }
 
     /**
@@ -214,6 +247,8 @@ public class BlastFurnaceGui extends NamedGui implements InventoryBased {
         gui.outputComponent = outputComponent.copy();
         gui.playerGuiComponent = this.playerGuiComponent.copy();
 
+        copyProperties(gui);
+
         gui.setOnTopClick(this.onTopClick);
         gui.setOnBottomClick(this.onBottomClick);
         gui.setOnGlobalClick(this.onGlobalClick);
@@ -274,6 +309,34 @@ public class BlastFurnaceGui extends NamedGui implements InventoryBased {
         return new ArrayList<>(getInventory().getViewers());
     }
 
+    /**
+     * Sets the state of the fuel indicator. The indicator is filled according to the fraction of the remaining burn
+     * time to the total burn time. This only sends the new state to the viewers, without rerendering this gui, so it
+     * can be called as often as every tick. The state is kept when this gui is shown to new viewers.
+     *
+     * @param burnTime the remaining burn time in ticks
+     * @param totalBurnTime the total burn time of the fuel in ticks
+     * @since 0.12.1
+     */
+    public void setBurnTime(int burnTime, int totalBurnTime) {
+        setProperty(BURN_TIME_PROPERTY, burnTime);
+        setProperty(TOTAL_BURN_TIME_PROPERTY, totalBurnTime);
+    }
+
+    /**
+     * Sets the state of the progress arrow. The arrow is filled according to the fraction of the cook time to the total
+     * cook time. This only sends the new state to the viewers, without rerendering this gui, so it can be called as
+     * often as every tick. The state is kept when this gui is shown to new viewers.
+     *
+     * @param cookTime the cooking progress in ticks
+     * @param totalCookTime the total cooking time in ticks
+     * @since 0.12.1
+     */
+    public void setCookTime(int cookTime, int totalCookTime) {
+        setProperty(COOK_TIME_PROPERTY, cookTime);
+        setProperty(TOTAL_COOK_TIME_PROPERTY, totalCookTime);
+    }
+
     /**
      * Gets the gui component representing the ingredient
      *
@@ -77,6 +77,16 @@ public class BrewingStandGui extends NamedGui implements InventoryBased {
     @NotNull
     private GuiComponent playerGuiComponent = new GuiComponent(9, 4);
 
+    /**
+     * The id of the property for the remaining brew time
+     */
+    private static final int BREW_TIME_PROPERTY = 0;
+
+    /**
+     * The id of the property for the amount of fuel
+     */
+    private static final int FUEL_PROPERTY = 1;
+
     /**
      * Constructs a new GUI
      *
@@ -123,13 +133,14 @@ public class BrewingStandGui extends NamedGui implements InventoryBased {
 
     @Override
     public void update() {
-        if (isDirty()) {
+        if (isDirty() && !updateTitleInPlace()) {
             Inventory oldInventory = this.inventory;
             this.inventory = createInventory();
 
             if (oldInventory != null) {
                 for (HumanEntity viewer : new ArrayList<>(oldInventory.getViewers())) {
                     viewer.openInventory(this.inventory);
+                    sendProperties(viewer);
                 }
             }
 
@@ -138,11 +149,16 @@ public class BrewingStandGui extends NamedGui implements InventoryBased {
 
         getInventory().clear();
 
-        getFirstBottleComponent().display(getInventory(), 0);
-        getSecondBottleComponent().display(getInventory(), 1);
-        getThirdBottleComponent().display(getInventory(), 2);
-        getPotionIngredientComponent().display(getInventory(), 3);
-        getBlazePowderComponent().display(getInventory(), 4);
+        getFirstBottleComponent().display();
+        placeItems(getFirstBottleComponent(), 0);
+        getSecondBottleComponent().display();
+        placeItems(getSecondBottleComponent(), 1);
+        getThirdBottleComponent().display();
+        placeItems(getThirdBottleComponent(), 2);
+        getPotionIngredientComponent().display();
+        placeItems(getPotionIngredientComponent(), 3);
+        getBlazePowderComponent().display();
+        placeItems(getBlazePowderComponent(), 4);
         getPlayerGuiComponent().display();
 
         super.updating = true;
@@ -156,6 +172,9 @@ public class BrewingStandGui extends NamedGui implements InventoryBased {
             viewer.setItemOnCursor(cursor);
         }
 
+        sendContents();
+        renderItems();
+
         if (!super.updating)
             throw new AssertionError("Gui#isUpdating became false before Gui#update finished");
 
@@ -204,6 +223,12 @@ public class BrewingStandGui extends NamedGui implements InventoryBased {
         populateBottomInventory(humanEntity);
 
         humanEntity.openInventory(getInventory());
+
+        updateTitleInPlace(humanEntity);
+
+        renderItems(humanEntity);
+
+        sendProperties(humanEntity);
     }
 
     /**
@@ -237,6 +262,8 @@ public class BrewingStandGui extends NamedGui implements InventoryBased {
         gui.blazePowderComponent = blazePowderComponent.copy();
         gui.playerGuiComponent = this.playerGuiComponent.copy();
 
+        copyProperties(gui);
+
         gui.setOnTopClick(this.onTopClick);
         gui.setOnBottomClick(this.onBottomClick);
         gui.setOnGlobalClick(this.onGlobalClick);
@@ -305,6 +332,31 @@ public class BrewingStandGui extends NamedGui implements InventoryBased {
         return new ArrayList<>(getInventory().getViewers());
     }
 
+    /**
+     * Sets the remaining brew time. The progress arrow and bubbles are shown according to the brew time, where a brew
+     * time of 400 ticks shows no progress and a brew time of zero hides them. This only sends the new state to the
+     * viewers, without rerendering this gui, so it can be called as often as every tick. The state is kept when this
+     * gui is shown to new viewers.
+     *
+     * @param brewTime the remaining brew time in ticks
+     * @since 0.12.1
+     */
+    public void setBrewTime(int brewTime) {
+        setProperty(BREW_TIME_PROPERTY, brewTime);
+    }
+
+    /**
+     * Sets the amount of fuel shown in the fuel bar. A full fuel bar corresponds to twenty fuel. This only sends the
+     * new state to the viewers, without rerendering this gui, so it can be called as often as every tick. The state is
+     * kept when this gui is shown to new viewers.
+     *
+     * @param fuel the amount of fuel
+     * @since 0.12.1
+     */
+    public void setFuel(int fuel) {
+        setProperty(FUEL_PROPERTY, fuel);
+    }
+
     /**
      * Gets the gui component representing the first bottle
      *
@@ -9,7 +9,6 @@ import com.github.stefvanschie.inventoryframework.gui.GuiItem;
 import com.github.stefvanschie.inventoryframework.gui.type.util.InventoryBased;
 import com.github.stefvanschie.inventoryframework.gui.type.util.NamedGui;
 import com.github.stefvanschie.inventoryframework.pane.Pane;
-import com.github.stefvanschie.inventoryframework.util.version.Version;
 import com.github.stefvanschie.inventoryframework.util.version.VersionMatcher;
 import org.bukkit.Material;
 import org.bukkit.entity.HumanEntity;
@@ -71,9 +70,7 @@ public class CartographyTableGui extends NamedGui implements InventoryBased {
      * An internal cartography table inventory
      */
     @NotNull
-    private final CartographyTableInventory cartographyTableInventory = VersionMatcher.newCartographyTableInventory(
-        Version.getVersion()
-    );
+    private final CartographyTableInventory cartographyTableInventory = VersionMatcher.newCartographyTableInventory();
 
     /**
      * Constructs a new GUI
@@ -123,7 +120,7 @@ public class CartographyTableGui extends NamedGui implements InventoryBased {
     public void update() {
         super.updating = true;
 
-        if (isDirty()) {
+        if (isDirty() && !updateTitleInPlace()) {
             Inventory oldInventory = this.inventory;
             this.inventory = createInventory();
 
@@ -138,9 +135,12 @@ public class CartographyTableGui extends NamedGui implements InventoryBased {
 
         getInventory().clear();
 
-        getMapComponent().display(getInventory(), 0);
-        getPaperComponent().display(getInventory(), 1);
-        getOutputComponent().display(getInventory(), 2);
+        getMapComponent().display();
+        placeItems(getMapComponent(), 0);
+        getPaperComponent().display();
+        placeItems(getPaperComponent(), 1);
+        getOutputComponent().display();
+        placeItems(getOutputComponent(), 2);
         getPlayerGuiComponent().display();
 
         for (HumanEntity viewer : getViewers()) {
@@ -152,6 +152,9 @@ public class CartographyTableGui extends NamedGui implements InventoryBased {
             viewer.setItemOnCursor(cursor);
         }
 
+        sendContents();
+        renderItems();
+
         if (!super.updating) {
             throw new AssertionError("Gui#isUpdating became false before Gui#update finished");
         }
@@ -193,6 +196,10 @@ public class CartographyTableGui extends NamedGui implements InventoryBased {
         populateBottomInventory(humanEntity);
 
         humanEntity.openInventory(getInventory());
+
+        updateTitleInPlace(humanEntity);
+
+        renderItems(humanEntity);
     }
 
     /**
@@ -275,6 +282,13 @@ public class CartographyTableGui extends NamedGui implements InventoryBased {
 		return inventory;
     }
 
+    @Override
+    protected boolean retitleInventory(@NotNull TextHolder title) {
+        this.cartographyTableInventory.setTitle(title);
+
+        return true;
+    }
+
     @Contract(pure = true)
     @Override
     public int getViewerCount() {
@@ -13,9 +13,12 @@ import com.github.stefvanschie.inventoryframework.gui.type.util.NamedGui;
 import com.github.stefvanschie.inventoryframework.pane.Pane;
 import com.github.stefvanschie.inventoryframework.pane.util.PositionedPane;
 import com.github.stefvanschie.inventoryframework.pane.util.Slot;
+import com.github.stefvanschie.inventoryframework.util.InventoryViewUtil;
 import org.bukkit.Material;
 import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryType;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
@@ -115,7 +118,7 @@ public class ChestGui extends NamedGui implements MergedGui, InventoryBased {
     public void update() {
         super.updating = true;
 
-        if (isDirty()) {
+        if (isDirty() && (this.dirtyRows || !updateTitleInPlace())) {
             Inventory oldInventory = this.inventory;
             this.inventory = createInventory();
             this.dirtyRows = false;
@@ -134,7 +137,7 @@ public class ChestGui extends NamedGui implements MergedGui, InventoryBased {
         int height = getGuiComponent().getHeight();
 
         getGuiComponent().display();
-        getGuiComponent().excludeRows(height - 4, height - 1).placeItems(getInventory(), 0);
+        placeItems(getGuiComponent().excludeRows(height - 4, height - 1), 0);
 
         GuiComponent bottomComponent = getGuiComponent().excludeRows(0, height - 5);
 
@@ -149,6 +152,9 @@ public class ChestGui extends NamedGui implements MergedGui, InventoryBased {
             viewer.setItemOnCursor(cursor);
         }
 
+        sendContents();
+        renderItems();
+
         if (!super.updating) {
             throw new AssertionError("Gui#isUpdating became false before Gui#update finished");
         }
@@ -165,6 +171,49 @@ public class ChestGui extends NamedGui implements MergedGui, InventoryBased {
         populateBottomInventory(humanEntity);
 
         humanEntity.openInventory(getInventory());
+
+        updateTitleInPlace(humanEntity);
+
+        renderItems(humanEntity);
+    }
+
+    /**
+     * Shows this gui to the specified human entity as a virtual gui. A virtual gui only exists on the client of the
+     * human entity: no inventory is created or opened on the server, which makes this considerably cheaper than
+     * {@link #show(HumanEntity)}. The trade-off is that the server does not know about the gui, so clicks in it are not
+     * handled, {@link #getViewers()} does not include the human entity and the gui is not updated when
+     * {@link #update()} is called. Panes placed in the player's inventory are not shown. This is intended for
+     * read-only guis, like information panels. To show new contents, call this method again.
+     * <p>
+     * Any inventory the human entity currently has open is closed first. When the human entity closes the virtual gui,
+     * their inventory is resynchronized, undoing any changes they made to it on their client.
+     *
+     * @param humanEntity the human entity to show this gui to
+     * @since 0.12.1
+     */
+    public void showVirtual(@NotNull HumanEntity humanEntity) {
+        if (!(humanEntity instanceof Player)) {
+            show(humanEntity);
+            return;
+        }
+
+        Player player = (Player) humanEntity;
+
+        Inventory topInventory = InventoryViewUtil.getInstance().getTopInventory(player.getOpenInventory());
+
+        if (topInventory.getType() != InventoryType.CRAFTING) {
+            player.closeInventory();
+        }
+
+        int height = getGuiComponent().getHeight();
+        ItemStack[] items = new ItemStack[getRows() * 9];
+
+        getGuiComponent().display();
+        getGuiComponent().excludeRows(height - 4, height - 1).placeItems(items, 0);
+
+        getContainerUpdater().openVirtualChest(player, getTitleHolder(), items);
+
+        addVirtualViewer(player);
     }
 
     /**
@@ -101,7 +101,7 @@ public class CrafterGui extends NamedGui implements InventoryBased {
     public void update() {
         super.updating = true;
 
-        if (isDirty()) {
+        if (isDirty() && !updateTitleInPlace()) {
             Inventory oldInventory = this.inventory;
             this.inventory = createInventory();
 
@@ -116,7 +116,8 @@ public class CrafterGui extends NamedGui implements InventoryBased {
 
         getInventory().clear();
 
-        getInputComponent().display(getInventory(), 0);
+        getInputComponent().display();
+        placeItems(getInputComponent(), 0);
         getPlayerGuiComponent().display();
 
         for (HumanEntity viewer : getViewers()) {
@@ -128,6 +129,9 @@ public class CrafterGui extends NamedGui implements InventoryBased {
             viewer.setItemOnCursor(cursor);
         }
 
+        sendContents();
+        renderItems();
+
         if (!super.updating) {
             throw new AssertionError("Gui#isUpdating became false before Gui#update finished");
         }
@@ -161,6 +165,10 @@ public class CrafterGui extends NamedGui implements InventoryBased {
         populateBottomInventory(humanEntity);
 
         humanEntity.openInventory(getInventory());
+
+        updateTitleInPlace(humanEntity);
+
+        renderItems(humanEntity);
     }
 
     /**
@@ -107,7 +107,7 @@ public class CraftingTableGui extends NamedGui implements InventoryBased {
     public void update() {
         super.updating = true;
 
-        if (isDirty()) {
+        if (isDirty() && !updateTitleInPlace()) {
             Inventory oldInventory = this.inventory;
             this.inventory = createInventory();
 
@@ -122,8 +122,10 @@ public class CraftingTableGui extends NamedGui implements InventoryBased {
 
         getInventory().clear();
 
-        getOutputComponent().display(getInventory(), 0);
-        getInputComponent().display(getInventory(), 1);
+        getOutputComponent().display();
+        placeItems(getOutputComponent(), 0);
+        getInputComponent().display();
+        placeItems(getInputComponent(), 1);
         getPlayerGuiComponent().display();
 
         for (HumanEntity viewer : getViewers()) {
@@ -135,6 +137,9 @@ public class CraftingTableGui extends NamedGui implements InventoryBased {
             viewer.setItemOnCursor(cursor);
         }
 
+        sendContents();
+        renderItems();
+
         if (!super.updating) {
             throw new AssertionError("Gui#isUpdating became false before Gui#update finished");
         }
@@ -172,6 +177,10 @@ public class CraftingTableGui extends NamedGui implements InventoryBased {
         populateBottomInventory(humanEntity);
 
         humanEntity.openInventory(getInventory());
+
+        updateTitleInPlace(humanEntity);
+
+        renderItems(humanEntity);
     }
 
     /**
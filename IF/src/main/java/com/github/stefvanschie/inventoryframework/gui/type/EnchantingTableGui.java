@@ -9,7 +9,6 @@ import com.github.stefvanschie.inventoryframework.gui.GuiItem;
 import com.github.stefvanschie.inventoryframework.gui.type.util.InventoryBased;
 import com.github.stefvanschie.inventoryframework.gui.type.util.NamedGui;
 import com.github.stefvanschie.inventoryframework.pane.Pane;
-import com.github.stefvanschie.inventoryframework.util.version.Version;
 import com.github.stefvanschie.inventoryframework.util.version.VersionMatcher;
 import org.bukkit.Material;
 import org.bukkit.entity.HumanEntity;
@@ -59,8 +58,7 @@ public class EnchantingTableGui extends NamedGui implements InventoryBased {
      * An internal enchanting table inventory
      */
     @NotNull
-    private final EnchantingTableInventory enchantingTableInventory = VersionMatcher.newEnchantingTableInventory(
-            Version.getVersion());
+    private final EnchantingTableInventory enchantingTableInventory = VersionMatcher.newEnchantingTableInventory();
 
     /**
      * Constructs a new GUI
@@ -110,7 +108,7 @@ public class EnchantingTableGui extends NamedGui implements InventoryBased {
     public void update() {
         super.updating = true;
 
-        if (isDirty()) {
+        if (isDirty() && !updateTitleInPlace()) {
             Inventory oldInventory = this.inventory;
             this.inventory = createInventory();
 
@@ -125,7 +123,8 @@ public class EnchantingTableGui extends NamedGui implements InventoryBased {
 
         getInventory().clear();
 
-        getInputComponent().display(getInventory(), 0);
+        getInputComponent().display();
+        placeItems(getInputComponent(), 0);
         getPlayerGuiComponent().display();
 
         for (HumanEntity viewer : getViewers()) {
@@ -137,6 +136,9 @@ public class EnchantingTableGui extends NamedGui implements InventoryBased {
             viewer.setItemOnCursor(cursor);
         }
 
+        sendContents();
+        renderItems();
+
         if (!super.updating) {
             throw new AssertionError("Gui#isUpdating became false before Gui#update finished");
         }
@@ -170,6 +172,10 @@ public class EnchantingTableGui extends NamedGui implements InventoryBased {
         populateBottomInventory(humanEntity);
 
         humanEntity.openInventory(getInventory());
+
+        updateTitleInPlace(humanEntity);
+
+        renderItems(humanEntity);
     }
 
     /**
@@ -246,6 +252,13 @@ public class EnchantingTableGui extends NamedGui implements InventoryBased {
         return inventory;
     }
 
+    @Override
+    protected boolean retitleInventory(@NotNull TextHolder title) {
+        this.enchantingTableInventory.setTitle(title);
+
+        return true;
+    }
+
     @Contract(pure = true)
     @Override
     public int getViewerCount() {
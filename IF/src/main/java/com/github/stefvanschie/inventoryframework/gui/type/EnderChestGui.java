@@ -97,7 +97,7 @@ public class EnderChestGui extends NamedGui implements MergedGui, InventoryBased
     public void update() {
         super.updating = true;
 
-        if (isDirty()) {
+        if (isDirty() && !updateTitleInPlace()) {
             Inventory oldInventory = this.inventory;
             this.inventory = createInventory();
 
@@ -115,7 +115,7 @@ public class EnderChestGui extends NamedGui implements MergedGui, InventoryBased
         int height = getGuiComponent().getHeight();
 
         getGuiComponent().display();
-        getGuiComponent().excludeRows(height - 4, height - 1).placeItems(getInventory(), 0);
+        placeItems(getGuiComponent().excludeRows(height - 4, height - 1), 0);
 
         for (HumanEntity viewer : getViewers()) {
             ItemStack cursor = viewer.getItemOnCursor();
@@ -126,6 +126,9 @@ public class EnderChestGui extends NamedGui implements MergedGui, InventoryBased
             viewer.setItemOnCursor(cursor);
         }
 
+        sendContents();
+        renderItems();
+
         if (!super.updating) {
             throw new AssertionError("Gui#isUpdating became false before Gui#update finished");
         }
@@ -142,6 +145,10 @@ public class EnderChestGui extends NamedGui implements MergedGui, InventoryBased
         populateBottomInventory(humanEntity);
 
         humanEntity.openInventory(getInventory());
+
+        updateTitleInPlace(humanEntity);
+
+        renderItems(humanEntity);
     }
 
     /**
@@ -9,7 +9,6 @@ import com.github.stefvanschie.inventoryframework.gui.GuiItem;
 import com.github.stefvanschie.inventoryframework.gui.type.util.InventoryBased;
 import com.github.stefvanschie.inventoryframework.gui.type.util.NamedGui;
 import com.github.stefvanschie.inventoryframework.pane.Pane;
-import com.github.stefvanschie.inventoryframework.util.version.Version;
 import com.github.stefvanschie.inventoryframework.util.version.VersionMatcher;
 import org.bukkit.Material;
 import org.bukkit.entity.HumanEntity;
@@ -65,7 +64,7 @@ public class GrindstoneGui extends NamedGui implements InventoryBased {
      * An internal grindstone inventory
      */
     @NotNull
-    private final GrindstoneInventory grindstoneInventory = VersionMatcher.newGrindstoneInventory(Version.getVersion());
+    private final GrindstoneInventory grindstoneInventory = VersionMatcher.newGrindstoneInventory();
 
     /**
      * Constructs a new GUI
@@ -115,7 +114,7 @@ public class GrindstoneGui extends NamedGui implements InventoryBased {
     public void update() {
         super.updating = true;
 
-        if (isDirty()) {
+        if (isDirty() && !updateTitleInPlace()) {
             Inventory oldInventory = this.inventory;
             this.inventory = createInventory();
 
@@ -130,8 +129,10 @@ public class GrindstoneGui extends NamedGui implements InventoryBased {
 
         getInventory().clear();
 
-        getItemsComponent().display(getInventory(), 0);
-        getResultComponent().display(getInventory(), 2);
+        getItemsComponent().display();
+        placeItems(getItemsComponent(), 0);
+        getResultComponent().display();
+        placeItems(getResultComponent(), 2);
         getPlayerGuiComponent().display();
 
         for (HumanEntity viewer : getViewers()) {
@@ -143,6 +144,9 @@ public class GrindstoneGui extends NamedGui implements InventoryBased {
             viewer.setItemOnCursor(cursor);
         }
 
+        sendContents();
+        renderItems();
+
         if (!super.updating) {
             throw new AssertionError("Gui#isUpdating became false before Gui#update finished");
         }
@@ -180,6 +184,10 @@ public class GrindstoneGui extends NamedGui implements InventoryBased {
         populateBottomInventory(humanEntity);
 
         humanEntity.openInventory(getInventory());
+
+        updateTitleInPlace(humanEntity);
+
+        renderItems(humanEntity);
     }
 
     /**
@@ -259,6 +267,13 @@ public class GrindstoneGui extends NamedGui implements InventoryBased {
 		return inventory;
     }
 
+    @Override
+    protected boolean retitleInventory(@NotNull TextHolder title) {
+        this.grindstoneInventory.setTitle(title);
+
+        return true;
+    }
+
     @Contract(pure = true)
     @Override
     public int getViewerCount() {
@@ -9,7 +9,6 @@ import com.github.stefvanschie.inventoryframework.gui.GuiItem;
 import com.github.stefvanschie.inventoryframework.gui.type.util.InventoryBased;
 import com.github.stefvanschie.inventoryframework.gui.type.util.NamedGui;
 import com.github.stefvanschie.inventoryframework.pane.Pane;
-import com.github.stefvanschie.inventoryframework.util.version.Version;
 import com.github.stefvanschie.inventoryframework.util.version.VersionMatcher;
 import org.bukkit.Material;
 import org.bukkit.entity.HumanEntity;
@@ -77,7 +76,7 @@ public class LoomGui extends NamedGui implements InventoryBased {
      * An internal loom table inventory
      */
     @NotNull
-    private final LoomInventory loomInventory = VersionMatcher.newLoomInventory(Version.getVersion());
+    private final LoomInventory loomInventory = VersionMatcher.newLoomInventory();
 
     /**
      * Constructs a new gui.
@@ -127,7 +126,7 @@ public class LoomGui extends NamedGui implements InventoryBased {
     public void update() {
         super.updating = true;
 
-        if (isDirty()) {
+        if (isDirty() && !updateTitleInPlace()) {
             Inventory oldInventory = this.inventory;
             this.inventory = createInventory();
 
@@ -142,10 +141,14 @@ public class LoomGui extends NamedGui implements InventoryBased {
 
         getInventory().clear();
 
-        getBannerComponent().display(getInventory(), 0);
-        getDyeComponent().display(getInventory(), 1);
-        getPatternComponent().display(getInventory(), 2);
-        getOutputComponent().display(getInventory(), 3);
+        getBannerComponent().display();
+        placeItems(getBannerComponent(), 0);
+        getDyeComponent().display();
+        placeItems(getDyeComponent(), 1);
+        getPatternComponent().display();
+        placeItems(getPatternComponent(), 2);
+        getOutputComponent().display();
+        placeItems(getOutputComponent(), 3);
         getPlayerGuiComponent().display();
 
         for (HumanEntity viewer : getViewers()) {
@@ -157,6 +160,9 @@ public class LoomGui extends NamedGui implements InventoryBased {
             viewer.setItemOnCursor(cursor);
         }
 
+        sendContents();
+        renderItems();
+
         if (!super.updating) {
             throw new AssertionError("Gui#isUpdating became false before Gui#update finished");
         }
@@ -202,6 +208,10 @@ public class LoomGui extends NamedGui implements InventoryBased {
         populateBottomInventory(humanEntity);
 
         humanEntity.openInventory(getInventory());
+
+        updateTitleInPlace(humanEntity);
+
+        renderItems(humanEntity);
     }
 
     /**
@@ -287,6 +297,13 @@ public class LoomGui extends NamedGui implements InventoryBased {
 		return inventory;
     }
 
+    @Override
+    protected boolean retitleInventory(@NotNull TextHolder title) {
+        this.loomInventory.setTitle(title);
+
+        return true;
+    }
+
     @Contract(pure = true)
     @Override
     public int getViewerCount() {
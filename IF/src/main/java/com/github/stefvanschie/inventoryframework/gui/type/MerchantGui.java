@@ -12,8 +12,8 @@ import com.github.stefvanschie.inventoryframework.gui.type.util.InventoryBased;
 import com.github.stefvanschie.inventoryframework.gui.type.util.NamedGui;
 import com.github.stefvanschie.inventoryframework.pane.Pane;
 import com.github.stefvanschie.inventoryframework.util.XMLUtil;
-import com.github.stefvanschie.inventoryframework.util.version.Version;
 import com.github.stefvanschie.inventoryframework.util.version.VersionMatcher;
+import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
@@ -87,11 +87,16 @@ public class MerchantGui extends NamedGui implements InventoryBased {
      */
     private int level = 0;
 
+    /**
+     * Whether a task has been scheduled to send the trades to the viewers of this gui
+     */
+    private boolean tradeUpdateScheduled;
+
     /**
      * The internal merchant inventory
      */
     @NotNull
-    private final MerchantInventory merchantInventory = VersionMatcher.newMerchantInventory(Version.getVersion());
+    private final MerchantInventory merchantInventory = VersionMatcher.newMerchantInventory();
 
     /**
      * Creates a merchant gui with the given title.
@@ -172,7 +177,7 @@ public class MerchantGui extends NamedGui implements InventoryBased {
     public void update() {
         super.updating = true;
 
-        if (isDirty()) {
+        if (isDirty() && !updateTitleInPlace()) {
             Inventory oldInventory = this.inventory;
             this.inventory = createInventory();
 
@@ -187,7 +192,8 @@ public class MerchantGui extends NamedGui implements InventoryBased {
 
         getInventory().clear();
 
-        getInputComponent().display(getInventory(), 0);
+        getInputComponent().display();
+        placeItems(getInputComponent(), 0);
         getPlayerGuiComponent().display();
 
         for (HumanEntity viewer : getViewers()) {
@@ -203,6 +209,9 @@ public class MerchantGui extends NamedGui implements InventoryBased {
             viewer.setItemOnCursor(cursor);
         }
 
+        sendContents();
+        renderItems();
+
         if (!super.updating)
             throw new AssertionError("Gui#isUpdating became false before Gui#update finished");
 
@@ -240,6 +249,10 @@ public class MerchantGui extends NamedGui implements InventoryBased {
 
         humanEntity.openInventory(getInventory());
 
+        updateTitleInPlace(humanEntity);
+
+        renderItems(humanEntity);
+
         if (this.experience >= 0 || this.level > 0 || !this.trades.isEmpty()) {
             this.merchantInventory.sendMerchantOffers((Player) humanEntity, this.trades, this.level, this.experience);
         }
@@ -274,26 +287,8 @@ public class MerchantGui extends NamedGui implements InventoryBased {
         gui.experience = experience;
         gui.level = level;
 
-        for (Map.Entry<? extends MerchantRecipe, ? extends Integer> trade : trades) {
-            MerchantRecipe originalRecipe = trade.getKey();
-
-            ItemStack result = originalRecipe.getResult().clone();
-            int uses = originalRecipe.getUses();
-            int maxUses = originalRecipe.getMaxUses();
-            boolean experienceReward = originalRecipe.hasExperienceReward();
-            int villagerExperience = originalRecipe.getVillagerExperience();
-            float priceMultiplier = originalRecipe.getPriceMultiplier();
-
-            MerchantRecipe recipe = new MerchantRecipe(
-                    result, uses, maxUses, experienceReward, villagerExperience, priceMultiplier
-            );
-
-            for (ItemStack ingredient : originalRecipe.getIngredients()) {
-                recipe.addIngredient(ingredient.clone());
-            }
-
-            gui.trades.add(new AbstractMap.SimpleImmutableEntry<>(recipe, trade.getValue()));
-        }
+        //trades are never modified in place, so they can be shared
+        gui.trades.addAll(this.trades);
 
         gui.setOnTopClick(this.onTopClick);
         gui.setOnBottomClick(this.onBottomClick);
@@ -337,16 +332,118 @@ public class MerchantGui extends NamedGui implements InventoryBased {
         return inventory;
     }
 
+    @Override
+    protected boolean retitleInventory(@NotNull TextHolder title) {
+        this.merchantInventory.setTitle(title);
+
+        return true;
+    }
+
     /**
      * Adds a trade to this gui. The specified discount is the difference between the old price and the new price. For
-     * example, if a price was decreased from five to two, the discount would be three.
+     * example, if a price was decreased from five to two, the discount would be three. The recipe should not be
+     * modified after it has been added; use {@link #setTrade(int, MerchantRecipe, int)} or {@link #setUses(int, int)}
+     * instead. Only the added trade is converted, after which the trades are resent to the viewers of this gui at most
+     * once per tick, regardless of how many trades changed during that tick.
      *
      * @param recipe the recipe to add
      * @param discount the discount
      * @since 0.10.1
      */
     public void addTrade(@NotNull MerchantRecipe recipe, int discount) {
-        this.trades.add(new AbstractMap.SimpleImmutableEntry<>(recipe, -discount));
+        Map.Entry<MerchantRecipe, Integer> trade = new AbstractMap.SimpleImmutableEntry<>(recipe, -discount);
+
+        this.trades.add(trade);
+        this.merchantInventory.addMerchantOffer(trade);
+
+        scheduleTradeUpdate();
+    }
+
+    /**
+     * Replaces the trade at the specified index with the specified recipe and discount. The specified discount is the
+     * difference between the old price and the new price. For example, if a price was decreased from five to two, the
+     * discount would be three. Only this trade is converted again, after which all trades are resent to the viewers
+     * of this gui at most once per tick, regardless of how many trades changed during that tick.
+     *
+     * @param index the index of the trade to replace
+     * @param recipe the new recipe
+     * @param discount the discount
+     * @throws IndexOutOfBoundsException when there is no trade at the specified index
+     * @since 0.12.1
+     */
+    public void setTrade(int index, @NotNull MerchantRecipe recipe, int discount) {
+        Map.Entry<MerchantRecipe, Integer> trade = new AbstractMap.SimpleImmutableEntry<>(recipe, -discount);
+
+        this.trades.set(index, trade);
+        this.merchantInventory.setMerchantOffer(index, trade);
+
+        scheduleTradeUpdate();
+    }
+
+    /**
+     * Replaces the trade at the specified index with the specified recipe. This will not set a discount on the trade.
+     * For specifying discounts, see {@link #setTrade(int, MerchantRecipe, int)}.
+     *
+     * @param index the index of the trade to replace
+     * @param recipe the new recipe
+     * @throws IndexOutOfBoundsException when there is no trade at the specified index
+     * @since 0.12.1
+     */
+    public void setTrade(int index, @NotNull MerchantRecipe recipe) {
+        setTrade(index, recipe, 0);
+    }
+
+    /**
+     * Removes the trade at the specified index. The remaining trades are resent to the viewers of this gui at most once
+     * per tick, regardless of how many trades changed during that tick.
+     *
+     * @param index the index of the trade to remove
+     * @throws IndexOutOfBoundsException when there is no trade at the specified index
+     * @since 0.12.1
+     */
+    public void removeTrade(int index) {
+        this.trades.remove(index);
+        this.merchantInventory.removeMerchantOffer(index);
+
+        scheduleTradeUpdate();
+    }
+
+    /**
+     * Sets the amount of times the trade at the specified index has been used. The trade is disabled once its uses
+     * reach its maximum uses. Only this trade is converted again, after which all trades are resent to the viewers of
+     * this gui at most once per tick, regardless of how many trades changed during that tick.
+     *
+     * @param index the index of the trade
+     * @param uses the amount of uses
+     * @throws IndexOutOfBoundsException when there is no trade at the specified index
+     * @since 0.12.1
+     */
+    public void setUses(int index, int uses) {
+        Map.Entry<? extends MerchantRecipe, ? extends Integer> trade = this.trades.get(index);
+        MerchantRecipe original = trade.getKey();
+
+        MerchantRecipe recipe = new MerchantRecipe(
+                original.getResult(), uses, original.getMaxUses(), original.hasExperienceReward(),
+                original.getVillagerExperience(), original.getPriceMultiplier()
+        );
+        recipe.setIngredients(original.getIngredients());
+
+        setTrade(index, recipe, -trade.getValue());
+    }
+
+    /**
+     * Sets the discount of the trade at the specified index. The specified discount is the difference between the old
+     * price and the new price. For example, if a price was decreased from five to two, the discount would be three.
+     * Only this trade is converted again, after which all trades are resent to the viewers of this gui at most once
+     * per tick, regardless of how many trades changed during that tick.
+     *
+     * @param index the index of the trade
+     * @param discount the discount
+     * @throws IndexOutOfBoundsException when there is no trade at the specified index
+     * @since 0.12.1
+     */
+    public void setDiscount(int index, int discount) {
+        setTrade(index, this.trades.get(index).getKey(), discount);
     }
 
     /**
@@ -397,6 +494,32 @@ public class MerchantGui extends NamedGui implements InventoryBased {
         addTrade(recipe, 0);
     }
 
+    /**
+     * Schedules a task that sends the trades to the viewers of this gui on the next tick, unless such a task has
+     * already been scheduled. This way, multiple trade changes within a single tick result in a single packet per
+     * viewer. If the inventory of this gui has not been created yet, nobody can be viewing it, so nothing is scheduled.
+     *
+     * @since 0.12.1
+     */
+    private void scheduleTradeUpdate() {
+        if (this.tradeUpdateScheduled || this.inventory == null) {
+            return;
+        }
+
+        this.tradeUpdateScheduled = true;
+
+        Bukkit.getScheduler().runTask(super.plugin, () -> {
+            this.tradeUpdateScheduled = false;
+
+            for (HumanEntity viewer : getViewers()) {
+                if (viewer instanceof Player) {
+                    this.merchantInventory.sendMerchantOffers((Player) viewer, this.trades, this.level,
+                        this.experience);
+                }
+            }
+        });
+    }
+
     @Override
     public boolean isPlayerInventoryUsed() {
         return getPlayerGuiComponent().hasItem();
@@ -9,7 +9,6 @@ import com.github.stefvanschie.inventoryframework.gui.GuiItem;
 import com.github.stefvanschie.inventoryframework.gui.type.util.InventoryBased;
 import com.github.stefvanschie.inventoryframework.gui.type.util.NamedGui;
 import com.github.stefvanschie.inventoryframework.pane.Pane;
-import com.github.stefvanschie.inventoryframework.util.version.Version;
 import com.github.stefvanschie.inventoryframework.util.version.VersionMatcher;
 import org.bukkit.Material;
 import org.bukkit.entity.HumanEntity;
@@ -66,9 +65,7 @@ public class ModernSmithingTableGui extends NamedGui implements InventoryBased {
      * An internal smithing inventory
      */
     @NotNull
-    private final SmithingTableInventory smithingTableInventory = VersionMatcher.newModernSmithingTableInventory(
-            Version.getVersion()
-    );
+    private final SmithingTableInventory smithingTableInventory = VersionMatcher.newModernSmithingTableInventory();
 
     /**
      * Constructs a new GUI.
@@ -118,7 +115,7 @@ public class ModernSmithingTableGui extends NamedGui implements InventoryBased {
     public void update() {
         super.updating = true;
 
-        if (isDirty()) {
+        if (isDirty() && !updateTitleInPlace()) {
             Inventory oldInventory = this.inventory;
             this.inventory = createInventory();
 
@@ -133,8 +130,10 @@ public class ModernSmithingTableGui extends NamedGui implements InventoryBased {
 
         getInventory().clear();
 
-        getInputComponent().display(getInventory(), 0);
-        getResultComponent().display(getInventory(), 3);
+        getInputComponent().display();
+        placeItems(getInputComponent(), 0);
+        getResultComponent().display();
+        placeItems(getResultComponent(), 3);
         getPlayerGuiComponent().display();
 
         for (HumanEntity viewer : getViewers()) {
@@ -146,6 +145,9 @@ public class ModernSmithingTableGui extends NamedGui implements InventoryBased {
             viewer.setItemOnCursor(cursor);
         }
 
+        sendContents();
+        renderItems();
+
         if (!super.updating) {
             throw new AssertionError("Gui#isUpdating became false before Gui#update finished");
         }
@@ -183,6 +185,10 @@ public class ModernSmithingTableGui extends NamedGui implements InventoryBased {
         populateBottomInventory(humanEntity);
 
         humanEntity.openInventory(getInventory());
+
+        updateTitleInPlace(humanEntity);
+
+        renderItems(humanEntity);
     }
 
     /**
@@ -9,7 +9,6 @@ import com.github.stefvanschie.inventoryframework.gui.GuiItem;
 import com.github.stefvanschie.inventoryframework.gui.type.util.InventoryBased;
 import com.github.stefvanschie.inventoryframework.gui.type.util.NamedGui;
 import com.github.stefvanschie.inventoryframework.pane.Pane;
-import com.github.stefvanschie.inventoryframework.util.version.Version;
 import com.github.stefvanschie.inventoryframework.util.version.VersionMatcher;
 import org.bukkit.Material;
 import org.bukkit.entity.HumanEntity;
@@ -73,9 +72,7 @@ public class SmithingTableGui extends NamedGui implements InventoryBased {
      * An internal smithing inventory
      */
     @NotNull
-    private final SmithingTableInventory smithingTableInventory = VersionMatcher.newSmithingTableInventory(
-        Version.getVersion()
-    );
+    private final SmithingTableInventory smithingTableInventory = VersionMatcher.newSmithingTableInventory();
 
     /**
      * Constructs a new GUI
@@ -125,7 +122,7 @@ public class SmithingTableGui extends NamedGui implements InventoryBased {
     public void update() {
         super.updating = true;
 
-        if (isDirty()) {
+        if (isDirty() && !updateTitleInPlace()) {
             Inventory oldInventory = this.inventory;
             this.inventory = createInventory();
 
@@ -140,9 +137,12 @@ public class SmithingTableGui extends NamedGui implements InventoryBased {
 
         getInventory().clear();
 
-        getFirstItemComponent().display(getInventory(), 0);
-        getSecondItemComponent().display(getInventory(), 1);
-        getResultComponent().display(getInventory(), 2);
+        getFirstItemComponent().display();
+        placeItems(getFirstItemComponent(), 0);
+        getSecondItemComponent().display();
+        placeItems(getSecondItemComponent(), 1);
+        getResultComponent().display();
+        placeItems(getResultComponent(), 2);
         getPlayerGuiComponent().display();
 
         for (HumanEntity viewer : getViewers()) {
@@ -154,6 +154,9 @@ public class SmithingTableGui extends NamedGui implements InventoryBased {
             viewer.setItemOnCursor(cursor);
         }
 
+        sendContents();
+        renderItems();
+
         if (!super.updating) {
             throw new AssertionError("Gui#isUpdating became false before Gui#update finished");
         }
@@ -195,6 +198,10 @@ public class SmithingTableGui extends NamedGui implements InventoryBased {
         populateBottomInventory(humanEntity);
 
         humanEntity.openInventory(getInventory());
+
+        updateTitleInPlace(humanEntity);
+
+        renderItems(humanEntity);
     }
 
     /**
@@ -277,6 +284,13 @@ public class SmithingTableGui extends NamedGui implements InventoryBased {
         return inventory;
     }
 
+    @Override
+    protected boolean retitleInventory(@NotNull TextHolder title) {
+        this.smithingTableInventory.setTitle(title);
+
+        return true;
+    }
+
     @Contract(pure = true)
     @Override
     public int getViewerCount() {
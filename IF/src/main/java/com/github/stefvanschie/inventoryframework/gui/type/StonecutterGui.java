@@ -9,7 +9,6 @@ import com.github.stefvanschie.inventoryframework.gui.GuiItem;
 import com.github.stefvanschie.inventoryframework.gui.type.util.InventoryBased;
 import com.github.stefvanschie.inventoryframework.gui.type.util.NamedGui;
 import com.github.stefvanschie.inventoryframework.pane.Pane;
-import com.github.stefvanschie.inventoryframework.util.version.Version;
 import com.github.stefvanschie.inventoryframework.util.version.VersionMatcher;
 import org.bukkit.Material;
 import org.bukkit.entity.HumanEntity;
@@ -65,9 +64,7 @@ public class StonecutterGui extends NamedGui implements InventoryBased {
      * An internal stonecutter inventory
      */
     @NotNull
-    private final StonecutterInventory stonecutterInventory = VersionMatcher.newStonecutterInventory(
-        Version.getVersion()
-    );
+    private final StonecutterInventory stonecutterInventory = VersionMatcher.newStonecutterInventory();
 
     /**
      * Constructs a new GUI
@@ -117,7 +114,7 @@ public class StonecutterGui extends NamedGui implements InventoryBased {
     public void update() {
         super.updating = true;
 
-        if (isDirty()) {
+        if (isDirty() && !updateTitleInPlace()) {
             Inventory oldInventory = this.inventory;
             this.inventory = createInventory();
 
@@ -132,8 +129,10 @@ public class StonecutterGui extends NamedGui implements InventoryBased {
 
         getInventory().clear();
 
-        getInputComponent().display(getInventory(), 0);
-        getResultComponent().display(getInventory(), 1);
+        getInputComponent().display();
+        placeItems(getInputComponent(), 0);
+        getResultComponent().display();
+        placeItems(getResultComponent(), 1);
         getPlayerGuiComponent().display();
 
         for (HumanEntity viewer : getViewers()) {
@@ -145,6 +144,9 @@ public class StonecutterGui extends NamedGui implements InventoryBased {
             viewer.setItemOnCursor(cursor);
         }
 
+        sendContents();
+        renderItems();
+
         if (!super.updating) {
             throw new AssertionError("Gui#isUpdating became false before Gui#update finished");
         }
@@ -182,6 +184,10 @@ public class StonecutterGui extends NamedGui implements InventoryBased {
         populateBottomInventory(humanEntity);
 
         humanEntity.openInventory(getInventory());
+
+        updateTitleInPlace(humanEntity);
+
+        renderItems(humanEntity);
     }
 
     /**
@@ -261,6 +267,13 @@ public class StonecutterGui extends NamedGui implements InventoryBased {
         return inventory;
     }
 
+    @Override
+    protected boolean retitleInventory(@NotNull TextHolder title) {
+        this.stonecutterInventory.setTitle(title);
+
+        return true;
+    }
+
     @Contract(pure = true)
     @Override
     public int getViewerCount() {
@@ -1,7 +1,9 @@
 package com.github.stefvanschie.inventoryframework.gui.type.util;
 
 import com.github.stefvanschie.inventoryframework.HumanEntityCache;
+import com.github.stefvanschie.inventoryframework.abstraction.ContainerUpdater;
 import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
+import com.github.stefvanschie.inventoryframework.gui.GuiComponent;
 import com.github.stefvanschie.inventoryframework.gui.GuiItem;
 import com.github.stefvanschie.inventoryframework.gui.GuiListener;
 import com.github.stefvanschie.inventoryframework.gui.type.*;
@@ -10,13 +12,16 @@ import com.github.stefvanschie.inventoryframework.pane.component.*;
 import com.github.stefvanschie.inventoryframework.util.TriFunction;
 import com.github.stefvanschie.inventoryframework.util.XMLUtil;
 import com.github.stefvanschie.inventoryframework.util.version.Version;
+import com.github.stefvanschie.inventoryframework.util.version.VersionMatcher;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
 import org.bukkit.event.inventory.InventoryDragEvent;
 import org.bukkit.event.inventory.InventoryEvent;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.Contract;
@@ -114,6 +119,30 @@ public abstract class Gui {
      */
     protected boolean updating = false;
 
+    /**
+     * The items placed in each slot of the top inventory during the last update, or null if no items have been placed
+     * yet
+     */
+    @Nullable
+    private GuiItem @Nullable [] frame;
+
+    /**
+     * The slots of the top inventory holding an item with a renderer, or null if these have not been determined since
+     * the items were last placed
+     */
+    private int @Nullable [] renderedSlots;
+
+    /**
+     * The amount of slots of the top inventory whose item changed during the current update
+     */
+    private int changedSlots;
+
+    /**
+     * The values of the container data properties of this gui, indexed by their id. Properties which have never been
+     * set are zero.
+     */
+    private int @NotNull [] properties = new int[0];
+
     /**
      * Whether the gui is dirty i.e., has changed. Dirty by default since it won't have been updated after its creation.
      */
@@ -153,6 +182,24 @@ public abstract class Gui {
      */
     private static boolean hasRegisteredListeners;
 
+    /**
+     * The fraction of the slots in the top inventory that have to change during an update for the entire contents to
+     * be sent to the viewers at once, rather than slot by slot
+     */
+    private static final float BULK_CONTENTS_THRESHOLD = 0.5F;
+
+    /**
+     * The container updater for the current version. This is null until it is needed for the first time.
+     */
+    @Nullable
+    private static ContainerUpdater containerUpdater;
+
+    /**
+     * The human entities that currently have a virtual gui open, which only exists on their client
+     */
+    @NotNull
+    private static final Set<HumanEntity> VIRTUAL_VIEWERS = Collections.newSetFromMap(new WeakHashMap<>());
+
     /**
      * Constructs a new gui with the provided plugin.
      *
@@ -317,25 +364,40 @@ public abstract class Gui {
 
             documentElement.normalize();
 
-            if (!documentElement.hasAttribute("type")) {
-                throw new XMLLoadException("Type attribute must be specified when loading via Gui.load");
-            }
-
-            String type = documentElement.getAttribute("type");
-            TriFunction<? super Object, ? super Element, ? super Plugin, ? extends Gui> mapping = GUI_MAPPINGS
-                    .get(type);
-
-            if (mapping == null) {
-                throw new XMLLoadException("Type attribute '" + type + "' is invalid");
-            }
-
-            return mapping.apply(instance, documentElement, plugin);
+            return load(instance, documentElement, plugin);
         } catch (SAXException | ParserConfigurationException | IOException e) {
             e.printStackTrace();
             return null;
         }
     }
 
+    /**
+     * Loads a Gui from the specified element. The type of gui is determined by the type attribute of the element.
+     *
+     * @param instance the class instance for all reflection lookups
+     * @param element the element to load the gui from
+     * @param plugin the plugin that will be the owner of the created gui
+     * @return the gui
+     * @throws XMLLoadException if loading could not finish successfully, due to e.g., a missing or invalid type
+     * @see #load(Object, InputStream, Plugin)
+     * @since 0.12.1
+     */
+    @NotNull
+    public static Gui load(@NotNull Object instance, @NotNull Element element, @NotNull Plugin plugin) {
+        if (!element.hasAttribute("type")) {
+            throw new XMLLoadException("Type attribute must be specified when loading via Gui.load");
+        }
+
+        String type = element.getAttribute("type");
+        TriFunction<? super Object, ? super Element, ? super Plugin, ? extends Gui> mapping = GUI_MAPPINGS.get(type);
+
+        if (mapping == null) {
+            throw new XMLLoadException("Type attribute '" + type + "' is invalid");
+        }
+
+        return mapping.apply(instance, element, plugin);
+    }
+
     /**
      * Loads a Gui from a given input stream.
      * Returns null instead of throwing an exception in case of a failure.
@@ -655,6 +717,285 @@ public abstract class Gui {
         return this.dirty;
     }
 
+    /**
+     * Places the items of the specified gui component in the top inventory of this gui, starting at the specified
+     * slot. The component should have been displayed already. While placing, this keeps count of the slots that hold a
+     * different item than during the previous update, which {@link #sendContents()} uses to decide how the new items
+     * are sent.
+     *
+     * @param guiComponent the gui component to place the items of
+     * @param offset the slot of the top inventory at which to start placing the items
+     * @since 0.12.1
+     */
+    protected void placeItems(@NotNull GuiComponent guiComponent, int offset) {
+        Inventory inventory = getInventory();
+        GuiItem[] frame = this.frame;
+
+        if (frame == null || frame.length != inventory.getSize()) {
+            frame = new GuiItem[inventory.getSize()];
+
+            this.frame = frame;
+        }
+
+        this.changedSlots += guiComponent.placeItems(inventory, offset, frame);
+        this.renderedSlots = null;
+    }
+
+    /**
+     * Replaces the item in the specified slot of the top inventory, without updating the rest of this gui. This is only
+     * done if the slot currently holds either the old or the new item, as placed by the last update, so the new item
+     * is never placed over an item of a pane that is displayed on top. Items with a renderer are not replaced, nor are
+     * invisible items. If the item could not be replaced, this gui should be updated instead.
+     *
+     * @param slot the slot of the top inventory
+     * @param oldItem the item that should currently be in the slot
+     * @param newItem the item to place in the slot
+     * @return true if the item was replaced, false otherwise
+     * @since 0.12.1
+     */
+    public boolean replaceItem(int slot, @NotNull GuiItem oldItem, @NotNull GuiItem newItem) {
+        GuiItem[] frame = this.frame;
+
+        if (this.inventory == null || frame == null || slot < 0 || slot >= frame.length) {
+            return false;
+        }
+
+        GuiItem current = frame[slot];
+
+        if (current == null || current.getRenderer() != null || newItem.getRenderer() != null || !newItem.isVisible()) {
+            return false;
+        }
+
+        UUID uuid = current.getUUID();
+
+        if (!uuid.equals(oldItem.getUUID()) && !uuid.equals(newItem.getUUID())) {
+            return false;
+        }
+
+        frame[slot] = newItem;
+
+        this.inventory.setItem(slot, newItem.getItem());
+
+        return true;
+    }
+
+    /**
+     * Sends the contents of this gui to its viewers in a single packet per viewer, if enough slots of the top inventory
+     * have changed during this update, as counted by {@link #placeItems(GuiComponent, int)}. This should be called at
+     * the end of an update, after all items have been placed. If only a few slots have changed, this does nothing and
+     * the changed slots are sent one by one as usual.
+     *
+     * @since 0.12.1
+     */
+    protected void sendContents() {
+        int changed = this.changedSlots;
+
+        this.changedSlots = 0;
+
+        if (this.inventory == null || changed == 0 || changed < this.inventory.getSize() * BULK_CONTENTS_THRESHOLD) {
+            return;
+        }
+
+        ContainerUpdater containerUpdater = getContainerUpdater();
+
+        for (HumanEntity viewer : getViewers()) {
+            if (viewer instanceof Player) {
+                containerUpdater.sendContents((Player) viewer);
+            }
+        }
+    }
+
+    /**
+     * Sets a container data property for the specified human entity, such as the progress of a furnace's cook arrow.
+     * This only sends the property, without resending any slots. If the human entity is not a player, this does
+     * nothing.
+     *
+     * @param humanEntity the human entity to set the property for
+     * @param id the id of the property
+     * @param value the new value of the property
+     * @since 0.12.1
+     */
+    protected void sendProperty(@NotNull HumanEntity humanEntity, int id, int value) {
+        if (humanEntity instanceof Player) {
+            getContainerUpdater().setProperty((Player) humanEntity, id, value);
+        }
+    }
+
+    /**
+     * Sets the container data property with the specified id and sends it to all viewers. The value is kept, so it can
+     * be sent again via {@link #sendProperties(HumanEntity)} once the inventory is opened for a human entity.
+     *
+     * @param id the id of the property
+     * @param value the new value of the property
+     * @since 0.12.1
+     */
+    protected void setProperty(int id, int value) {
+        if (id >= this.properties.length) {
+            this.properties = Arrays.copyOf(this.properties, id + 1);
+        }
+
+        this.properties[id] = value;
+
+        for (HumanEntity viewer : getViewers()) {
+            sendProperty(viewer, id, value);
+        }
+    }
+
+    /**
+     * Sends all container data properties that have been set to the specified human entity. The client resets these
+     * properties whenever an inventory is opened, so this should be called each time the inventory of this gui is
+     * opened for a human entity, including when it is reopened because the inventory was recreated.
+     *
+     * @param humanEntity the human entity to send the properties to
+     * @since 0.12.1
+     */
+    protected void sendProperties(@NotNull HumanEntity humanEntity) {
+        for (int id = 0; id < this.properties.length; id++) {
+            if (this.properties[id] != 0) {
+                sendProperty(humanEntity, id, this.properties[id]);
+            }
+        }
+    }
+
+    /**
+     * Copies the container data properties of this gui to the specified gui, replacing any properties it had.
+     *
+     * @param gui the gui to copy the properties to
+     * @since 0.12.1
+     */
+    protected void copyProperties(@NotNull Gui gui) {
+        gui.properties = this.properties.clone();
+    }
+
+    /**
+     * Sends the items of this gui that have a renderer, as rendered for each viewer, to all viewers. The inventory
+     * itself keeps holding the shared items, so clicks are still resolved through the same {@link GuiItem}s. This is
+     * called automatically when the gui is shown or updated. The slots holding an item with a renderer are determined
+     * again by this method, so call it after setting or removing the renderer of an item that is already displayed.
+     *
+     * @since 0.12.1
+     * @see GuiItem#setRenderer(BiFunction)
+     */
+    public void renderItems() {
+        this.renderedSlots = null;
+
+        for (HumanEntity viewer : getViewers()) {
+            renderItems(viewer);
+        }
+    }
+
+    /**
+     * Sends the items of this gui that have a renderer, as rendered for the specified human entity, to that human
+     * entity. The inventory itself keeps holding the shared items, so clicks are still resolved through the same
+     * {@link GuiItem}s. If the human entity is not a player, or no items have a renderer, this does nothing.
+     *
+     * @param humanEntity the human entity to render the items for
+     * @since 0.12.1
+     * @see GuiItem#setRenderer(BiFunction)
+     */
+    public void renderItems(@NotNull HumanEntity humanEntity) {
+        GuiItem[] frame = this.frame;
+
+        if (frame == null || !(humanEntity instanceof Player)) {
+            return;
+        }
+
+        int[] renderedSlots = this.renderedSlots;
+
+        if (renderedSlots == null) {
+            renderedSlots = getRenderedSlots(frame);
+
+            this.renderedSlots = renderedSlots;
+        }
+
+        if (renderedSlots.length == 0) {
+            return;
+        }
+
+        ItemStack[] items = new ItemStack[frame.length];
+
+        for (int slot : renderedSlots) {
+            GuiItem guiItem = frame[slot];
+
+            assert guiItem != null : "slot holding a rendered item is empty";
+
+            items[slot] = guiItem.render(humanEntity, guiItem.getItem());
+        }
+
+        getContainerUpdater().sendItems((Player) humanEntity, items);
+    }
+
+    /**
+     * Gets the slots of the specified frame that hold an item with a renderer.
+     *
+     * @param frame the items placed in each slot
+     * @return the slots holding an item with a renderer
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static int @NotNull [] getRenderedSlots(@Nullable GuiItem @NotNull [] frame) {
+        int count = 0;
+
+        for (GuiItem guiItem : frame) {
+            if (guiItem != null && guiItem.getRenderer() != null) {
+                count++;
+            }
+        }
+
+        int[] renderedSlots = new int[count];
+        int index = 0;
+
+        for (int slot = 0; slot < frame.length && index < count; slot++) {
+            GuiItem guiItem = frame[slot];
+
+            if (guiItem != null && guiItem.getRenderer() != null) {
+                renderedSlots[index++] = slot;
+            }
+        }
+
+        return renderedSlots;
+    }
+
+    /**
+     * Gets the container updater for the current version, creating it if this is the first time it's needed.
+     *
+     * @return the container updater
+     * @since 0.12.1
+     */
+    @NotNull
+    protected static ContainerUpdater getContainerUpdater() {
+        if (containerUpdater == null) {
+            containerUpdater = VersionMatcher.newContainerUpdater();
+        }
+
+        return containerUpdater;
+    }
+
+    /**
+     * Registers the human entity as having a virtual gui open. Virtual guis only exist on the client, so their contents
+     * need to be resynchronized once the human entity closes them.
+     *
+     * @param humanEntity the human entity that opened a virtual gui
+     * @since 0.12.1
+     */
+    protected static void addVirtualViewer(@NotNull HumanEntity humanEntity) {
+        VIRTUAL_VIEWERS.add(humanEntity);
+    }
+
+    /**
+     * Unregisters the human entity as having a virtual gui open. This returns true if the human entity had a virtual
+     * gui open and false otherwise. This is used internally when a human entity opens or closes an inventory and
+     * should not be called otherwise.
+     *
+     * @param humanEntity the human entity that no longer has a virtual gui open
+     * @return whether the human entity had a virtual gui open
+     * @since 0.12.1
+     */
+    public static boolean removeVirtualViewer(@NotNull HumanEntity humanEntity) {
+        return VIRTUAL_VIEWERS.remove(humanEntity);
+    }
+
     /**
      * Gets whether this gui is being updated, as invoked by {@link #update()}. This returns true if this is the case
      * and false otherwise.
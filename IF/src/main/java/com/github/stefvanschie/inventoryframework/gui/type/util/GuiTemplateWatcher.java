@@ -0,0 +1,600 @@
+package com.github.stefvanschie.inventoryframework.gui.type.util;
+
+import com.github.stefvanschie.inventoryframework.HumanEntityCache;
+import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
+import com.github.stefvanschie.inventoryframework.pane.PaginatedPane;
+import com.github.stefvanschie.inventoryframework.pane.component.Slider;
+import com.github.stefvanschie.inventoryframework.pane.component.ToggleButton;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.plugin.IllegalPluginAccessException;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.logging.Level;
+
+/**
+ * Watches XML gui templates inside a plugin's data folder and rebuilds the guis loaded from them once a template
+ * changes. This is intended for development: a template can be edited while the server is running and every gui loaded
+ * from it will be replaced by a freshly loaded gui, without having to restart or reload the plugin.
+ * <p>
+ * Templates are parsed on a separate thread, after which the affected guis are rebuilt on the main thread. Only guis
+ * that are currently open are rebuilt, and their viewers are moved to the replacement. Guis that nobody is viewing are
+ * left untouched, since the plugin still holds on to them: load such a gui again to pick up the changed template. The
+ * state of panes referenced by a {@code field} attribute is carried over when the field refers to the same type of
+ * pane before and after the reload: the page of a {@link PaginatedPane}, the state of a {@link ToggleButton} and the
+ * value of a {@link Slider} are preserved.
+ * <p>
+ * Watching is opt-in: guis loaded via {@link #load(Object, String)} are only rebuilt after {@link #start()} has been
+ * called. If a template cannot be parsed or loaded, the error is logged and the current guis are kept as they are. The
+ * watcher stops by itself once the owning plugin has been disabled, but plugins should still call {@link #stop()} when
+ * they are disabled, so the watch service is released right away.
+ *
+ * @since 0.12.1
+ */
+public class GuiTemplateWatcher {
+
+    /**
+     * The plugin owning this watcher
+     */
+    @NotNull
+    private final Plugin plugin;
+
+    /**
+     * The directory from which templates are resolved
+     */
+    @NotNull
+    private final Path directory;
+
+    /**
+     * The guis loaded per template, keyed by the absolute, normalized path of the template. Only modified on the main
+     * thread.
+     */
+    @NotNull
+    private final Map<Path, List<Binding>> bindings = new HashMap<>();
+
+    /**
+     * The last modification times of the templates that have been read, used to ignore duplicate file system events
+     */
+    @NotNull
+    private final Map<Path, FileTime> modificationTimes = new ConcurrentHashMap<>();
+
+    /**
+     * The directories being watched, by their watch key
+     */
+    @NotNull
+    private final Map<WatchKey, Path> watchedDirectories = new ConcurrentHashMap<>();
+
+    /**
+     * The consumer that will be called once a gui has been replaced by a reloaded gui
+     */
+    @Nullable
+    private BiConsumer<? super Gui, ? super Gui> onReload;
+
+    /**
+     * The watch service, or null if this watcher isn't running
+     */
+    @Nullable
+    private volatile WatchService watchService;
+
+    /**
+     * The thread on which the file system events are processed, or null if this watcher isn't running
+     */
+    @Nullable
+    private volatile Thread thread;
+
+    /**
+     * Creates a new watcher for templates inside the data folder of the provided plugin.
+     *
+     * @param plugin the plugin owning the templates
+     * @since 0.12.1
+     */
+    public GuiTemplateWatcher(@NotNull Plugin plugin) {
+        this.plugin = plugin;
+        this.directory = plugin.getDataFolder().toPath().toAbsolutePath().normalize();
+    }
+
+    /**
+     * Loads a gui from the template at the specified path and keeps track of it, so it will be rebuilt whenever the
+     * template changes. The path is resolved relative to the data folder of the plugin. The template should specify the
+     * type of gui, as is required for {@link Gui#load(Object, InputStream)}.
+     *
+     * @param instance the class instance for all reflection lookups
+     * @param path the path of the template, relative to the data folder
+     * @return the loaded gui
+     * @throws XMLLoadException if the template could not be read or loaded
+     * @since 0.12.1
+     */
+    @NotNull
+    public Gui load(@NotNull Object instance, @NotNull String path) {
+        Path template = this.directory.resolve(path).toAbsolutePath().normalize();
+        Gui gui = Gui.load(instance, parse(template).getDocumentElement(), this.plugin);
+
+        this.bindings.computeIfAbsent(template, key -> new ArrayList<>()).add(new Binding(instance, gui));
+
+        WatchService watchService = this.watchService;
+
+        if (watchService != null) {
+            watch(watchService, template.getParent());
+        }
+
+        return gui;
+    }
+
+    /**
+     * Starts watching the templates of all guis loaded by this watcher. If this watcher is already running, this will
+     * do nothing.
+     *
+     * @throws IOException if the file system cannot be watched
+     * @since 0.12.1
+     */
+    public void start() throws IOException {
+        if (this.watchService != null) {
+            return;
+        }
+
+        WatchService watchService = this.directory.getFileSystem().newWatchService();
+
+        this.watchService = watchService;
+
+        for (Path template : this.bindings.keySet()) {
+            watch(watchService, template.getParent());
+        }
+
+        this.thread = new Thread(() -> run(watchService), "IF template watcher - " + this.plugin.getName());
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Stops watching the templates. Guis loaded by this watcher remain usable, but will no longer be rebuilt. If this
+     * watcher isn't running, this will do nothing.
+     *
+     * @since 0.12.1
+     */
+    public void stop() {
+        WatchService watchService = this.watchService;
+
+        if (watchService == null) {
+            return;
+        }
+
+        this.watchService = null;
+        this.watchedDirectories.clear();
+
+        try {
+            watchService.close();
+        } catch (IOException exception) {
+            this.plugin.getLogger().log(Level.WARNING, "Unable to close template watch service", exception);
+        }
+
+        if (this.thread != null) {
+            this.thread.interrupt();
+            this.thread = null;
+        }
+    }
+
+    /**
+     * Sets the consumer that should be called whenever a gui has been replaced by a reloaded gui. The first argument is
+     * the old gui, the second argument the new gui. This is called on the main thread, after the viewers have been
+     * moved to the new gui.
+     *
+     * @param onReload the consumer that gets called
+     * @since 0.12.1
+     */
+    public void setOnReload(@Nullable BiConsumer<? super Gui, ? super Gui> onReload) {
+        this.onReload = onReload;
+    }
+
+    /**
+     * Gets whether this watcher is currently watching for changes.
+     *
+     * @return true if this watcher is running, false otherwise
+     * @since 0.12.1
+     */
+    @Contract(pure = true)
+    public boolean isRunning() {
+        return this.watchService != null;
+    }
+
+    /**
+     * Processes file system events until the provided watch service is closed.
+     *
+     * @param watchService the watch service to take events from
+     * @since 0.12.1
+     */
+    private void run(@NotNull WatchService watchService) {
+        while (true) {
+            WatchKey key;
+
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException exception) {
+                return;
+            }
+
+            Path directory = this.watchedDirectories.get(key);
+
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (directory == null || event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    continue;
+                }
+
+                Path template = directory.resolve((Path) event.context()).toAbsolutePath().normalize();
+
+                if (isModified(template)) {
+                    compile(template);
+                }
+            }
+
+            if (!key.reset()) {
+                this.watchedDirectories.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Parses the changed template and schedules the affected guis to be rebuilt on the main thread. If the template
+     * cannot be parsed, the error is logged and nothing is rebuilt. If the plugin has been disabled, no task can be
+     * scheduled anymore, so this watcher is stopped instead.
+     *
+     * @param template the template that changed
+     * @since 0.12.1
+     */
+    private void compile(@NotNull Path template) {
+        Document document;
+
+        try {
+            document = parse(template);
+        } catch (XMLLoadException exception) {
+            this.plugin.getLogger().log(Level.WARNING, "Unable to parse gui template " + template, exception);
+            return;
+        }
+
+        if (!this.plugin.isEnabled()) {
+            stop();
+            return;
+        }
+
+        try {
+            Bukkit.getScheduler().runTask(this.plugin, () -> reload(template, document.getDocumentElement()));
+        } catch (IllegalPluginAccessException exception) {
+            //the plugin got disabled after the check above
+            stop();
+        }
+    }
+
+    /**
+     * Rebuilds all open guis loaded from the specified template with the newly parsed element. Guis without viewers are
+     * skipped, so the fields of their instance keep referring to the panes of the gui the plugin holds on to. This must
+     * be called on the main thread.
+     *
+     * @param template the template that changed
+     * @param element the newly parsed root element of the template
+     * @since 0.12.1
+     */
+    private void reload(@NotNull Path template, @NotNull Element element) {
+        List<Binding> bindings = this.bindings.get(template);
+
+        if (bindings == null) {
+            return;
+        }
+
+        Iterator<Binding> iterator = bindings.iterator();
+
+        while (iterator.hasNext()) {
+            Binding binding = iterator.next();
+            Gui oldGui = binding.gui.get();
+
+            if (oldGui == null) {
+                iterator.remove();
+                continue;
+            }
+
+            if (oldGui.getViewers().isEmpty()) {
+                continue;
+            }
+
+            Gui newGui;
+
+            try {
+                newGui = rebuild(binding.instance, element);
+            } catch (XMLLoadException exception) {
+                this.plugin.getLogger().log(Level.WARNING, "Unable to reload gui template " + template, exception);
+                continue;
+            }
+
+            transferViewers(oldGui, newGui);
+
+            binding.gui = new WeakReference<>(newGui);
+
+            if (this.onReload != null) {
+                this.onReload.accept(oldGui, newGui);
+            }
+        }
+
+        if (bindings.isEmpty()) {
+            this.bindings.remove(template);
+        }
+    }
+
+    /**
+     * Loads a new gui from the provided element for the provided instance. The state of the panes referenced by
+     * {@code field} attributes is carried over to the panes that replace them. If loading fails, every such field is
+     * set back to the value it had before loading, so the instance keeps referring to the panes of its current gui.
+     *
+     * @param instance the class instance for all reflection lookups
+     * @param element the element to load the gui from
+     * @return the new gui
+     * @throws XMLLoadException if the gui could not be loaded
+     * @since 0.12.1
+     */
+    @NotNull
+    Gui rebuild(@NotNull Object instance, @NotNull Element element) {
+        Map<Field, Object> oldValues = getFieldValues(instance, element);
+        Gui gui;
+
+        try {
+            gui = Gui.load(instance, element, this.plugin);
+        } catch (XMLLoadException exception) {
+            restoreFieldValues(instance, oldValues);
+            throw exception;
+        }
+
+        transferFieldStates(instance, oldValues);
+
+        return gui;
+    }
+
+    /**
+     * Moves all viewers of the old gui to the new gui. While moving, the old gui is marked as updating, so its close
+     * handlers are not invoked for these viewers.
+     *
+     * @param oldGui the gui viewers are currently viewing
+     * @param newGui the gui viewers should be moved to
+     * @since 0.12.1
+     */
+    private void transferViewers(@NotNull Gui oldGui, @NotNull Gui newGui) {
+        List<HumanEntity> viewers = oldGui.getViewers();
+
+        if (viewers.isEmpty()) {
+            return;
+        }
+
+        HumanEntityCache humanEntityCache = oldGui.getHumanEntityCache();
+        boolean dirty = oldGui.dirty;
+
+        oldGui.updating = true;
+        oldGui.dirty = true;
+
+        try {
+            for (HumanEntity viewer : viewers) {
+                if (humanEntityCache.contains(viewer)) {
+                    humanEntityCache.restoreAndForget(viewer);
+                }
+
+                newGui.show(viewer);
+            }
+        } finally {
+            oldGui.updating = false;
+            oldGui.dirty = dirty;
+        }
+    }
+
+    /**
+     * Gets the current values of all public fields of the instance that are referenced by a {@code field} attribute
+     * somewhere inside the provided element.
+     *
+     * @param instance the instance to get the field values from
+     * @param element the element to search for field attributes
+     * @return the fields and their current values
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    static Map<Field, Object> getFieldValues(@NotNull Object instance, @NotNull Element element) {
+        Map<Field, Object> values = new HashMap<>();
+        List<Element> elements = new ArrayList<>();
+
+        elements.add(element);
+
+        NodeList descendants = element.getElementsByTagName("*");
+
+        for (int index = 0; index < descendants.getLength(); index++) {
+            elements.add((Element) descendants.item(index));
+        }
+
+        for (Element fieldElement : elements) {
+            if (!fieldElement.hasAttribute("field")) {
+                continue;
+            }
+
+            try {
+                Field field = instance.getClass().getField(fieldElement.getAttribute("field"));
+
+                values.put(field, field.get(instance));
+            } catch (NoSuchFieldException | IllegalAccessException ignored) {}
+        }
+
+        return values;
+    }
+
+    /**
+     * Sets the provided fields of the instance back to the provided values.
+     *
+     * @param instance the instance to set the fields on
+     * @param values the fields and their values
+     * @since 0.12.1
+     */
+    private static void restoreFieldValues(@NotNull Object instance, @NotNull Map<Field, Object> values) {
+        for (Map.Entry<Field, Object> entry : values.entrySet()) {
+            try {
+                entry.getKey().set(instance, entry.getValue());
+            } catch (IllegalAccessException ignored) {}
+        }
+    }
+
+    /**
+     * Carries the state of the previous values of the provided fields over to the values the fields hold now.
+     *
+     * @param instance the instance holding the fields
+     * @param oldValues the fields and their values before reloading
+     * @since 0.12.1
+     */
+    static void transferFieldStates(@NotNull Object instance, @NotNull Map<Field, Object> oldValues) {
+        for (Map.Entry<Field, Object> entry : oldValues.entrySet()) {
+            try {
+                transferState(entry.getValue(), entry.getKey().get(instance));
+            } catch (IllegalAccessException ignored) {}
+        }
+    }
+
+    /**
+     * Carries the user-facing state of the old object over to the new object, if both are the same type of pane.
+     *
+     * @param oldValue the value before reloading
+     * @param newValue the value after reloading
+     * @since 0.12.1
+     */
+    static void transferState(@Nullable Object oldValue, @Nullable Object newValue) {
+        if (oldValue == null || newValue == null || oldValue == newValue ||
+            oldValue.getClass() != newValue.getClass()) {
+            return;
+        }
+
+        if (oldValue instanceof PaginatedPane) {
+            PaginatedPane newPane = (PaginatedPane) newValue;
+            int page = ((PaginatedPane) oldValue).getPage();
+
+            if (page < newPane.getPages()) {
+                newPane.setPage(page);
+            }
+        } else if (oldValue instanceof ToggleButton) {
+            ToggleButton newButton = (ToggleButton) newValue;
+
+            if (((ToggleButton) oldValue).isEnabled() != newButton.isEnabled()) {
+                newButton.toggle();
+            }
+        } else if (oldValue instanceof Slider) {
+            ((Slider) newValue).setValue(((Slider) oldValue).getValue());
+        }
+    }
+
+    /**
+     * Registers the provided directory with the watch service, if it isn't registered yet.
+     *
+     * @param watchService the watch service to register the directory with
+     * @param directory the directory to watch
+     * @since 0.12.1
+     */
+    private void watch(@NotNull WatchService watchService, @NotNull Path directory) {
+        if (this.watchedDirectories.containsValue(directory)) {
+            return;
+        }
+
+        try {
+            WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+
+            this.watchedDirectories.put(key, directory);
+        } catch (IOException exception) {
+            this.plugin.getLogger().log(Level.WARNING, "Unable to watch template directory " + directory, exception);
+        }
+    }
+
+    /**
+     * Checks whether the provided file is a tracked template which has been modified since it was last read. Editors
+     * tend to cause multiple file system events for a single save, which are filtered out by this.
+     *
+     * @param template the file to check
+     * @return true if the template has been modified, false otherwise
+     * @since 0.12.1
+     */
+    private boolean isModified(@NotNull Path template) {
+        if (!this.modificationTimes.containsKey(template)) {
+            return false;
+        }
+
+        try {
+            FileTime time = Files.getLastModifiedTime(template);
+
+            return !time.equals(this.modificationTimes.put(template, time));
+        } catch (IOException exception) {
+            return false;
+        }
+    }
+
+    /**
+     * Reads and parses the template at the specified path.
+     *
+     * @param template the template to parse
+     * @return the parsed document
+     * @throws XMLLoadException if the template cannot be read or parsed
+     * @since 0.12.1
+     */
+    @NotNull
+    private Document parse(@NotNull Path template) {
+        try {
+            this.modificationTimes.put(template, Files.getLastModifiedTime(template));
+
+            try (InputStream inputStream = Files.newInputStream(template)) {
+                Document document = DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(inputStream);
+
+                document.getDocumentElement().normalize();
+
+                return document;
+            }
+        } catch (SAXException | ParserConfigurationException | IOException exception) {
+            throw new XMLLoadException(exception);
+        }
+    }
+
+    /**
+     * A gui loaded from a template, together with the instance used for its reflection lookups.
+     *
+     * @since 0.12.1
+     */
+    private static class Binding {
+
+        /**
+         * The instance used for reflection lookups
+         */
+        @NotNull
+        private final Object instance;
+
+        /**
+         * The most recently loaded gui
+         */
+        @NotNull
+        private WeakReference<Gui> gui;
+
+        /**
+         * Creates a new binding.
+         *
+         * @param instance the instance used for reflection lookups
+         * @param gui the loaded gui
+         * @since 0.12.1
+         */
+        private Binding(@NotNull Object instance, @NotNull Gui gui) {
+            this.instance = instance;
+            this.gui = new WeakReference<>(gui);
+        }
+    }
+}
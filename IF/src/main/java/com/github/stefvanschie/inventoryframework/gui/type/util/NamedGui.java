@@ -1,11 +1,18 @@
 package com.github.stefvanschie.inventoryframework.gui.type.util;
 
+import com.github.stefvanschie.inventoryframework.abstraction.ContainerUpdater;
 import com.github.stefvanschie.inventoryframework.adventuresupport.StringHolder;
 import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
+import org.bukkit.entity.HumanEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.Inventory;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
 
 public abstract class NamedGui extends Gui {
 
@@ -15,6 +22,18 @@ public abstract class NamedGui extends Gui {
     @NotNull
     private TextHolder title;
 
+    /**
+     * Whether the title is the only thing that has changed since the last update
+     */
+    private boolean titleOnly;
+
+    /**
+     * The inventory whose title has been changed in place, or null if this hasn't happened. Since the title this
+     * inventory was created with is outdated, the title has to be changed again for every player that opens it.
+     */
+    @Nullable
+    private Inventory retitledInventory;
+
     /**
      * Constructs a new gui with a title
      *
@@ -78,6 +97,9 @@ public abstract class NamedGui extends Gui {
      */
     public void setTitle(@NotNull TextHolder title) {
         this.title = title;
+
+        //if the gui was already dirty for another reason, it has to be recreated regardless
+        this.titleOnly = !this.dirty || this.titleOnly;
         this.dirty = true;
     }
 
@@ -129,5 +151,79 @@ public abstract class NamedGui extends Gui {
     @Deprecated
     public void markChanges() {
         super.dirty = false;
+        this.titleOnly = false;
+    }
+
+    /**
+     * Changes the title of the current inventory in place for all its viewers, if the title is the only thing that has
+     * changed since the last update. Instead of creating a new inventory and opening it for every viewer, the screen of
+     * every viewer is reopened with the existing container, so no inventory close and open events are fired. If this
+     * returns true, the changes have been marked as accepted. Otherwise, the inventory should be recreated as usual.
+     *
+     * @return true if the title was changed in place, false otherwise
+     * @since 0.12.1
+     */
+    protected boolean updateTitleInPlace() {
+        if (!this.titleOnly || this.inventory == null) {
+            return false;
+        }
+
+        List<HumanEntity> viewers = this.inventory.getViewers();
+
+        for (HumanEntity viewer : viewers) {
+            if (!(viewer instanceof Player)) {
+                return false;
+            }
+        }
+
+        boolean retitled = retitleInventory(this.title);
+
+        //without any viewers, recreating the inventory is cheap and spares future viewers from another title change
+        if (viewers.isEmpty() && !retitled) {
+            return false;
+        }
+
+        ContainerUpdater containerUpdater = getContainerUpdater();
+
+        for (HumanEntity viewer : viewers) {
+            containerUpdater.updateTitle((Player) viewer, this.title);
+        }
+
+        //if the inventory itself was retitled, future viewers will already see the new title
+        this.retitledInventory = retitled ? null : this.inventory;
+
+        markChanges();
+
+        return true;
+    }
+
+    /**
+     * Changes the title of the current inventory for players that open it from now on, without recreating the
+     * inventory. This returns true if the inventory supports this, in which case the inventory can be kept when the
+     * title changes, even if it has no viewers. Otherwise, this returns false and does nothing. By default, this
+     * returns false.
+     *
+     * @param title the new title
+     * @return whether the title of the current inventory was changed
+     * @since 0.12.1
+     */
+    protected boolean retitleInventory(@NotNull TextHolder title) {
+        return false;
+    }
+
+    /**
+     * Changes the title for the specified human entity if the title of the current inventory has been changed in place.
+     * This should be called after the current inventory has been opened for the human entity, since the inventory will
+     * still have been opened with its original title.
+     *
+     * @param humanEntity the human entity that opened the inventory
+     * @since 0.12.1
+     */
+    protected void updateTitleInPlace(@NotNull HumanEntity humanEntity) {
+        if (this.inventory == null || this.inventory != this.retitledInventory || !(humanEntity instanceof Player)) {
+            return;
+        }
+
+        getContainerUpdater().updateTitle((Player) humanEntity, this.title);
     }
 }
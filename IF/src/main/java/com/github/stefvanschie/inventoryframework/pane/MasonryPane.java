@@ -10,6 +10,7 @@ import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -41,9 +42,19 @@ public class MasonryPane extends Pane implements Orientable {
     private Orientation orientation = Orientation.HORIZONTAL;
 
     /**
-     * The cached positions from the last display.
+     * The slot at which each pane is placed, as an index of the form {@code y * length + x}, or -1 if the pane is not
+     * displayed. The panes are in the same order as {@link #panes}. This is created when first needed and discarded
+     * whenever the panes or the layout of this pane change.
      */
-    private int[][] cachedPositions;
+    @Nullable
+    private int[] placements;
+
+    /**
+     * The length, height and visibility of each pane at the time {@link #placements} was created, so changes made to
+     * the panes directly can be detected. Each pane takes up three consecutive entries.
+     */
+    @Nullable
+    private int[] placedDimensions;
 
     /**
      * Creates a new masonry pane
@@ -71,84 +82,37 @@ public class MasonryPane extends Pane implements Orientable {
     @NotNull
     @Override
     public GuiItemContainer display() {
-        GuiItemContainer container = new GuiItemContainer(getLength(), getHeight());
+        return display(new GuiItemContainer(getLength(), getHeight()));
+    }
 
-        int[][] positions = new int[getLength()][getHeight()];
+    @NotNull
+    @Override
+    public GuiItemContainer displayForCompositing() {
+        return display(getDisplayContainer());
+    }
 
-        for (int[] array : positions) {
-            Arrays.fill(array, -1);
-        }
+    /**
+     * Places the items that should be displayed of this pane in the provided container.
+     *
+     * @param container the empty container to place the items in, with the size of this pane
+     * @return the provided container
+     * @since 0.12.1
+     */
+    @NotNull
+    private GuiItemContainer display(@NotNull GuiItemContainer container) {
+        int[] placements = getPlacements();
 
-        for (int paneIndex = 0; paneIndex < panes.size(); paneIndex++) {
-            Pane pane = panes.get(paneIndex);
+        for (int index = 0; index < this.panes.size(); index++) {
+            Pane pane = this.panes.get(index);
+            int slot = placements[index];
 
-            if (!pane.isVisible()) {
+            if (!pane.isVisible() || slot == -1) {
                 continue;
             }
 
-            if (orientation == Orientation.HORIZONTAL) {
-                outerLoop:
-                for (int y = 0; y < getHeight(); y++) {
-                    for (int x = 0; x < getLength(); x++) {
-                        //check whether the pane fits
-                        boolean fits = true;
-
-                        paneFits:
-                        for (int i = 0; i < pane.getLength(); i++) {
-                            for (int j = 0; j < pane.getHeight(); j++) {
-                                if (x + i >= positions.length || y + j >= positions[x + i].length || positions[x + i][y + j] != -1) {
-                                    fits = false;
-                                    break paneFits;
-                                }
-                            }
-                        }
-
-                        if (fits) {
-                            for (int i = 0; i < pane.getLength(); i++) {
-                                for (int j = 0; j < pane.getHeight(); j++) {
-                                    positions[x + i][y + j] = paneIndex;
-                                }
-                            }
-
-                            container.apply(pane.display(), x, y);
-                            break outerLoop;
-                        }
-                    }
-                }
-            } else if (orientation == Orientation.VERTICAL) {
-                outerLoop:
-                for (int x = 0; x < getLength(); x++) {
-                    for (int y = 0; y < getHeight(); y++) {
-                        //check whether the pane fits
-                        boolean fits = true;
-
-                        paneFits:
-                        for (int i = 0; i < pane.getHeight(); i++) {
-                            for (int j = 0; j < pane.getLength(); j++) {
-                                if (x + j >= positions.length || y + i >= positions[x + j].length || positions[x + j][y + i] != -1) {
-                                    fits = false;
-                                    break paneFits;
-                                }
-                            }
-                        }
-
-                        if (fits) {
-                            for (int i = 0; i < pane.getLength(); i++) {
-                                for (int j = 0; j < pane.getHeight(); j++) {
-                                    positions[x + i][y + j] = paneIndex;
-                                }
-                            }
-
-                            container.apply(pane.display(), x, y);
-                            break outerLoop;
-                        }
-                    }
-                }
-            }
+            container.apply(pane.displayForCompositing(), slot % getLength(), slot / getLength());
         }
 
-        this.cachedPositions = positions;
-
         return container;
     }
 
@@ -165,26 +129,20 @@ public class MasonryPane extends Pane implements Orientable {
         callOnClick(event);
 
         boolean success = false;
+        int[] placements = getPlacements();
 
         for (int index = 0; index < this.panes.size(); index++) {
             Pane pane = this.panes.get(index);
+            int placement = placements[index];
 
-            if (!pane.isVisible()) {
+            if (!pane.isVisible() || placement == -1) {
                 continue;
             }
 
-            outer:
-            for (int column = 0; column < this.cachedPositions.length; column++) {
-                for (int row = 0; row < this.cachedPositions[column].length; row++) {
-                    if (this.cachedPositions[column][row] != index) {
-                        continue;
-                    }
-
-                    success = success || pane.click(gui, guiComponent, event, Slot.fromXY(x - column, y - row));
+            int column = placement % getLength();
+            int row = placement / getLength();
 
-                    break outer;
-                }
-            }
+            success = success || pane.click(gui, guiComponent, event, Slot.fromXY(x - column, y - row));
         }
 
         return success;
@@ -217,6 +175,8 @@ public class MasonryPane extends Pane implements Orientable {
      */
     public void addPane(@NotNull Pane pane) {
         panes.add(pane);
+
+        this.placements = null;
     }
 
     @NotNull
@@ -241,6 +201,8 @@ public class MasonryPane extends Pane implements Orientable {
     @Override
     public void clear() {
         panes.clear();
+
+        this.placements = null;
     }
 
     @NotNull
@@ -252,6 +214,204 @@ public class MasonryPane extends Pane implements Orientable {
     @Override
     public void setOrientation(@NotNull Orientation orientation) {
         this.orientation = orientation;
+        this.placements = null;
+    }
+
+    @Override
+    public void setLength(int length) {
+        super.setLength(length);
+
+        this.placements = null;
+    }
+
+    @Override
+    public void setHeight(int height) {
+        super.setHeight(height);
+
+        this.placements = null;
+    }
+
+    /**
+     * Gets the slot at which each pane is placed, placing the panes again if the panes or the layout of this pane
+     * changed since they were last placed. The slots are in the same order as the panes and are -1 for panes that are
+     * not displayed.
+     *
+     * @return the placement of each pane
+     * @since 0.12.1
+     */
+    @NotNull
+    private int[] getPlacements() {
+        if (this.placements == null || !matchesPlacedDimensions()) {
+            int[] dimensions = this.placedDimensions;
+
+            if (dimensions == null || dimensions.length != this.panes.size() * 3) {
+                dimensions = new int[this.panes.size() * 3];
+            }
+
+            for (int index = 0; index < this.panes.size(); index++) {
+                Pane pane = this.panes.get(index);
+
+                dimensions[index * 3] = pane.getLength();
+                dimensions[index * 3 + 1] = pane.getHeight();
+                dimensions[index * 3 + 2] = pane.isVisible() ? 1 : 0;
+            }
+
+            this.placements = place();
+            this.placedDimensions = dimensions;
+        }
+
+        return this.placements;
+    }
+
+    /**
+     * Checks whether the length, height and visibility of every pane are still the same as they were when the panes
+     * were last placed.
+     *
+     * @return true if none of the panes changed, false otherwise
+     * @since 0.12.1
+     */
+    @Contract(pure = true)
+    private boolean matchesPlacedDimensions() {
+        int[] dimensions = this.placedDimensions;
+
+        if (dimensions == null || dimensions.length != this.panes.size() * 3) {
+            return false;
+        }
+
+        for (int index = 0; index < this.panes.size(); index++) {
+            Pane pane = this.panes.get(index);
+
+            if (dimensions[index * 3] != pane.getLength() || dimensions[index * 3 + 1] != pane.getHeight() ||
+                dimensions[index * 3 + 2] != (pane.isVisible() ? 1 : 0)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Places all panes in this pane. Every pane is put in the first position, in the order determined by the
+     * orientation, at which it does not overlap any previously placed pane. The occupied slots are tracked with a
+     * bitmask per row.
+     *
+     * @return the slot at which each pane is placed, or -1 for panes that are not displayed
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    private int[] place() {
+        int length = getLength();
+        int height = getHeight();
+        long[][] occupied = new long[height][(length + Long.SIZE - 1) / Long.SIZE];
+        int[] placements = new int[this.panes.size()];
+
+        Arrays.fill(placements, -1);
+
+        for (int index = 0; index < this.panes.size(); index++) {
+            Pane pane = this.panes.get(index);
+
+            if (!pane.isVisible()) {
+                continue;
+            }
+
+            int paneLength = pane.getLength();
+            int paneHeight = pane.getHeight();
+            int positions = length * height;
+
+            for (int position = 0; position < positions; position++) {
+                int x, y;
+
+                if (orientation == Orientation.HORIZONTAL) {
+                    x = position % length;
+                    y = position / length;
+                } else if (orientation == Orientation.VERTICAL) {
+                    x = position / height;
+                    y = position % height;
+                } else {
+                    throw new IllegalStateException("Unknown orientation '" + orientation + "'");
+                }
+
+                if (x + paneLength > length || y + paneHeight > height) {
+                    continue;
+                }
+
+                boolean fits = true;
+
+                for (int row = y; row < y + paneHeight; row++) {
+                    if (!isRangeFree(occupied[row], x, x + paneLength)) {
+                        fits = false;
+                        break;
+                    }
+                }
+
+                if (!fits) {
+                    continue;
+                }
+
+                for (int row = y; row < y + paneHeight; row++) {
+                    occupyRange(occupied[row], x, x + paneLength);
+                }
+
+                placements[index] = y * length + x;
+                break;
+            }
+        }
+
+        return placements;
+    }
+
+    /**
+     * Checks whether none of the bits in the specified range are set in the provided bitmask.
+     *
+     * @param bitmask the bitmask, split into words of 64 bits
+     * @param from the first bit to check, inclusive
+     * @param to the last bit to check, exclusive
+     * @return true if none of the bits are set, false otherwise
+     * @since 0.12.1
+     */
+    @Contract(pure = true)
+    private static boolean isRangeFree(long @NotNull [] bitmask, int from, int to) {
+        for (int word = from / Long.SIZE; from < to && word <= (to - 1) / Long.SIZE; word++) {
+            if ((bitmask[word] & rangeMask(word, from, to)) != 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Sets all bits in the specified range in the provided bitmask.
+     *
+     * @param bitmask the bitmask, split into words of 64 bits
+     * @param from the first bit to set, inclusive
+     * @param to the last bit to set, exclusive
+     * @since 0.12.1
+     */
+    private static void occupyRange(long @NotNull [] bitmask, int from, int to) {
+        for (int word = from / Long.SIZE; from < to && word <= (to - 1) / Long.SIZE; word++) {
+            bitmask[word] |= rangeMask(word, from, to);
+        }
+    }
+
+    /**
+     * Creates a mask with the bits set that are both in the specified range and in the specified word.
+     *
+     * @param word the index of the word
+     * @param from the first bit of the range, inclusive
+     * @param to the last bit of the range, exclusive
+     * @return the mask for this word
+     * @since 0.12.1
+     */
+    @Contract(pure = true)
+    private static long rangeMask(int word, int from, int to) {
+        int start = Math.max(from - word * Long.SIZE, 0);
+        int end = Math.min(to - word * Long.SIZE, Long.SIZE);
+
+        long upper = end == Long.SIZE ? -1L : (1L << end) - 1;
+
+        return upper & (-1L << start);
     }
 
     /**
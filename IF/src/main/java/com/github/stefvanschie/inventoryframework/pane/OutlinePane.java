@@ -14,6 +14,7 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -57,6 +58,24 @@ public class OutlinePane extends Pane implements Flippable, Orientable, Rotatabl
      */
     private boolean flipHorizontally, flipVertically;
 
+    /**
+     * The slots at which items are displayed, as an index of the form {@code y * length + x}. This is created when
+     * first needed and discarded whenever the layout of this pane changes.
+     */
+    @Nullable
+    private int[] layoutSlots;
+
+    /**
+     * For each slot in {@link #layoutSlots}, the index of the item displayed in that slot.
+     */
+    @Nullable
+    private int[] layoutItems;
+
+    /**
+     * The amount of items {@link #layoutSlots} and {@link #layoutItems} were created for.
+     */
+    private int layoutItemCount;
+
     /**
      * The alignment of this pane
      */
@@ -82,17 +101,7 @@ public class OutlinePane extends Pane implements Flippable, Orientable, Rotatabl
 
         this.items = new ArrayList<>(length * height);
         this.orientation = Orientation.HORIZONTAL;
-
-        String[] mask = new String[height];
-        StringBuilder maskString = new StringBuilder();
-
-        for (int i = 0; i < length; i++) {
-            maskString.append('1');
-        }
-
-        Arrays.fill(mask, maskString.toString());
-
-        this.mask = new Mask(mask);
+        this.mask = Mask.full(length, height);
     }
 
 
@@ -112,118 +121,17 @@ public class OutlinePane extends Pane implements Flippable, Orientable, Rotatabl
     public GuiItemContainer display() {
         GuiItemContainer container = new GuiItemContainer(getLength(), getHeight());
 
-        int itemIndex = 0;
-        int gapCount = 0;
-
-        int size;
-
-        if (getOrientation() == Orientation.HORIZONTAL) {
-            size = getHeight();
-        } else if (getOrientation() == Orientation.VERTICAL) {
-            size = getHeight();
-        } else {
-            throw new IllegalStateException("Unknown orientation '" + getOrientation() + "'");
+        if (this.layoutSlots == null || this.layoutItems == null || this.layoutItemCount != getItems().size()) {
+            createLayout();
         }
 
-        for (int vectorIndex = 0; vectorIndex < size && getItems().size() > itemIndex; vectorIndex++) {
-            boolean[] maskLine;
-
-            if (getOrientation() == Orientation.HORIZONTAL) {
-                maskLine = mask.getRow(vectorIndex);
-            } else if (getOrientation() == Orientation.VERTICAL) {
-                maskLine = mask.getColumn(vectorIndex);
-            } else {
-                throw new IllegalStateException("Unknown orientation '" + getOrientation() + "'");
-            }
+        for (int index = 0; index < this.layoutSlots.length; index++) {
+            GuiItem item = getItems().get(this.layoutItems[index]);
 
-            int enabled = 0;
+            if (item.isVisible()) {
+                int slot = this.layoutSlots[index];
 
-            for (boolean bool : maskLine) {
-                if (bool) {
-                    enabled++;
-                }
-            }
-
-            GuiItem[] items;
-
-            if (doesRepeat()) {
-                items = new GuiItem[enabled];
-            } else {
-                int remainingPositions = gapCount + (getItems().size() - itemIndex - 1) * (getGap() + 1) + 1;
-
-                items = new GuiItem[Math.min(enabled, remainingPositions)];
-            }
-
-            for (int index = 0; index < items.length; index++) {
-                if (gapCount == 0) {
-                    items[index] = getItems().get(itemIndex);
-
-                    itemIndex++;
-
-                    if (doesRepeat() && itemIndex >= getItems().size()) {
-                        itemIndex = 0;
-                    }
-
-                    gapCount = getGap();
-                } else {
-                    items[index] = null;
-
-                    gapCount--;
-                }
-            }
-
-            int index;
-
-            if (getAlignment() == Alignment.BEGIN) {
-                index = 0;
-            } else if (getAlignment() == Alignment.CENTER) {
-                index = -((enabled - items.length) / 2);
-            } else {
-                throw new IllegalStateException("Unknown alignment '" + getAlignment() + "'");
-            }
-
-            for (int opposingVectorIndex = 0; opposingVectorIndex < maskLine.length; opposingVectorIndex++) {
-                if (!maskLine[opposingVectorIndex]) {
-                    continue;
-                }
-
-                if (index >= 0 && index < items.length && items[index] != null) {
-                    int x, y;
-
-                    if (getOrientation() == Orientation.HORIZONTAL) {
-                        x = opposingVectorIndex;
-                        y = vectorIndex;
-                    } else if (getOrientation() == Orientation.VERTICAL) {
-                        x = vectorIndex;
-                        y = opposingVectorIndex;
-                    } else {
-                        throw new IllegalStateException("Unknown orientation '" + getOrientation() + "'");
-                    }
-
-                    if (flipHorizontally) {
-                        x = getLength() - x - 1;
-                    }
-
-                    if (flipVertically) {
-                        y = getHeight() - y - 1;
-                    }
-
-                    Map.Entry<Integer, Integer> coordinates = GeometryUtil.processClockwiseRotation(x, y,
-                            getLength(), getHeight(), rotation);
-
-                    x = coordinates.getKey();
-                    y = coordinates.getValue();
-
-                    if (x >= 0 && x < getLength() && y >= 0 && y < getHeight()) {
-                        GuiItem item = items[index];
-
-                        if (item.isVisible()) {
-                            container.setItem(item, x, y);
-                        }
-                    }
-                }
-
-                index++;
+                container.setItem(item, slot % getLength(), slot / getLength());
             }
         }
 
@@ -298,6 +206,7 @@ public class OutlinePane extends Pane implements Flippable, Orientable, Rotatabl
         }
 
         this.rotation = rotation % 360;
+        this.layoutSlots = null;
     }
 
     /**
@@ -348,12 +257,15 @@ public class OutlinePane extends Pane implements Flippable, Orientable, Rotatabl
         }
 
         this.mask = mask;
+        this.layoutSlots = null;
     }
 
     @Override
     public void setLength(int length) {
         super.setLength(length);
 
+        this.layoutSlots = null;
+
         applyMask(getMask().setLength(length));
     }
 
@@ -361,9 +273,142 @@ public class OutlinePane extends Pane implements Flippable, Orientable, Rotatabl
     public void setHeight(int height) {
         super.setHeight(height);
 
+        this.layoutSlots = null;
+
         applyMask(getMask().setHeight(height));
     }
 
+    /**
+     * Creates the layout of this pane for the current amount of items. This determines the slot of each displayed item
+     * and which item is displayed there, based on the mask, orientation, gap, alignment, repeat, flipping and rotation
+     * of this pane.
+     *
+     * @since 0.12.1
+     */
+    private void createLayout() {
+        int itemCount = getItems().size();
+        int[] transformTable = GeometryUtil.createTransformTable(getLength(), getHeight(), flipHorizontally,
+            flipVertically, rotation);
+
+        int[] slots = new int[getLength() * getHeight()];
+        int[] itemIndices = new int[getLength() * getHeight()];
+        int amount = 0;
+
+        int itemIndex = 0;
+        int gapCount = 0;
+
+        int size;
+
+        if (getOrientation() == Orientation.HORIZONTAL) {
+            size = getHeight();
+        } else if (getOrientation() == Orientation.VERTICAL) {
+            size = getHeight();
+        } else {
+            throw new IllegalStateException("Unknown orientation '" + getOrientation() + "'");
+        }
+
+        for (int vectorIndex = 0; vectorIndex < size && itemCount > itemIndex; vectorIndex++) {
+            int enabled;
+
+            if (getOrientation() == Orientation.HORIZONTAL) {
+                enabled = mask.amountOfEnabledSlotsInRow(vectorIndex);
+            } else if (getOrientation() == Orientation.VERTICAL) {
+                enabled = mask.amountOfEnabledSlotsInColumn(vectorIndex);
+            } else {
+                throw new IllegalStateException("Unknown orientation '" + getOrientation() + "'");
+            }
+
+            int[] items;
+
+            if (doesRepeat()) {
+                items = new int[enabled];
+            } else {
+                int remainingPositions = gapCount + (itemCount - itemIndex - 1) * (getGap() + 1) + 1;
+
+                items = new int[Math.min(enabled, remainingPositions)];
+            }
+
+            for (int index = 0; index < items.length; index++) {
+                if (gapCount == 0) {
+                    items[index] = itemIndex;
+
+                    itemIndex++;
+
+                    if (doesRepeat() && itemIndex >= itemCount) {
+                        itemIndex = 0;
+                    }
+
+                    gapCount = getGap();
+                } else {
+                    items[index] = -1;
+
+                    gapCount--;
+                }
+            }
+
+            int index;
+
+            if (getAlignment() == Alignment.BEGIN) {
+                index = 0;
+            } else if (getAlignment() == Alignment.CENTER) {
+                index = -((enabled - items.length) / 2);
+            } else {
+                throw new IllegalStateException("Unknown alignment '" + getAlignment() + "'");
+            }
+
+            for (int opposingVectorIndex = nextEnabled(vectorIndex, 0); opposingVectorIndex != -1;
+                 opposingVectorIndex = nextEnabled(vectorIndex, opposingVectorIndex + 1)) {
+                if (index >= 0 && index < items.length && items[index] != -1) {
+                    int x, y;
+
+                    if (getOrientation() == Orientation.HORIZONTAL) {
+                        x = opposingVectorIndex;
+                        y = vectorIndex;
+                    } else if (getOrientation() == Orientation.VERTICAL) {
+                        x = vectorIndex;
+                        y = opposingVectorIndex;
+                    } else {
+                        throw new IllegalStateException("Unknown orientation '" + getOrientation() + "'");
+                    }
+
+                    int position = transformTable[y * getLength() + x];
+
+                    if (position >= 0) {
+                        slots[amount] = position;
+                        itemIndices[amount] = items[index];
+                        amount++;
+                    }
+                }
+
+                index++;
+            }
+        }
+
+        this.layoutSlots = Arrays.copyOf(slots, amount);
+        this.layoutItems = Arrays.copyOf(itemIndices, amount);
+        this.layoutItemCount = itemCount;
+    }
+
+    /**
+     * Gets the next enabled slot of the mask within the specified row or column, depending on the orientation of this
+     * pane.
+     *
+     * @param vectorIndex the index of the row or column
+     * @param from the index within the row or column to start searching from, inclusive
+     * @return the index of the next enabled slot within the row or column, or -1 if there is none
+     * @since 0.12.1
+     */
+    @Contract(pure = true)
+    private int nextEnabled(int vectorIndex, int from) {
+        if (getOrientation() == Orientation.HORIZONTAL) {
+            return mask.nextEnabledInRow(vectorIndex, from);
+        } else if (getOrientation() == Orientation.VERTICAL) {
+            return mask.nextEnabledInColumn(vectorIndex, from);
+        } else {
+            throw new IllegalStateException("Unknown orientation '" + getOrientation() + "'");
+        }
+    }
+
     /**
      * Aligns the pane in the way specified by the provided alignment.
      *
@@ -372,16 +417,19 @@ public class OutlinePane extends Pane implements Flippable, Orientable, Rotatabl
      */
     public void align(@NotNull Alignment alignment) {
         this.alignment = alignment;
+        this.layoutSlots = null;
     }
 
     @Override
     public void flipHorizontally(boolean flipHorizontally) {
         this.flipHorizontally = flipHorizontally;
+        this.layoutSlots = null;
     }
 
     @Override
     public void flipVertically(boolean flipVertically) {
         this.flipVertically = flipVertically;
+        this.layoutSlots = null;
     }
 
     /**
@@ -391,11 +439,13 @@ public class OutlinePane extends Pane implements Flippable, Orientable, Rotatabl
      */
     public void setGap(int gap) {
         this.gap = gap;
+        this.layoutSlots = null;
     }
 
     @Override
     public void setOrientation(@NotNull Orientation orientation) {
         this.orientation = orientation;
+        this.layoutSlots = null;
     }
 
     /**
@@ -405,6 +455,7 @@ public class OutlinePane extends Pane implements Flippable, Orientable, Rotatabl
      */
     public void setRepeat(boolean repeat) {
         this.repeat = repeat;
+        this.layoutSlots = null;
     }
 
     @NotNull
@@ -40,6 +40,13 @@ public class PaginatedPane extends Pane {
      */
     private int page;
 
+    /**
+     * Orders positioned panes by the priority of their pane, from lowest to highest
+     */
+    @NotNull
+    private static final Comparator<PositionedPane> PRIORITY_ORDER =
+        Comparator.comparing(positionedPane -> positionedPane.getPane().getPriority());
+
     /**
      * Creates a new paginated pane
      *
@@ -130,11 +137,59 @@ public class PaginatedPane extends Pane {
 
         if (page == this.panes.size()) {
             addPage(slot, pane);
-        } else {
-            this.panes.get(page).add(new PositionedPane(slot, pane));
+            return;
+        }
+
+        List<PositionedPane> positionedPanes = this.panes.get(page);
+        PositionedPane positionedPane = new PositionedPane(slot, pane);
+
+        //the page is already sorted, so insert after the last pane with a priority that is not higher
+        int low = 0;
+        int high = positionedPanes.size();
+
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+
+            if (PRIORITY_ORDER.compare(positionedPanes.get(middle), positionedPane) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+
+        positionedPanes.add(low, positionedPane);
+    }
+
+    /**
+     * Adds multiple panes to a selected page at once. The panes are ordered by their priority a single time after all
+     * of them have been added, which is faster than adding them one by one with
+     * {@link #addPane(int, Slot, Pane)}. Panes with the same priority keep the order in which they were provided. The
+     * same rules for the page index apply as for {@link #addPane(int, Slot, Pane)}: if the page is exactly one larger
+     * than the current highest page index, a new page is created with the specified panes.
+     *
+     * @param page the page to assign the panes to
+     * @param panes the new panes with their slots
+     * @throws IllegalArgumentException if the page is less than 0 or more than one larger than the current highest page
+     * index
+     * @since 0.12.1
+     */
+    public void addPanes(int page, @NotNull Collection<? extends PositionedPane> panes) {
+        if (page < 0) {
+            throw new IllegalArgumentException("Non-positive page indexes are not allowed");
+        }
 
-            this.panes.get(page).sort(Comparator.comparing(positionedPane -> positionedPane.getPane().getPriority()));
+        if (page > this.panes.size()) {
+            throw new IllegalArgumentException("Page index outside range of existing pages");
         }
+
+        if (page == this.panes.size()) {
+            this.panes.add(new ArrayList<>(panes.size()));
+        }
+
+        List<PositionedPane> positionedPanes = this.panes.get(page);
+
+        positionedPanes.addAll(panes);
+        positionedPanes.sort(PRIORITY_ORDER);
     }
 
     /**
@@ -184,7 +239,7 @@ public class PaginatedPane extends Pane {
 				page.addItem(new GuiItem(items.get(index), plugin));
 			}
 
-			this.addPane(i, Slot.fromIndex(0), page);
+			this.addPanes(i, Collections.singletonList(new PositionedPane(Slot.fromIndex(0), page)));
 		}
 	}
 
@@ -228,7 +283,7 @@ public class PaginatedPane extends Pane {
                 page.addItem(items.get(index));
             }
 
-            this.addPane(i, Slot.fromIndex(0), page);
+            this.addPanes(i, Collections.singletonList(new PositionedPane(Slot.fromIndex(0), page)));
         }
     }
 
@@ -271,8 +326,24 @@ public class PaginatedPane extends Pane {
     @NotNull
     @Override
     public GuiItemContainer display() {
-        GuiItemContainer container = new GuiItemContainer(getLength(), getHeight());
+        return display(new GuiItemContainer(getLength(), getHeight()));
+    }
 
+    @NotNull
+    @Override
+    public GuiItemContainer displayForCompositing() {
+        return display(getDisplayContainer());
+    }
+
+    /**
+     * Places the items that should be displayed of this pane in the provided container.
+     *
+     * @param container the empty container to place the items in, with the size of this pane
+     * @return the provided container
+     * @since 0.12.1
+     */
+    @NotNull
+    private GuiItemContainer display(@NotNull GuiItemContainer container) {
         if (this.page < 0 || this.page >= this.panes.size()) {
             return container;
         }
@@ -283,7 +354,9 @@ public class PaginatedPane extends Pane {
             return container;
         }
 
-        for (PositionedPane positionedPane : panes) {
+        //composite from the highest priority down, skipping panes that are completely covered already
+        for (int i = panes.size() - 1; i >= 0; i--) {
+            PositionedPane positionedPane = panes.get(i);
             Pane pane = positionedPane.getPane();
 
             if (!pane.isVisible()) {
@@ -291,8 +364,14 @@ public class PaginatedPane extends Pane {
             }
 
             Slot slot = positionedPane.getSlot();
+            int x = slot.getX(getLength());
+            int y = slot.getY(getLength());
 
-            container.apply(pane.display(), slot.getX(getLength()), slot.getY(getLength()));
+            if (container.isFilled(x, y, pane.getLength(), pane.getHeight())) {
+                continue;
+            }
+
+            container.applyBelow(pane.displayForCompositing(), x, y);
         }
 
         return container;
@@ -341,10 +420,13 @@ public class PaginatedPane extends Pane {
 
         for (int page = 0; page < this.panes.size(); page++) {
             List<? extends PositionedPane> panes = this.panes.get(page);
+            List<PositionedPane> copies = new ArrayList<>(panes.size());
 
             for (PositionedPane positionedPane : panes) {
-                paginatedPane.addPane(page, positionedPane.getSlot(), positionedPane.getPane().copy());
+                copies.add(new PositionedPane(positionedPane.getSlot(), positionedPane.getPane().copy()));
             }
+
+            paginatedPane.addPanes(page, copies);
         }
 
         paginatedPane.setVisible(isVisible());
@@ -374,28 +456,48 @@ public class PaginatedPane extends Pane {
         this.panes.remove(page);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned collection is an unmodifiable view of all pages, in the order of their pages and, within a page, by
+     * priority. Panes added to or removed from this paginated pane later are reflected in it. A pane that was added
+     * multiple times, whether to the same page or to different pages, appears in the returned collection multiple
+     * times. The returned collection is not synchronized and no guarantees should be made as to the safety of
+     * concurrently accessing the returned collection. If synchronized behaviour should be allowed, the returned
+     * collection must be synchronized externally.
+     */
     @NotNull
     @Contract(pure = true)
     @Override
     public Collection<Pane> getPanes() {
-        Collection<Pane> panes = new HashSet<>();
-
-        for (List<? extends PositionedPane> positionedPanes : this.panes) {
-            for (PositionedPane positionedPane : positionedPanes) {
-                panes.add(positionedPane.getPane());
+        return new AbstractCollection<Pane>() {
+            @NotNull
+            @Override
+            public Iterator<Pane> iterator() {
+                return panes.stream().flatMap(List::stream).map(PositionedPane::getPane).iterator();
             }
-        }
 
-        return panes;
+            @Override
+            public int size() {
+                int size = 0;
+
+                for (List<? extends PositionedPane> positionedPanes : panes) {
+                    size += positionedPanes.size();
+                }
+
+                return size;
+            }
+        };
     }
 
     /**
      * Gets all the panes from inside the specified page of this pane. If the specified page is not existent, this
-     * method will throw an {@link IllegalArgumentException}. If the specified page is existent, but doesn't
-     * have any panes, the returned collection will be empty. The returned collection is unmodifiable. The returned
-     * collection is not synchronized and no guarantees should be made as to the safety of concurrently accessing the
-     * returned collection. If synchronized behaviour should be allowed, the returned collection must be synchronized
-     * externally.
+     * method will throw an {@link IllegalArgumentException}. If the specified page is existent, but doesn't have any
+     * panes, the returned collection will be empty. The returned collection is an unmodifiable view of the page,
+     * ordered by priority, so panes added to the page later will also appear in it. A pane that was added to the page
+     * multiple times appears in the returned collection multiple times. The returned collection is not synchronized and
+     * no guarantees should be made as to the safety of concurrently accessing the returned collection. If synchronized
+     * behaviour should be allowed, the returned collection must be synchronized externally.
      *
      * @param page the panes of this page will be returned
      * @return a collection of panes belonging to the specified page
@@ -405,30 +507,61 @@ public class PaginatedPane extends Pane {
     @NotNull
     @Contract(pure = true)
     public Collection<Pane> getPanes(int page) {
-        if (page < 0 || this.page >= this.panes.size()) {
+        if (page < 0 || page >= this.panes.size()) {
             throw new IllegalArgumentException("Invalid page");
         }
 
-        Collection<? extends PositionedPane> positionedPanes = this.panes.get(page);
+        List<? extends PositionedPane> positionedPanes = this.panes.get(page);
 
         if (positionedPanes == null) {
             throw new IllegalArgumentException("Invalid page");
         }
 
-        Collection<Pane> panes = new HashSet<>(positionedPanes.size());
-
-        for (PositionedPane positionedPane : positionedPanes) {
-            panes.add(positionedPane.getPane());
-        }
+        return new AbstractList<Pane>() {
+            @NotNull
+            @Override
+            public Pane get(int index) {
+                return positionedPanes.get(index).getPane();
+            }
 
-        return Collections.unmodifiableCollection(panes);
+            @Override
+            public int size() {
+                return positionedPanes.size();
+            }
+        };
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The returned collection is an unmodifiable view of the items of all panes returned by {@link #getPanes()}, in the
+     * same order, so changes to the panes are reflected in it. The items of a pane that was added multiple times appear
+     * in the returned collection multiple times. Since the items are gathered from the panes whenever the returned
+     * collection is accessed, iterate over it once rather than querying it repeatedly, or copy it if it is needed
+     * multiple times.
+     */
     @NotNull
     @Contract(pure = true)
     @Override
     public Collection<GuiItem> getItems() {
-        return getPanes().stream().flatMap(pane -> pane.getItems().stream()).collect(Collectors.toList());
+        return new AbstractCollection<GuiItem>() {
+            @NotNull
+            @Override
+            public Iterator<GuiItem> iterator() {
+                return getPanes().stream().flatMap(pane -> pane.getItems().stream()).iterator();
+            }
+
+            @Override
+            public int size() {
+                int size = 0;
+
+                for (Pane pane : getPanes()) {
+                    size += pane.getItems().size();
+                }
+
+                return size;
+            }
+        };
     }
 
     @Override
@@ -495,6 +628,7 @@ public class PaginatedPane extends Pane {
                 throw new XMLLoadException("Panes have to be inside page tag");
 
             NodeList innerNodes = item.getChildNodes();
+            List<PositionedPane> panes = new ArrayList<>(innerNodes.getLength());
 
             for (int j = 0; j < innerNodes.getLength(); j++) {
                 Node innerNode = innerNodes.item(j);
@@ -505,9 +639,11 @@ public class PaginatedPane extends Pane {
 
                 Pane pane = Gui.loadPane(instance, innerNode, plugin);
 
-                paginatedPane.addPane(pageCount, Slot.deserialize((Element) innerNode), pane);
+                panes.add(new PositionedPane(Slot.deserialize((Element) innerNode), pane));
             }
 
+            paginatedPane.addPanes(pageCount, panes);
+
             pageCount++;
         }
 
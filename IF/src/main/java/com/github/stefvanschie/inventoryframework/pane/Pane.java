@@ -56,6 +56,12 @@ public abstract class Pane {
      */
     protected UUID uuid;
 
+    /**
+     * The container handed out by {@link #getDisplayContainer()}, or null if none has been requested yet
+     */
+    @Nullable
+    private GuiItemContainer displayContainer;
+
     /**
      * Constructs a new default pane
      *
@@ -163,13 +169,60 @@ public abstract class Pane {
 
     /**
      * Returns a {@link GuiItemContainer} with all the items that should be displayed of this pane.
+     * <p>
+     * When panes are composited inside a gui component or a pane holding other panes, a pane that is completely covered
+     * by panes with a higher priority is not displayed at all, so this method is not called for it. Implementations
+     * should therefore not rely on this method being called on every update, for example to perform side effects.
+     * <p>
+     * The returned container belongs to the caller: it is not modified by this pane afterwards.
      *
      * @return a container containing all the items to be displayed
      * @since 0.12.0
+     * @see #displayForCompositing()
      */
     @NotNull
     public abstract GuiItemContainer display();
 
+    /**
+     * Returns a {@link GuiItemContainer} with all the items that should be displayed of this pane, for compositing them
+     * into another container right away. Unlike {@link #display()}, the returned container may be reused by this pane,
+     * so it is only valid until this pane is displayed again; it should neither be modified nor kept around. Gui
+     * components and panes holding other panes use this while rendering, so panes that composite the items of other
+     * panes do not allocate a new container on every update. By default, this returns the result of
+     * {@link #display()}.
+     *
+     * @return a container containing all the items to be displayed
+     * @since 0.12.1
+     */
+    @NotNull
+    public GuiItemContainer displayForCompositing() {
+        return display();
+    }
+
+    /**
+     * Gets an empty container with the size of this pane, for panes that composite the items of other panes in
+     * {@link #displayForCompositing()}. The same container is reused for every call as long as the size of this pane
+     * doesn't change, so rendering does not allocate a new container for every level of nested panes. The returned
+     * container is only valid until the next call to this method, so it must not be returned from {@link #display()}.
+     *
+     * @return an empty container the size of this pane
+     * @since 0.12.1
+     */
+    @NotNull
+    protected GuiItemContainer getDisplayContainer() {
+        GuiItemContainer container = this.displayContainer;
+
+        if (container == null || container.getLength() != getLength() || container.getHeight() != getHeight()) {
+            container = new GuiItemContainer(getLength(), getHeight());
+
+            this.displayContainer = container;
+        } else {
+            container.clearItems();
+        }
+
+        return container;
+    }
+
     /**
      * Returns the pane's visibility state
      *
@@ -398,59 +451,14 @@ public abstract class Pane {
             throw new IllegalArgumentException("Height should be non-negative");
         }
 
-        String[] mask = new String[height];
-
-        if (height > 0) {
-            mask[0] = createLine(length);
-        }
-
-        if (height > 1) {
-            mask[height - 1] = createLine(length);
-        }
-
-        for (int yIndex = 1; yIndex < height - 1; yIndex++) {
-            StringBuilder builder = new StringBuilder("1");
-
-            for (int i = 0; i < length - 2; i++) {
-                builder.append('0');
-            }
-
-            mask[yIndex] = builder.append('1').toString();
-        }
-
         OutlinePane pane = new OutlinePane(length, height);
-        pane.applyMask(new Mask(mask));
+        pane.applyMask(Mask.border(length, height));
         pane.addItem(item);
         pane.setRepeat(true);
 
         return pane;
     }
 
-    /**
-     * Creates a string containing the character '1' repeated length amount of times. If the provided length is negative
-     * an {@link IllegalArgumentException} will be thrown.
-     *
-     * @param length the length of the string
-     * @return the string containing '1's
-     * @since 0.10.7
-     * @throws IllegalArgumentException if length is negative
-     */
-    @NotNull
-    @Contract(pure = true)
-    private static String createLine(int length) {
-        if (length < 0) {
-            throw new IllegalArgumentException("Length should be non-negative");
-        }
-
-        StringBuilder builder = new StringBuilder();
-
-        for (int i = 0; i < length; i++) {
-            builder.append('1');
-        }
-
-        return builder.toString();
-    }
-
     /**
      * An enum representing the rendering priorities for the panes. Uses a similar system to Bukkit's
      * {@link org.bukkit.event.EventPriority} system
@@ -13,6 +13,7 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -54,6 +55,27 @@ public class PatternPane extends Pane implements Flippable, Rotatable {
      */
     private boolean flippedVertically;
 
+    /**
+     * The item bound to the character at each position in the pattern, as an index of the form {@code y * length + x},
+     * or null if the character is not bound. This is kept up to date with the pattern and the bindings.
+     */
+    @Nullable
+    private GuiItem @NotNull [] slotItems;
+
+    /**
+     * Maps the position of each item to the position it is displayed at after flipping and rotating. This is created
+     * when first needed and discarded whenever the flipping, rotation or dimensions of this pane change.
+     */
+    @Nullable
+    private int[] transformTable;
+
+    /**
+     * The inverse of {@link #transformTable}, mapping each displayed position back to the position of its item, or -1
+     * if no item is displayed there. This is created together with the transform table.
+     */
+    @Nullable
+    private int[] inverseTransformTable;
+
     /**
      * Constructs a new pattern pane.
      *
@@ -74,6 +96,7 @@ public class PatternPane extends Pane implements Flippable, Rotatable {
         }
 
         this.pattern = pattern;
+        this.slotItems = new GuiItem[length * height];
     }
 
     /**
@@ -93,30 +116,22 @@ public class PatternPane extends Pane implements Flippable, Rotatable {
     @Override
     public GuiItemContainer display() {
         GuiItemContainer container = new GuiItemContainer(getLength(), getHeight());
+        int[] transformTable = getTransformTable();
 
-        for (int x = 0; x < getLength(); x++) {
-            for (int y = 0; y < getHeight(); y++) {
-                GuiItem item = this.bindings.get(pattern.getCharacter(x, y));
-
-                if (item == null || !item.isVisible()) {
-                    continue;
-                }
-
-                int newX = x, newY = y;
+        for (int index = 0; index < this.slotItems.length; index++) {
+            GuiItem item = this.slotItems[index];
 
-                if (isFlippedHorizontally()) {
-                    newX = getLength() - x - 1;
-                }
-
-                if (isFlippedVertically()) {
-                    newY = getHeight() - y - 1;
-                }
+            if (item == null || !item.isVisible()) {
+                continue;
+            }
 
-                Map.Entry<Integer, Integer> coordinates = GeometryUtil.processClockwiseRotation(newX, newY, getLength(),
-                    getHeight(), rotation);
+            int position = transformTable[index];
 
-                container.setItem(item, coordinates.getKey(), coordinates.getValue());
+            if (position < 0) {
+                continue;
             }
+
+            container.setItem(item, position % getLength(), position / getLength());
         }
 
         return container;
@@ -141,9 +156,9 @@ public class PatternPane extends Pane implements Flippable, Rotatable {
             return false;
         }
 
-        GuiItem clickedItem = findMatchingItem(getItems(), itemStack);
+        GuiItem clickedItem = getDisplayedItem(x, y);
 
-        if (clickedItem == null) {
+        if (clickedItem == null || !matchesItem(clickedItem, itemStack)) {
             return false;
         }
 
@@ -181,6 +196,7 @@ public class PatternPane extends Pane implements Flippable, Rotatable {
         }
 
         this.rotation = rotation % 360;
+        this.transformTable = null;
     }
 
     /**
@@ -221,6 +237,8 @@ public class PatternPane extends Pane implements Flippable, Rotatable {
         }
 
         this.pattern = pattern;
+
+        compileBindings();
     }
 
     @Override
@@ -228,6 +246,9 @@ public class PatternPane extends Pane implements Flippable, Rotatable {
         super.setHeight(height);
 
         this.pattern = this.pattern.setHeight(height);
+        this.transformTable = null;
+
+        compileBindings();
     }
 
     @Override
@@ -235,6 +256,9 @@ public class PatternPane extends Pane implements Flippable, Rotatable {
         super.setLength(length);
 
         this.pattern = this.pattern.setLength(length);
+        this.transformTable = null;
+
+        compileBindings();
     }
 
     /**
@@ -246,7 +270,7 @@ public class PatternPane extends Pane implements Flippable, Rotatable {
      * @since 0.9.8
      */
     public void bindItem(char character, @NotNull GuiItem item) {
-        this.bindings.put((int) character, item);
+        bindItem((int) character, item);
     }
 
     /**
@@ -260,21 +284,105 @@ public class PatternPane extends Pane implements Flippable, Rotatable {
      */
     public void bindItem(int character, @NotNull GuiItem item) {
         this.bindings.put(character, item);
+
+        for (int y = 0; y < getHeight(); y++) {
+            int[] row = this.pattern.getRow(y);
+
+            for (int x = 0; x < row.length; x++) {
+                if (row[x] == character) {
+                    this.slotItems[y * getLength() + x] = item;
+                }
+            }
+        }
     }
 
     @Override
     public void clear() {
         this.bindings.clear();
+
+        Arrays.fill(this.slotItems, null);
+    }
+
+    /**
+     * Looks up the item bound to the character at each position in the pattern, so the items can be retrieved by their
+     * position without going through the bindings.
+     *
+     * @since 0.12.1
+     */
+    private void compileBindings() {
+        this.slotItems = new GuiItem[getLength() * getHeight()];
+
+        for (int y = 0; y < getHeight(); y++) {
+            int[] row = this.pattern.getRow(y);
+
+            for (int x = 0; x < row.length; x++) {
+                this.slotItems[y * getLength() + x] = this.bindings.get(row[x]);
+            }
+        }
     }
 
     @Override
     public void flipHorizontally(boolean flipHorizontally) {
         this.flippedHorizontally = flipHorizontally;
+        this.transformTable = null;
     }
 
     @Override
     public void flipVertically(boolean flipVertically) {
         this.flippedVertically = flipVertically;
+        this.transformTable = null;
+    }
+
+    /**
+     * Gets the table that maps the position of each item to the position it is displayed at after flipping and
+     * rotating, creating it and its inverse if they do not exist yet.
+     *
+     * @return the transform table
+     * @since 0.12.1
+     * @see GeometryUtil#createTransformTable(int, int, boolean, boolean, int)
+     */
+    @NotNull
+    private int[] getTransformTable() {
+        if (this.transformTable == null) {
+            int[] transformTable = GeometryUtil.createTransformTable(getLength(), getHeight(), flippedHorizontally,
+                flippedVertically, rotation);
+            int[] inverseTransformTable = new int[transformTable.length];
+
+            Arrays.fill(inverseTransformTable, -1);
+
+            for (int index = 0; index < transformTable.length; index++) {
+                if (transformTable[index] >= 0) {
+                    inverseTransformTable[transformTable[index]] = index;
+                }
+            }
+
+            this.transformTable = transformTable;
+            this.inverseTransformTable = inverseTransformTable;
+        }
+
+        return this.transformTable;
+    }
+
+    /**
+     * Gets the item displayed at the specified position of this pane after flipping and rotating, regardless of its
+     * visibility. The coordinates must lie within this pane.
+     *
+     * @param x the x coordinate of the displayed position
+     * @param y the y coordinate of the displayed position
+     * @return the item displayed at this position, or null if there is no such item
+     * @since 0.12.1
+     */
+    @Nullable
+    GuiItem getDisplayedItem(int x, int y) {
+        getTransformTable();
+
+        int position = this.inverseTransformTable[y * getLength() + x];
+
+        if (position < 0) {
+            return null;
+        }
+
+        return this.slotItems[position];
     }
 
     @NotNull
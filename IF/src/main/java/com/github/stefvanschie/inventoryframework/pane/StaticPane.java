@@ -33,10 +33,23 @@ import java.util.function.Consumer;
 public class StaticPane extends Pane implements Flippable, Rotatable {
 
 	/**
-	 * A map of locations inside this pane and their item.
+	 * The items inside this pane, indexed by their position as {@code y * length + x}.
+	 */
+	@Nullable
+	private GuiItem @NotNull [] items;
+
+	/**
+	 * The slots the items in {@link #items} were added with, at the same index as their item.
+	 */
+	@Nullable
+	private Slot @NotNull [] slots;
+
+	/**
+	 * Items with a slot outside the bounds of this pane. These are not displayed, but are kept in case the pane is
+	 * resized.
 	 */
 	@NotNull
-	private final Map<Slot, GuiItem> items;
+	private final Map<Slot, GuiItem> outOfBoundsItems = new HashMap<>();
 
 	/**
 	 * The clockwise rotation of this pane in degrees
@@ -48,6 +61,13 @@ public class StaticPane extends Pane implements Flippable, Rotatable {
 	 */
 	private boolean flipHorizontally, flipVertically;
 
+    /**
+     * Maps the position of each item to the position it is displayed at after flipping and rotating. This is created
+     * when first needed and discarded whenever the flipping, rotation or dimensions of this pane change.
+     */
+    @Nullable
+    private int[] transformTable;
+
     /**
      * Creates a new static pane.
      *
@@ -59,7 +79,8 @@ public class StaticPane extends Pane implements Flippable, Rotatable {
     public StaticPane(int length, int height, @NotNull Priority priority) {
         super(length, height, priority);
 
-        this.items = new HashMap<>(length * height);
+        this.items = new GuiItem[length * height];
+        this.slots = new Slot[length * height];
     }
 
     /**
@@ -76,32 +97,27 @@ public class StaticPane extends Pane implements Flippable, Rotatable {
     @NotNull
 	@Override
 	public GuiItemContainer display() {
-        GuiItemContainer container = new GuiItemContainer(getLength(), getHeight());
+        int length = getLength();
+        int height = getHeight();
+        int[] transformTable = getTransformTable();
 
-		items.entrySet().stream().filter(entry -> entry.getValue().isVisible()).forEach(entry -> {
-			Slot location = entry.getKey();
+        GuiItemContainer container = new GuiItemContainer(length, height);
 
-			int x = location.getX(getLength());
-            int y = location.getY(getLength());
+        for (int index = 0; index < this.items.length; index++) {
+            GuiItem item = this.items[index];
 
-			if (flipHorizontally)
-				x = length - x - 1;
-
-			if (flipVertically)
-				y = height - y - 1;
-
-			Map.Entry<Integer, Integer> coordinates = GeometryUtil.processClockwiseRotation(x, y, getLength(),
-                    getHeight(), rotation);
+            if (item == null || !item.isVisible()) {
+                continue;
+            }
 
-			x = coordinates.getKey();
-			y = coordinates.getValue();
+            int position = transformTable[index];
 
-			if (x < 0 || x >= getLength() || y < 0 || y >= getHeight()) {
-			    return;
+            if (position < 0) {
+                continue;
             }
 
-            container.setItem(entry.getValue(), x, y);
-		});
+            container.setItem(item, position % length, position / length);
+        }
 
         return container;
 	}
@@ -118,9 +134,17 @@ public class StaticPane extends Pane implements Flippable, Rotatable {
         int x = slot.getX(getLength());
         int y = slot.getY(getLength());
 
-        this.items.keySet().removeIf(s -> s.getX(getLength()) == x && s.getY(getLength()) == y);
+        removeItem(x, y);
+
+        if (!isInBounds(x, y)) {
+            this.outOfBoundsItems.put(slot, item);
+            return;
+        }
+
+        int index = y * getLength() + x;
 
-        this.items.put(slot, item);
+        this.items[index] = item;
+        this.slots[index] = slot;
     }
 
 	/**
@@ -142,7 +166,14 @@ public class StaticPane extends Pane implements Flippable, Rotatable {
      * @since 0.5.8
      */
     public void removeItem(@NotNull GuiItem item) {
-        items.values().removeIf(guiItem -> guiItem.equals(item));
+        for (int index = 0; index < this.items.length; index++) {
+            if (item.equals(this.items[index])) {
+                this.items[index] = null;
+                this.slots[index] = null;
+            }
+        }
+
+        this.outOfBoundsItems.values().removeIf(guiItem -> guiItem.equals(item));
     }
 
     /**
@@ -155,7 +186,17 @@ public class StaticPane extends Pane implements Flippable, Rotatable {
      * @see #removeItem(Slot)
      */
     public void removeItem(int x, int y) {
-        this.items.keySet().removeIf(s -> s.getX(getLength()) == x && s.getY(getLength()) == y);
+        if (isInBounds(x, y)) {
+            int index = y * getLength() + x;
+
+            this.items[index] = null;
+            this.slots[index] = null;
+            return;
+        }
+
+        if (!this.outOfBoundsItems.isEmpty()) {
+            this.outOfBoundsItems.keySet().removeIf(s -> s.getX(getLength()) == x && s.getY(getLength()) == y);
+        }
     }
 
     /**
@@ -188,7 +229,7 @@ public class StaticPane extends Pane implements Flippable, Rotatable {
             return false;
         }
 
-        GuiItem clickedItem = findMatchingItem(items.values(), itemStack);
+        GuiItem clickedItem = findMatchingItem(getItems(), itemStack);
 
         if (clickedItem == null) {
             return false;
@@ -205,7 +246,7 @@ public class StaticPane extends Pane implements Flippable, Rotatable {
     public StaticPane copy() {
         StaticPane staticPane = new StaticPane(getLength(), getHeight(), getPriority());
 
-        for (Map.Entry<Slot, GuiItem> entry : items.entrySet()) {
+        for (Map.Entry<Slot, GuiItem> entry : getSlottedItems().entrySet()) {
             staticPane.addItem(entry.getValue().copy(), entry.getKey());
         }
 
@@ -231,6 +272,7 @@ public class StaticPane extends Pane implements Flippable, Rotatable {
 		}
 
 		this.rotation = rotation % 360;
+		this.transformTable = null;
 	}
 
 	/**
@@ -244,23 +286,10 @@ public class StaticPane extends Pane implements Flippable, Rotatable {
 	 */
 	public void fillWith(@NotNull ItemStack itemStack, @Nullable Consumer<? super InventoryClickEvent> action,
                          @NotNull Plugin plugin) {
-		//The non empty spots
-		Set<Slot> locations = this.items.keySet();
-
-		for (int y = 0; y < this.getHeight(); y++) {
-			for (int x = 0; x < this.getLength(); x++) {
-				boolean found = false;
-
-				for (Slot location : locations) {
-					if (location.getX(getLength()) == x && location.getY(getLength()) == y) {
-						found = true;
-						break;
-					}
-				}
-
-				if (!found) {
-					this.addItem(new GuiItem(itemStack, action, plugin), x, y);
-				}
+		for (int index = 0; index < this.items.length; index++) {
+			if (this.items[index] == null) {
+				this.items[index] = new GuiItem(itemStack, action, plugin);
+				this.slots[index] = Slot.fromXY(index % getLength(), index / getLength());
 			}
 		}
 	}
@@ -305,7 +334,11 @@ public class StaticPane extends Pane implements Flippable, Rotatable {
         int x = slot.getX(getLength());
         int y = slot.getY(getLength());
 
-        for (Map.Entry<Slot, GuiItem> entry : this.items.entrySet()) {
+        if (isInBounds(x, y)) {
+            return this.items[y * getLength() + x];
+        }
+
+        for (Map.Entry<Slot, GuiItem> entry : this.outOfBoundsItems.entrySet()) {
             Slot key = entry.getKey();
 
             if (key.getX(getLength()) == x && key.getY(getLength()) == y) {
@@ -319,7 +352,17 @@ public class StaticPane extends Pane implements Flippable, Rotatable {
 	@NotNull
 	@Override
 	public Collection<GuiItem> getItems() {
-		return items.values();
+		List<GuiItem> items = new ArrayList<>(this.items.length + this.outOfBoundsItems.size());
+
+		for (GuiItem item : this.items) {
+			if (item != null) {
+				items.add(item);
+			}
+		}
+
+		items.addAll(this.outOfBoundsItems.values());
+
+		return items;
 	}
 
     /**
@@ -333,12 +376,97 @@ public class StaticPane extends Pane implements Flippable, Rotatable {
     @NotNull
     @Contract(pure = true)
     public Map<@NotNull Slot, @NotNull GuiItem> getSlottedItems() {
-        return Collections.unmodifiableMap(this.items);
+        Map<Slot, GuiItem> slottedItems = new LinkedHashMap<>();
+
+        for (int index = 0; index < this.items.length; index++) {
+            GuiItem item = this.items[index];
+
+            if (item != null) {
+                slottedItems.put(this.slots[index], item);
+            }
+        }
+
+        slottedItems.putAll(this.outOfBoundsItems);
+
+        return Collections.unmodifiableMap(slottedItems);
+    }
+
+    @Override
+    public void setLength(int length) {
+        Map<Slot, GuiItem> slottedItems = getSlottedItems();
+
+        super.setLength(length);
+
+        this.transformTable = null;
+
+        resize(slottedItems);
+    }
+
+    @Override
+    public void setHeight(int height) {
+        Map<Slot, GuiItem> slottedItems = getSlottedItems();
+
+        super.setHeight(height);
+
+        this.transformTable = null;
+
+        resize(slottedItems);
     }
 
     @Override
     public void clear() {
-        items.clear();
+        Arrays.fill(this.items, null);
+        Arrays.fill(this.slots, null);
+
+        this.outOfBoundsItems.clear();
+    }
+
+    /**
+     * Recreates the storage of this pane for its current dimensions and adds the specified items back in. Slots
+     * specified as an index are resolved again, since their position depends on the length of this pane.
+     *
+     * @param slottedItems the items to add back in by their slot
+     * @since 0.12.1
+     */
+    private void resize(@NotNull Map<Slot, GuiItem> slottedItems) {
+        this.items = new GuiItem[getLength() * getHeight()];
+        this.slots = new Slot[getLength() * getHeight()];
+        this.outOfBoundsItems.clear();
+
+        for (Map.Entry<Slot, GuiItem> entry : slottedItems.entrySet()) {
+            addItem(entry.getValue(), entry.getKey());
+        }
+    }
+
+    /**
+     * Gets the table that maps the position of each item to the position it is displayed at after flipping and
+     * rotating, creating it if it does not exist yet.
+     *
+     * @return the transform table
+     * @since 0.12.1
+     * @see GeometryUtil#createTransformTable(int, int, boolean, boolean, int)
+     */
+    @NotNull
+    private int[] getTransformTable() {
+        if (this.transformTable == null) {
+            this.transformTable = GeometryUtil.createTransformTable(getLength(), getHeight(), flipHorizontally,
+                flipVertically, rotation);
+        }
+
+        return this.transformTable;
+    }
+
+    /**
+     * Checks whether the specified coordinates lie within the bounds of this pane.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return true if the coordinates are within bounds, false otherwise
+     * @since 0.12.1
+     */
+    @Contract(pure = true)
+    private boolean isInBounds(int x, int y) {
+        return x >= 0 && x < getLength() && y >= 0 && y < getHeight();
     }
 
 	@NotNull
@@ -351,11 +479,13 @@ public class StaticPane extends Pane implements Flippable, Rotatable {
 	@Override
 	public void flipHorizontally(boolean flipHorizontally) {
 		this.flipHorizontally = flipHorizontally;
+		this.transformTable = null;
 	}
 
 	@Override
 	public void flipVertically(boolean flipVertically) {
 		this.flipVertically = flipVertically;
+		this.transformTable = null;
 	}
 
 	@Contract(pure = true)
@@ -90,9 +90,25 @@ public class CycleButton extends Pane {
     @NotNull
     @Override
     public GuiItemContainer display() {
-        GuiItemContainer container = new GuiItemContainer(getLength(), getHeight());
+        return display(new GuiItemContainer(getLength(), getHeight()));
+    }
+
+    @NotNull
+    @Override
+    public GuiItemContainer displayForCompositing() {
+        return display(getDisplayContainer());
+    }
 
-        container.apply(this.panes.get(this.position).display(), 0, 0);
+    /**
+     * Places the items that should be displayed of this pane in the provided container.
+     *
+     * @param container the empty container to place the items in, with the size of this pane
+     * @return the provided container
+     * @since 0.12.1
+     */
+    @NotNull
+    private GuiItemContainer display(@NotNull GuiItemContainer container) {
+        container.apply(this.panes.get(this.position).displayForCompositing(), 0, 0);
 
         return container;
     }
@@ -14,19 +14,32 @@ import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.w3c.dom.Element;
 
-import java.util.Collection;
-import java.util.Collections;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 /**
  * A label for displaying text.
+ * <p>
+ * Labels whose text changes often can opt in to caching via {@link #setCached(boolean)}. A cached label looks up the
+ * items of its characters in a glyph cache shared by all labels, keyed by font and character, and reuses the items of
+ * characters that did not change since the previous text.
  *
  * @since 0.5.0
  */
 public class Label extends Pane {
 
+    /**
+     * The resolved item per character, for each font used by a cached label. The items in here are never modified and
+     * must be copied before use. The fonts are weakly referenced, so fonts which are no longer used can be collected.
+     * Access to this map must be synchronized on the map.
+     */
+    @NotNull
+    private static final Map<Font, Map<Character, ItemStack>> GLYPH_CACHE = new WeakHashMap<>();
+
     /**
      * The character set used for displaying the characters in this label
      */
@@ -51,6 +64,30 @@ public class Label extends Pane {
     @NotNull
     private final Plugin plugin;
 
+    /**
+     * The processor used by {@link #setText(String)}
+     */
+    @NotNull
+    private final BiFunction<? super @NotNull Character, ? super @NotNull ItemStack, ? extends @NotNull GuiItem>
+        defaultProcessor;
+
+    /**
+     * Whether the rendered text should be cached
+     */
+    private boolean cached;
+
+    /**
+     * The items currently displayed for each character of the text, or null if these cannot be reused
+     */
+    @Nullable
+    private GuiItem[] textItems;
+
+    /**
+     * The processor with which the current text items were created, or null if there are none
+     */
+    @Nullable
+    private BiFunction<? super @NotNull Character, ? super @NotNull ItemStack, ? extends @NotNull GuiItem> processor;
+
     /**
      * Creates a new label
      *
@@ -70,6 +107,7 @@ public class Label extends Pane {
         this.text = "";
 
         this.plugin = plugin;
+        this.defaultProcessor = (character, item) -> new GuiItem(item, this.plugin);
 
         setPriority(priority);
     }
@@ -125,26 +163,35 @@ public class Label extends Pane {
     public void setText(@NotNull String text,
                         @NotNull BiFunction<? super @NotNull Character, ? super @NotNull ItemStack,
                                 ? extends @NotNull GuiItem> processor) {
-        this.text = text;
+        String previousText = this.text;
+        GuiItem[] previousItems = processor == this.processor ? this.textItems : null;
 
         clear();
 
-        for (char character : text.toCharArray()) {
-            ItemStack item = font.toItem(character);
+        this.text = text;
 
-            if (item == null) {
-                item = font.toItem(Character.toUpperCase(character));
-            }
+        GuiItem[] textItems = new GuiItem[text.length()];
 
-            if (item == null) {
-                item = font.toItem(Character.toLowerCase(character));
-            }
+        for (int index = 0; index < text.length(); index++) {
+            char character = text.charAt(index);
+            GuiItem guiItem;
+
+            if (previousItems != null && index < previousItems.length && previousText.charAt(index) == character) {
+                guiItem = previousItems[index];
+            } else {
+                ItemStack item = this.cached ? getCachedItem(this.font, character) : toItem(this.font, character);
 
-            if (item == null) {
-                item = font.getDefaultItem();
+                guiItem = processor.apply(character, item.clone());
             }
 
-            this.pane.addItem(processor.apply(character, item.clone()));
+            textItems[index] = guiItem;
+
+            this.pane.addItem(guiItem);
+        }
+
+        if (this.cached) {
+            this.textItems = textItems;
+            this.processor = processor;
         }
     }
 
@@ -156,7 +203,7 @@ public class Label extends Pane {
      * @since 0.5.0
      */
     public void setText(@NotNull String text) {
-        setText(text, (character, item) -> new GuiItem(item, this.plugin));
+        setText(text, this.defaultProcessor);
     }
 
     @NotNull
@@ -172,6 +219,7 @@ public class Label extends Pane {
         label.uuid = uuid;
 
         label.text = text;
+        label.cached = cached;
 
         return label;
     }
@@ -199,6 +247,42 @@ public class Label extends Pane {
     @Override
     public void clear() {
         this.pane.clear();
+
+        this.textItems = null;
+        this.processor = null;
+    }
+
+    /**
+     * Sets whether the rendered text of this label should be cached. When enabled, the item of each character is
+     * resolved from the font only once and shared with all other cached labels using the same font, while the items of
+     * characters that remain the same between successive calls to {@link #setText(String, BiFunction)} with the same
+     * processor are reused, rather than created again. This is useful for labels whose text changes frequently. Reused
+     * items are the exact same instances as before, so a processor which creates items that depend on anything other
+     * than the character and its item should not be combined with caching. Likewise, a font whose items change over
+     * time should not be used by a cached label. Caching is disabled by default.
+     *
+     * @param cached whether the rendered text should be cached
+     * @since 0.12.1
+     */
+    public void setCached(boolean cached) {
+        this.cached = cached;
+
+        if (!cached) {
+            this.textItems = null;
+            this.processor = null;
+        }
+    }
+
+    /**
+     * Gets whether the rendered text of this label is cached.
+     *
+     * @return true if the rendered text is cached, false otherwise
+     * @see #setCached(boolean)
+     * @since 0.12.1
+     */
+    @Contract(pure = true)
+    public boolean isCached() {
+        return cached;
     }
 
     @NotNull
@@ -284,10 +368,71 @@ public class Label extends Pane {
             return label;
         }
 
+        if (element.hasAttribute("cached")) {
+            label.setCached(Boolean.parseBoolean(element.getAttribute("cached")));
+        }
+
         if (element.hasAttribute("text")) {
             label.setText(element.getAttribute("text"));
         }
 
         return label;
     }
+
+    /**
+     * Gets the item for the provided character in the provided font from the glyph cache. If the character isn't cached
+     * yet for this font, its item is resolved via {@link #toItem(Font, char)} and cached. The returned item must not be
+     * modified.
+     *
+     * @param font the font
+     * @param character the character
+     * @return the item for the character
+     * @since 0.12.1
+     */
+    @NotNull
+    private static ItemStack getCachedItem(@NotNull Font font, char character) {
+        Map<Character, ItemStack> glyphs;
+
+        synchronized (GLYPH_CACHE) {
+            glyphs = GLYPH_CACHE.computeIfAbsent(font, key -> new ConcurrentHashMap<>());
+        }
+
+        ItemStack item = glyphs.get(character);
+
+        if (item != null) {
+            return item;
+        }
+
+        return glyphs.computeIfAbsent(character, key -> toItem(font, character).clone());
+    }
+
+    /**
+     * Gets the item for the provided character in the provided font. If the font has no item for the character itself,
+     * its upper case and lower case variants are tried, after which the default item of the font is used. The returned
+     * item should be copied before it is modified.
+     *
+     * @param font the font
+     * @param character the character
+     * @return the item for the character
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static ItemStack toItem(@NotNull Font font, char character) {
+        ItemStack item = font.toItem(character);
+
+        if (item == null) {
+            item = font.toItem(Character.toUpperCase(character));
+        }
+
+        if (item == null) {
+            item = font.toItem(Character.toLowerCase(character));
+        }
+
+        if (item == null) {
+            item = font.getDefaultItem();
+        }
+
+        return item;
+    }
 }
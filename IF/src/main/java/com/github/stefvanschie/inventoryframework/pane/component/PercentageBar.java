@@ -79,10 +79,16 @@ public class PercentageBar extends VariableBar {
             return false;
         }
 
+        float percentage = getPercentage();
+
         callOnClick(event);
 
         event.setCancelled(true);
 
+        if (getPercentage() != percentage && !placeChangedSlots(gui, guiComponent, event, slot)) {
+            gui.update();
+        }
+
         if (this.fillPane.click(gui, guiComponent, event, slot)) {
             return true;
         }
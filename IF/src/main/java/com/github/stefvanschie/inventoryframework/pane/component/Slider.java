@@ -95,7 +95,9 @@ public class Slider extends VariableBar {
             success = this.backgroundPane.click(gui, guiComponent, event, slot);
         }
 
-        gui.update();
+        if (!placeChangedSlots(gui, guiComponent, event, slot)) {
+            gui.update();
+        }
 
         return success;
     }
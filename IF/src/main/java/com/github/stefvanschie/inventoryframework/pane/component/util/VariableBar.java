@@ -1,17 +1,24 @@
 package com.github.stefvanschie.inventoryframework.pane.component.util;
 
+import com.github.stefvanschie.inventoryframework.gui.GuiComponent;
 import com.github.stefvanschie.inventoryframework.gui.GuiItem;
+import com.github.stefvanschie.inventoryframework.gui.type.util.Gui;
 import com.github.stefvanschie.inventoryframework.pane.Flippable;
 import com.github.stefvanschie.inventoryframework.pane.Orientable;
 import com.github.stefvanschie.inventoryframework.pane.OutlinePane;
 import com.github.stefvanschie.inventoryframework.pane.Pane;
 import com.github.stefvanschie.inventoryframework.pane.util.GuiItemContainer;
+import com.github.stefvanschie.inventoryframework.pane.util.Slot;
 import org.bukkit.Material;
+import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -45,6 +52,27 @@ public abstract class VariableBar extends Pane implements Orientable, Flippable
      */
     protected boolean flipHorizontally, flipVertically;
 
+    /**
+     * The order in which the slots of this bar are filled, as an index of the form {@code y * length + x}. Each frame
+     * of this bar fills a prefix of this order, so the frame showing n filled columns or rows fills the first n times
+     * the height or length of this bar slots. This is created when first needed and discarded whenever the dimensions
+     * or the orientation of this bar change.
+     */
+    @Nullable
+    private int[] fillOrder;
+
+    /**
+     * The frame currently shown, which is the amount of filled columns or rows, depending on the orientation
+     */
+    private int frame;
+
+    /**
+     * The slots whose item changed the last time the value of this bar was set, or null if all slots may have changed
+     * because the dimensions or the orientation of this bar changed since it was last displayed
+     */
+    @Nullable
+    private int[] changedSlots = new int[0];
+
     /**
      * Creates a new variable bar
      *
@@ -120,57 +148,182 @@ public abstract class VariableBar extends Pane implements Orientable, Flippable
 
         this.value = value;
 
-        if (orientation == Orientation.HORIZONTAL) {
-            int length = Math.round(getLength() * value);
-            boolean positiveLength = length != 0;
+        int previousFilledSlots = getFilledSlots();
+
+        updateFrame();
+
+        int filledSlots = getFilledSlots();
+
+        if (this.changedSlots != null) {
+            this.changedSlots = Arrays.copyOfRange(getFillOrder(), Math.min(previousFilledSlots, filledSlots),
+                Math.max(previousFilledSlots, filledSlots));
+        }
+    }
+
+    /**
+     * Gets the slots whose item changed the last time the value of this bar was set. These are the slots that switched
+     * between the fill item and the background item. If the dimensions or the orientation of this bar changed since it
+     * was last displayed, all slots are returned. The slots are specified as an index of the form
+     * {@code y * length + x}. The returned array is a copy; modifications to it will not be reflected in this bar.
+     *
+     * @return the changed slots
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public int[] getChangedSlots() {
+        if (this.changedSlots == null) {
+            return getFillOrder().clone();
+        }
+
+        return this.changedSlots.clone();
+    }
 
-            this.fillPane.setVisible(positiveLength);
+    /**
+     * Places the items of the slots returned by {@link #getChangedSlots()} in the top inventory of the provided gui,
+     * without updating the rest of the gui. The position of this bar in the inventory is derived from the slot that was
+     * clicked. If the click was not in the top inventory, or a changed slot cannot be replaced on its own as described
+     * by {@link Gui#replaceItem(int, GuiItem, GuiItem)}, this returns false and the gui should be updated instead.
+     *
+     * @param gui the gui this bar is in
+     * @param guiComponent the gui component this bar is in
+     * @param event the event of the click on this bar
+     * @param slot the slot that was clicked, relative to this bar
+     * @return true if all changed slots have been placed, false otherwise
+     * @since 0.12.1
+     */
+    protected boolean placeChangedSlots(@NotNull Gui gui, @NotNull GuiComponent guiComponent,
+                                        @NotNull InventoryClickEvent event, @NotNull Slot slot) {
+        if (this.changedSlots == null || event.getRawSlot() >= event.getView().getTopInventory().getSize() ||
+            this.fillPane.getItems().isEmpty() || this.backgroundPane.getItems().isEmpty() ||
+            !this.backgroundPane.isVisible()) {
+            return false;
+        }
+
+        GuiItem fillItem = this.fillPane.getItems().get(0);
+        GuiItem backgroundItem = this.backgroundPane.getItems().get(0);
+
+        int clickedX = slot.getX(getLength());
+        int clickedY = slot.getY(getLength());
 
-            if (positiveLength) {
-                this.fillPane.setLength(length);
+        for (int changedSlot : this.changedSlots) {
+            int x = changedSlot % getLength();
+            int y = changedSlot / getLength();
+            int inventorySlot = event.getRawSlot() + (y - clickedY) * guiComponent.getLength() + (x - clickedX);
+
+            boolean filled = orientation == Orientation.HORIZONTAL ? x < this.frame : y < this.frame;
+            GuiItem oldItem = filled ? backgroundItem : fillItem;
+            GuiItem newItem = filled ? fillItem : backgroundItem;
+
+            if (!gui.replaceItem(inventorySlot, oldItem, newItem)) {
+                return false;
             }
+        }
+
+        return true;
+    }
+
+    /**
+     * Selects the frame that matches the current value, dimensions and orientation of this bar.
+     *
+     * @since 0.12.1
+     */
+    private void updateFrame() {
+        if (orientation == Orientation.HORIZONTAL) {
+            this.frame = Math.round(getLength() * value);
+        } else if (orientation == Orientation.VERTICAL) {
+            this.frame = Math.round(getHeight() * value);
+        } else {
+            throw new UnsupportedOperationException("Unknown orientation");
+        }
+
+        this.fillPane.setVisible(this.frame != 0);
+    }
+
+    /**
+     * Gets the amount of slots that are filled in the current frame. These are the first slots of the fill order.
+     *
+     * @return the amount of filled slots
+     * @since 0.12.1
+     */
+    @Contract(pure = true)
+    private int getFilledSlots() {
+        if (orientation == Orientation.HORIZONTAL) {
+            return this.frame * getHeight();
         } else if (orientation == Orientation.VERTICAL) {
-            int height = Math.round(getHeight() * value);
-            boolean positiveHeight = height != 0;
+            return this.frame * getLength();
+        } else {
+            throw new UnsupportedOperationException("Unknown orientation");
+        }
+    }
 
-            this.fillPane.setVisible(positiveHeight);
+    /**
+     * Gets the order in which the slots of this bar are filled, creating it if it does not exist yet. Horizontal bars
+     * are filled column by column and vertical bars row by row.
+     *
+     * @return the fill order
+     * @since 0.12.1
+     */
+    @NotNull
+    private int[] getFillOrder() {
+        if (this.fillOrder != null) {
+            return this.fillOrder;
+        }
+
+        int[] fillOrder = new int[getLength() * getHeight()];
+        int index = 0;
 
-            if (positiveHeight) {
-                this.fillPane.setHeight(height);
+        if (orientation == Orientation.HORIZONTAL) {
+            for (int x = 0; x < getLength(); x++) {
+                for (int y = 0; y < getHeight(); y++) {
+                    fillOrder[index++] = y * getLength() + x;
+                }
+            }
+        } else if (orientation == Orientation.VERTICAL) {
+            for (int y = 0; y < getHeight(); y++) {
+                for (int x = 0; x < getLength(); x++) {
+                    fillOrder[index++] = y * getLength() + x;
+                }
             }
         } else {
             throw new UnsupportedOperationException("Unknown orientation");
         }
+
+        this.fillOrder = fillOrder;
+
+        return fillOrder;
     }
 
     @Override
     public void setLength(int length) {
         super.setLength(length);
 
-        boolean isPositive = length != 0;
-
-        this.fillPane.setVisible(isPositive);
-
-        if (isPositive) {
+        if (length != 0) {
             this.fillPane.setLength(length);
         }
 
         this.backgroundPane.setLength(length);
+
+        this.fillOrder = null;
+        this.changedSlots = null;
+
+        updateFrame();
     }
 
     @Override
     public void setHeight(int height) {
         super.setHeight(height);
 
-        boolean isPositive = height != 0;
-
-        this.fillPane.setVisible(isPositive);
-
-        if (isPositive) {
+        if (height != 0) {
             this.fillPane.setHeight(height);
         }
 
         this.backgroundPane.setHeight(height);
+
+        this.fillOrder = null;
+        this.changedSlots = null;
+
+        updateFrame();
     }
 
     /**
@@ -193,6 +346,10 @@ public abstract class VariableBar extends Pane implements Orientable, Flippable
 
         copy.value = value;
         copy.orientation = orientation;
+        copy.fillOrder = null;
+        copy.changedSlots = null;
+
+        copy.updateFrame();
 
         copy.flipHorizontally = flipHorizontally;
         copy.flipVertically = flipVertically;
@@ -206,19 +363,59 @@ public abstract class VariableBar extends Pane implements Orientable, Flippable
 
         this.fillPane.setOrientation(orientation);
         this.backgroundPane.setOrientation(orientation);
+
+        this.fillOrder = null;
+        this.changedSlots = null;
+
+        updateFrame();
     }
 
     @NotNull
     @Override
     public GuiItemContainer display() {
-        GuiItemContainer container = new GuiItemContainer(getLength(), getHeight());
+        return display(new GuiItemContainer(getLength(), getHeight()));
+    }
+
+    @NotNull
+    @Override
+    public GuiItemContainer displayForCompositing() {
+        return display(getDisplayContainer());
+    }
 
-        if (this.backgroundPane.isVisible()) {
-            container.apply(this.backgroundPane.display(), 0, 0);
+    /**
+     * Places the items that should be displayed of this pane in the provided container.
+     *
+     * @param container the empty container to place the items in, with the size of this pane
+     * @return the provided container
+     * @since 0.12.1
+     */
+    @NotNull
+    private GuiItemContainer display(@NotNull GuiItemContainer container) {
+        int[] fillOrder = getFillOrder();
+        int filledSlots = getFilledSlots();
+
+        if (this.changedSlots == null) {
+            this.changedSlots = new int[0];
         }
 
-        if (this.fillPane.isVisible()) {
-            container.apply(this.fillPane.display(), 0, 0);
+        if (this.backgroundPane.isVisible() && !this.backgroundPane.getItems().isEmpty()) {
+            GuiItem backgroundItem = this.backgroundPane.getItems().get(0);
+
+            if (backgroundItem.isVisible()) {
+                for (int index = filledSlots; index < fillOrder.length; index++) {
+                    container.setItem(backgroundItem, fillOrder[index] % getLength(), fillOrder[index] / getLength());
+                }
+            }
+        }
+
+        if (this.fillPane.isVisible() && !this.fillPane.getItems().isEmpty()) {
+            GuiItem fillItem = this.fillPane.getItems().get(0);
+
+            if (fillItem.isVisible()) {
+                for (int index = 0; index < filledSlots; index++) {
+                    container.setItem(fillItem, fillOrder[index] % getLength(), fillOrder[index] / getLength());
+                }
+            }
         }
 
         return container;
@@ -16,11 +16,16 @@ import java.util.Arrays;
 public class GuiItemContainer {
 
     /**
-     * The items stored in this grid, stored in column-major order. Slots that are empty are represented as
-     * {@literal null}.
+     * The items stored in this grid, stored in row-major order: the item at (x, y) is at index y * length + x. Slots
+     * that are empty are represented as {@literal null}.
      */
     @Nullable
-    private final GuiItem @NotNull [] @NotNull [] items;
+    private final GuiItem @NotNull [] items;
+    /**
+     * A bitmask of the slots that hold an item, using the same indices as {@link #items}. Bit i of the mask is stored
+     * in word i / 64.
+     */
+    private final long @NotNull [] occupied;
     /**
      * The length and height of this container.
      */
@@ -38,7 +43,8 @@ public class GuiItemContainer {
                             @Range(from = 0, to = Integer.MAX_VALUE) int height) {
         this.length = length;
         this.height = height;
-        this.items = new GuiItem[length][height];
+        this.items = new GuiItem[length * height];
+        this.occupied = new long[(length * height + Long.SIZE - 1) / Long.SIZE];
     }
 
     /**
@@ -64,19 +70,15 @@ public class GuiItemContainer {
 
         GuiItemContainer newGuiContainer = new GuiItemContainer(getLength(), getHeight() - (end - from + 1));
 
-        for (int x = 0; x < getLength(); x++) {
-            int newY = 0;
-
-            for (int y = 0; y < getHeight(); y++) {
-                GuiItem item = getItem(x, y);
-
-                if (y >= from && y <= end) {
-                    continue;
-                }
+        int newY = 0;
 
-                newGuiContainer.items[x][newY] = item;
-                newY++;
+        for (int y = 0; y < getHeight(); y++) {
+            if (y >= from && y <= end) {
+                continue;
             }
+
+            newGuiContainer.copyRow(this, 0, y, getLength(), 0, newY);
+            newY++;
         }
 
         return newGuiContainer;
@@ -94,18 +96,18 @@ public class GuiItemContainer {
     public GuiItemContainer copy() {
         GuiItemContainer copy = new GuiItemContainer(getLength(), getHeight());
 
-        for (int x = 0; x < getLength(); x++) {
-            for (int y = 0; y < getHeight(); y++) {
-                GuiItem item = getItem(x, y);
-
-                if (item == null) {
-                    continue;
-                }
+        for (int index = 0; index < this.items.length; index++) {
+            GuiItem item = this.items[index];
 
-                copy.items[x][y] = item.copy();
+            if (item == null) {
+                continue;
             }
+
+            copy.items[index] = item.copy();
         }
 
+        System.arraycopy(this.occupied, 0, copy.occupied, 0, this.occupied.length);
+
         return copy;
     }
 
@@ -117,11 +119,9 @@ public class GuiItemContainer {
      */
     @Contract(pure = true)
     public boolean hasItem() {
-        for (int x = 0; x < getLength(); x++) {
-            for (int y = 0; y < getHeight(); y++) {
-                if (hasItem(x, y)) {
-                    return true;
-                }
+        for (long word : this.occupied) {
+            if (word != 0) {
+                return true;
             }
         }
 
@@ -149,7 +149,10 @@ public class GuiItemContainer {
         GuiItem copy = guiItem.copy();
         copy.applyUUID();
 
-        this.items[x][y] = copy;
+        int index = y * getLength() + x;
+
+        this.items[index] = copy;
+        this.occupied[index / Long.SIZE] |= 1L << index;
     }
 
     /**
@@ -171,7 +174,7 @@ public class GuiItemContainer {
                     "; should be below " + getLength() + " and " + getHeight());
         }
 
-        return this.items[x][y];
+        return this.items[y * getLength() + x];
     }
 
     /**
@@ -180,9 +183,8 @@ public class GuiItemContainer {
      * @since 0.12.0
      */
     public void clearItems() {
-        for (GuiItem[] items : this.items) {
-            Arrays.fill(items, null);
-        }
+        Arrays.fill(this.items, null);
+        Arrays.fill(this.occupied, 0);
     }
 
     /**
@@ -239,21 +241,189 @@ public class GuiItemContainer {
      */
     public void apply(@NotNull GuiItemContainer container, @Range(from = 0, to = Integer.MAX_VALUE) int startX,
                       @Range(from = 0, to = Integer.MAX_VALUE) int startY) {
-        for (int x = 0; x < container.getLength(); x++) {
-            for (int y = 0; y < container.getHeight(); y++) {
-                if (!isInBounds(x + startX, y + startY)) {
-                    continue;
-                }
+        int minX = Math.max(0, -startX);
+        int maxX = Math.min(container.getLength(), getLength() - startX);
+        int minY = Math.max(0, -startY);
+        int maxY = Math.min(container.getHeight(), getHeight() - startY);
+
+        if (minX >= maxX) {
+            return;
+        }
+
+        for (int y = minY; y < maxY; y++) {
+            int rowStart = y * container.getLength();
+            int rowEnd = rowStart + maxX;
+            int start = container.nextOccupied(rowStart + minX, rowEnd);
+
+            //copy every run of consecutive items in one go, so empty slots never overwrite existing items
+            while (start < rowEnd) {
+                int end = container.nextEmpty(start, rowEnd);
 
-                GuiItem item = container.getItem(x, y);
+                copyRow(container, start - rowStart, y, end - start, start - rowStart + startX, y + startY);
 
-                if (item == null) {
-                    continue;
+                start = container.nextOccupied(end, rowEnd);
+            }
+        }
+    }
+
+    /**
+     * Puts the items from the container in the slots of this container that are still empty. This is the counterpart
+     * of {@link #apply(GuiItemContainer, int, int)} for compositing from the highest priority down: items already in
+     * this container are never overwritten. The items will not be copied, nor will their UUID be applied again. The
+     * items will be placed starting at the specified x and y coordinates. Any items that are outside the confines of
+     * this container will be ignored. The provided container will not be modified.
+     *
+     * @param container the container to obtain items from
+     * @param startX the starting x coordinate
+     * @param startY the starting y coordinate
+     * @since 0.12.1
+     */
+    public void applyBelow(@NotNull GuiItemContainer container, int startX, int startY) {
+        int minX = Math.max(0, -startX);
+        int maxX = Math.min(container.getLength(), getLength() - startX);
+        int minY = Math.max(0, -startY);
+        int maxY = Math.min(container.getHeight(), getHeight() - startY);
+
+        for (int y = minY; y < maxY; y++) {
+            int rowStart = y * container.getLength();
+            int rowEnd = rowStart + maxX;
+            int offset = (y + startY) * getLength() + startX - rowStart;
+
+            for (int source = container.nextOccupied(rowStart + minX, rowEnd); source < rowEnd;
+                 source = container.nextOccupied(source + 1, rowEnd)) {
+                int target = source + offset;
+
+                if (this.items[target] == null) {
+                    this.items[target] = container.items[source];
+                    this.occupied[target / Long.SIZE] |= 1L << target;
                 }
+            }
+        }
+    }
+
+    /**
+     * Checks whether every slot of the specified rectangle holds an item. Only the part of the rectangle that lies
+     * within this container is considered, so a rectangle that lies completely outside of this container is considered
+     * filled. A pane whose rectangle is filled would not be able to change anything in this container when applied
+     * with {@link #applyBelow(GuiItemContainer, int, int)}.
+     *
+     * @param startX the x coordinate of the rectangle
+     * @param startY the y coordinate of the rectangle
+     * @param length the length of the rectangle
+     * @param height the height of the rectangle
+     * @return {@literal true} if every slot of the rectangle holds an item, {@literal false} otherwise
+     * @since 0.12.1
+     */
+    @Contract(pure = true)
+    public boolean isFilled(int startX, int startY, int length, int height) {
+        int maxX = Math.min(startX + length, getLength());
+        int maxY = Math.min(startY + height, getHeight());
+
+        int minX = Math.max(0, startX);
+
+        if (minX >= maxX) {
+            return true;
+        }
 
-                this.items[x + startX][y + startY] = item;
+        for (int y = Math.max(0, startY); y < maxY; y++) {
+            int rowStart = y * getLength();
+
+            if (nextEmpty(rowStart + minX, rowStart + maxX) != rowStart + maxX) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Copies a run of slots from a single row of the provided container into a single row of this container, including
+     * empty slots. The run must lie within both containers.
+     *
+     * @param container the container to copy from
+     * @param sourceX the x coordinate of the first slot to copy
+     * @param sourceY the row to copy from
+     * @param length the amount of slots to copy
+     * @param targetX the x coordinate of the first slot to copy to
+     * @param targetY the row to copy to
+     * @since 0.12.1
+     */
+    private void copyRow(@NotNull GuiItemContainer container, int sourceX, int sourceY, int length, int targetX,
+                         int targetY) {
+        int source = sourceY * container.getLength() + sourceX;
+        int target = targetY * getLength() + targetX;
+
+        System.arraycopy(container.items, source, this.items, target, length);
+
+        for (int index = 0; index < length; index++) {
+            long bit = 1L << (target + index);
+
+            if ((container.occupied[(source + index) / Long.SIZE] & (1L << (source + index))) != 0) {
+                this.occupied[(target + index) / Long.SIZE] |= bit;
+            } else {
+                this.occupied[(target + index) / Long.SIZE] &= ~bit;
+            }
+        }
+    }
+
+    /**
+     * Gets the index of the first slot holding an item, starting at the specified index. If no such slot exists before
+     * the end index, the end index is returned.
+     *
+     * @param from the index to start searching at (inclusive)
+     * @param end the index to stop searching at (exclusive)
+     * @return the index of the first slot holding an item, or the end index
+     * @since 0.12.1
+     */
+    @Contract(pure = true)
+    private int nextOccupied(int from, int end) {
+        return nextBit(from, end, 0);
+    }
+
+    /**
+     * Gets the index of the first empty slot, starting at the specified index. If no such slot exists before the end
+     * index, the end index is returned.
+     *
+     * @param from the index to start searching at (inclusive)
+     * @param end the index to stop searching at (exclusive)
+     * @return the index of the first empty slot, or the end index
+     * @since 0.12.1
+     */
+    @Contract(pure = true)
+    private int nextEmpty(int from, int end) {
+        return nextBit(from, end, -1L);
+    }
+
+    /**
+     * Gets the index of the first bit in the occupancy mask that differs from the bits in the specified pattern,
+     * starting at the specified index. If no such bit exists before the end index, the end index is returned.
+     *
+     * @param from the index to start searching at (inclusive)
+     * @param end the index to stop searching at (exclusive)
+     * @param pattern {@literal 0} to search for set bits, {@literal -1} to search for cleared bits
+     * @return the index of the first differing bit, or the end index
+     * @since 0.12.1
+     */
+    @Contract(pure = true)
+    private int nextBit(int from, int end, long pattern) {
+        if (from >= end) {
+            return end;
+        }
+
+        int wordIndex = from / Long.SIZE;
+        long word = (this.occupied[wordIndex] ^ pattern) & (-1L << from);
+
+        while (word == 0) {
+            wordIndex++;
+
+            if (wordIndex * Long.SIZE >= end) {
+                return end;
             }
+
+            word = this.occupied[wordIndex] ^ pattern;
         }
+
+        return Math.min(wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word), end);
     }
 
     /**
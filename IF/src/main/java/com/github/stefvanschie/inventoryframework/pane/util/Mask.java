@@ -15,10 +15,21 @@ import java.util.Arrays;
 public class Mask {
 
     /**
-     * A two-dimensional array of booleans indicating which slots are 'enabled' and which ones are 'disabled'. This
-     * two-dimensional array is constructed in a row-major order fashion.
+     * The enabled slots of each row, as a bitmask split into words of 64 bits. Bit {@code x % 64} of word
+     * {@code x / 64} is set when the slot at column x is 'enabled'. Bits beyond the length of this mask are never set.
+     * The arrays are never modified after construction, so they may be shared between masks.
      */
-    private final boolean[][] mask;
+    private final long @NotNull [] @NotNull [] rows;
+
+    /**
+     * The length of this mask
+     */
+    private final int length;
+
+    /**
+     * The amount of 'enabled' slots in this mask
+     */
+    private final int enabledSlots;
 
     /**
      * Creates a mask based on the strings provided. Each string is a row for the mask and each character is a cell of
@@ -33,46 +44,121 @@ public class Mask {
      * @since 0.5.16
      */
     public Mask(@NotNull String... mask) {
-        this.mask = new boolean[mask.length][mask.length == 0 ? 0 : mask[0].length()];
+        this.length = mask.length == 0 ? 0 : mask[0].length();
+        this.rows = new long[mask.length][words(this.length)];
+
+        int enabledSlots = 0;
 
         for (int row = 0; row < mask.length; row++) {
             int length = mask[row].length();
 
-            if (length != this.mask[row].length) {
+            if (length != this.length) {
                 throw new IllegalArgumentException("Lengths of each string should be equal");
             }
 
             for (int column = 0; column < length; column++) {
                 char character = mask[row].charAt(column);
 
-                if (character == '0') {
-                    this.mask[row][column] = false;
-                } else if (character == '1') {
-                    this.mask[row][column] = true;
-                } else {
+                if (character == '1') {
+                    this.rows[row][column / Long.SIZE] |= 1L << column;
+                    enabledSlots++;
+                } else if (character != '0') {
                     throw new IllegalArgumentException("Strings may only contain '0' and '1'");
                 }
             }
         }
+
+        this.enabledSlots = enabledSlots;
     }
 
     /**
-     * Creates a mask based on the two-dimensional boolean array provided. Each array is a row for the mask and each
-     * index is a cell of that row that indicates a slot for the mask. When the boolean is false, the slot will be
-     * considered 'disabled'; when the boolean is true, the slot will be considered 'enabled'.
+     * Creates a mask based on the row bitmasks provided. The rows must not have any bits set beyond the specified
+     * length and must not be modified afterwards.
      *
-     * @param mask a two-dimensional boolean array of booleans that represent this mask
-     * @since 0.9.1
+     * @param rows the bitmask of each row
+     * @param length the length of the mask
+     * @since 0.12.1
      */
-    private Mask(boolean[][] mask) {
-        this.mask = mask;
+    private Mask(long @NotNull [] @NotNull [] rows, int length) {
+        this.rows = rows;
+        this.length = length;
+
+        int enabledSlots = 0;
+
+        for (long[] row : rows) {
+            for (long word : row) {
+                enabledSlots += Long.bitCount(word);
+            }
+        }
+
+        this.enabledSlots = enabledSlots;
+    }
+
+    /**
+     * Creates a mask with the specified dimensions in which all slots are 'enabled'.
+     *
+     * @param length the length of the mask
+     * @param height the height of the mask
+     * @return the mask
+     * @throws IllegalArgumentException if length or height is negative
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static Mask full(int length, int height) {
+        if (length < 0 || height < 0) {
+            throw new IllegalArgumentException("Length and height should be non-negative");
+        }
+
+        long[][] rows = new long[height][];
+
+        if (height > 0) {
+            rows[0] = createEnabledRow(length);
+
+            Arrays.fill(rows, rows[0]);
+        }
+
+        return new Mask(rows, length);
+    }
+
+    /**
+     * Creates a mask with the specified dimensions in which only the slots along the outside of the mask are
+     * 'enabled'.
+     *
+     * @param length the length of the mask
+     * @param height the height of the mask
+     * @return the mask
+     * @throws IllegalArgumentException if length or height is negative
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static Mask border(int length, int height) {
+        if (length < 0 || height < 0) {
+            throw new IllegalArgumentException("Length and height should be non-negative");
+        }
+
+        long[][] rows = new long[height][];
+        long[] edgeRow = createEnabledRow(length);
+        long[] innerRow = new long[words(length)];
+
+        if (length > 0) {
+            innerRow[0] |= 1L;
+            innerRow[(length - 1) / Long.SIZE] |= 1L << (length - 1);
+        }
+
+        for (int row = 0; row < height; row++) {
+            rows[row] = row == 0 || row == height - 1 ? edgeRow : innerRow;
+        }
+
+        return new Mask(rows, length);
     }
 
     /**
      * Creates a new maks with the specified height. If the new height is smaller than the previous height, the excess
      * values will be truncated. If the new height is longer than the previous height, additional values will be added
-     * which are enabled. If the height is the same as the previous mask, this will simply return a new mask identical
-     * to this one.
+     * which are enabled. If the height is the same as the previous mask, this will simply return a mask identical to
+     * this one.
      *
      * @param height the new height of the mask
      * @return a new mask with the specified height
@@ -81,26 +167,24 @@ public class Mask {
     @NotNull
     @Contract(pure = true)
     public Mask setHeight(int height) {
-        boolean[][] newRows = new boolean[height][getLength()];
-
-        for (int index = 0; index < Math.min(height, getHeight()); index++) {
-            System.arraycopy(mask[index], 0, newRows[index], 0, mask[index].length);
+        if (height == getHeight()) {
+            return this;
         }
 
-        for (int index = Math.min(height, getHeight()); index < height; index++) {
-            newRows[index] = new boolean[getLength()];
+        long[][] newRows = Arrays.copyOf(this.rows, height);
 
-            Arrays.fill(newRows[index], true);
+        if (height > getHeight()) {
+            Arrays.fill(newRows, getHeight(), height, createEnabledRow(getLength()));
         }
 
-        return new Mask(newRows);
+        return new Mask(newRows, getLength());
     }
 
     /**
      * Creates a new maks with the specified length. If the new length is smaller than the previous length, the excess
      * values will be truncated. If the new length is longer than the previous length, additional values will be added
-     * which are enabled. If the length is the same as the previous mask, this will simply return a new mask identical
-     * to this one.
+     * which are enabled. If the length is the same as the previous mask, this will simply return a mask identical to
+     * this one.
      *
      * @param length the new length of the mask
      * @return a new mask with the specified length
@@ -109,19 +193,99 @@ public class Mask {
     @NotNull
     @Contract(pure = true)
     public Mask setLength(int length) {
-        boolean[][] newRows = new boolean[getHeight()][length];
+        if (length == getLength()) {
+            return this;
+        }
 
-        for (int index = 0; index < mask.length; index++) {
-            boolean[] newRow = new boolean[length];
+        long[][] newRows = new long[getHeight()][];
 
-            System.arraycopy(mask[index], 0, newRow, 0, Math.min(length, mask[index].length));
+        for (int index = 0; index < getHeight(); index++) {
+            long[] newRow = Arrays.copyOf(this.rows[index], words(length));
 
-            Arrays.fill(newRow, Math.min(length, mask[index].length), newRow.length, true);
+            if (length < getLength()) {
+                clearBitsFrom(newRow, length);
+            } else {
+                for (int column = getLength(); column < length; column++) {
+                    newRow[column / Long.SIZE] |= 1L << column;
+                }
+            }
 
             newRows[index] = newRow;
         }
 
-        return new Mask(newRows);
+        return new Mask(newRows, length);
+    }
+
+    /**
+     * Creates a new mask in which only the slots are 'enabled' that are 'enabled' in both this mask and the provided
+     * mask.
+     *
+     * @param mask the other mask
+     * @return the intersection of both masks
+     * @throws IllegalArgumentException if the dimensions of the masks differ
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public Mask and(@NotNull Mask mask) {
+        checkDimensions(mask);
+
+        long[][] newRows = new long[getHeight()][words(getLength())];
+
+        for (int row = 0; row < getHeight(); row++) {
+            for (int word = 0; word < newRows[row].length; word++) {
+                newRows[row][word] = this.rows[row][word] & mask.rows[row][word];
+            }
+        }
+
+        return new Mask(newRows, getLength());
+    }
+
+    /**
+     * Creates a new mask in which the slots are 'enabled' that are 'enabled' in this mask, the provided mask, or both.
+     *
+     * @param mask the other mask
+     * @return the union of both masks
+     * @throws IllegalArgumentException if the dimensions of the masks differ
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public Mask or(@NotNull Mask mask) {
+        checkDimensions(mask);
+
+        long[][] newRows = new long[getHeight()][words(getLength())];
+
+        for (int row = 0; row < getHeight(); row++) {
+            for (int word = 0; word < newRows[row].length; word++) {
+                newRows[row][word] = this.rows[row][word] | mask.rows[row][word];
+            }
+        }
+
+        return new Mask(newRows, getLength());
+    }
+
+    /**
+     * Creates a new mask in which all 'enabled' slots of this mask are 'disabled' and all 'disabled' slots are
+     * 'enabled'.
+     *
+     * @return the inverse of this mask
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public Mask invert() {
+        long[][] newRows = new long[getHeight()][words(getLength())];
+
+        for (int row = 0; row < getHeight(); row++) {
+            for (int word = 0; word < newRows[row].length; word++) {
+                newRows[row][word] = ~this.rows[row][word];
+            }
+
+            clearBitsFrom(newRows[row], getLength());
+        }
+
+        return new Mask(newRows, getLength());
     }
 
     /**
@@ -131,19 +295,96 @@ public class Mask {
      * @since 0.5.16
      */
     public int amountOfEnabledSlots() {
+        return this.enabledSlots;
+    }
+
+    /**
+     * Returns the amount of slots in the specified row that are 'enabled'.
+     *
+     * @param index the row index
+     * @return amount of enabled slots in the row
+     * @since 0.12.1
+     */
+    @Contract(pure = true)
+    public int amountOfEnabledSlotsInRow(int index) {
         int amount = 0;
 
-        for (boolean[] row : mask) {
-            for (boolean cell : row) {
-                if (cell) {
-                    amount++;
-                }
+        for (long word : this.rows[index]) {
+            amount += Long.bitCount(word);
+        }
+
+        return amount;
+    }
+
+    /**
+     * Returns the amount of slots in the specified column that are 'enabled'.
+     *
+     * @param index the column index
+     * @return amount of enabled slots in the column
+     * @since 0.12.1
+     */
+    @Contract(pure = true)
+    public int amountOfEnabledSlotsInColumn(int index) {
+        int amount = 0;
+
+        for (int row = 0; row < getHeight(); row++) {
+            if (isEnabled(index, row)) {
+                amount++;
             }
         }
 
         return amount;
     }
 
+    /**
+     * Gets the column of the first 'enabled' slot in the specified row, starting at the specified column. This can be
+     * used to iterate over the enabled slots of a row without checking every slot.
+     *
+     * @param index the row index
+     * @param from the column to start searching from, inclusive
+     * @return the column of the next enabled slot, or -1 if there is none
+     * @since 0.12.1
+     */
+    @Contract(pure = true)
+    public int nextEnabledInRow(int index, int from) {
+        long[] row = this.rows[index];
+        from = Math.max(from, 0);
+
+        for (int word = from / Long.SIZE; from < getLength() && word < row.length; word++) {
+            long bits = row[word];
+
+            if (word == from / Long.SIZE) {
+                bits &= -1L << from;
+            }
+
+            if (bits != 0) {
+                return word * Long.SIZE + Long.numberOfTrailingZeros(bits);
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * Gets the row of the first 'enabled' slot in the specified column, starting at the specified row. This can be
+     * used to iterate over the enabled slots of a column.
+     *
+     * @param index the column index
+     * @param from the row to start searching from, inclusive
+     * @return the row of the next enabled slot, or -1 if there is none
+     * @since 0.12.1
+     */
+    @Contract(pure = true)
+    public int nextEnabledInColumn(int index, int from) {
+        for (int row = Math.max(from, 0); row < getHeight(); row++) {
+            if (isEnabled(index, row)) {
+                return row;
+            }
+        }
+
+        return -1;
+    }
+
     /**
      * Gets the column of this mask at the specified index. The values indicate the state of the slots for that slot:
      * {@literal true} indicates that the slot is 'enabled'; {@literal false} indicates that the slot is 'disabled'. The
@@ -154,10 +395,10 @@ public class Mask {
      * @since 0.5.16
      */
     public boolean[] getColumn(int index) {
-        boolean[] column = new boolean[mask.length];
+        boolean[] column = new boolean[getHeight()];
 
         for (int i = 0; i < getHeight(); i++) {
-            column[i] = mask[i][index];
+            column[i] = isEnabled(index, i);
         }
 
         return column;
@@ -173,9 +414,14 @@ public class Mask {
      * @since 0.5.16
      */
     public boolean[] getRow(int index) {
-        boolean[] row = mask[index];
+        long[] bits = this.rows[index];
+        boolean[] row = new boolean[getLength()];
 
-        return Arrays.copyOf(row, row.length);
+        for (int i = 0; i < row.length; i++) {
+            row[i] = (bits[i / Long.SIZE] & 1L << i) != 0;
+        }
+
+        return row;
     }
 
     /**
@@ -188,7 +434,11 @@ public class Mask {
      * @since 0.5.16
      */
     public boolean isEnabled(int x, int y) {
-        return mask[y][x];
+        if (x < 0 || x >= getLength()) {
+            throw new ArrayIndexOutOfBoundsException(x);
+        }
+
+        return (this.rows[y][x / Long.SIZE] & 1L << x) != 0;
     }
 
     /**
@@ -198,7 +448,7 @@ public class Mask {
      * @since 0.5.16
      */
     public int getLength() {
-        return mask[0].length;
+        return this.length;
     }
 
     /**
@@ -208,7 +458,67 @@ public class Mask {
      * @since 0.5.16
      */
     public int getHeight() {
-        return mask.length;
+        return this.rows.length;
+    }
+
+    /**
+     * Checks whether the provided mask has the same dimensions as this mask.
+     *
+     * @param mask the other mask
+     * @throws IllegalArgumentException if the dimensions of the masks differ
+     * @since 0.12.1
+     */
+    private void checkDimensions(@NotNull Mask mask) {
+        if (getLength() != mask.getLength() || getHeight() != mask.getHeight()) {
+            throw new IllegalArgumentException("Dimensions of both masks should be equal");
+        }
+    }
+
+    /**
+     * Gets the amount of words needed to store a row of the specified length.
+     *
+     * @param length the length of the row
+     * @return the amount of words
+     * @since 0.12.1
+     */
+    @Contract(pure = true)
+    private static int words(int length) {
+        return (length + Long.SIZE - 1) / Long.SIZE;
+    }
+
+    /**
+     * Creates a row bitmask in which all slots are 'enabled'.
+     *
+     * @param length the length of the row
+     * @return the row bitmask
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static long[] createEnabledRow(int length) {
+        long[] row = new long[words(length)];
+
+        Arrays.fill(row, -1L);
+        clearBitsFrom(row, length);
+
+        return row;
+    }
+
+    /**
+     * Clears all bits in the row bitmask starting at the specified column.
+     *
+     * @param row the row bitmask
+     * @param from the first column to clear, inclusive
+     * @since 0.12.1
+     */
+    private static void clearBitsFrom(long @NotNull [] row, int from) {
+        for (int word = from / Long.SIZE; word < row.length; word++) {
+            if (word == from / Long.SIZE) {
+                row[word] &= from % Long.SIZE == 0 ? 0L : -1L >>> (Long.SIZE - from % Long.SIZE);
+            } else {
+                row[word] = 0L;
+            }
+        }
     }
 
     @Override
@@ -223,18 +533,28 @@ public class Mask {
 
         Mask mask = (Mask) object;
 
-        return Arrays.deepEquals(this.mask, mask.mask);
+        return this.length == mask.length && Arrays.deepEquals(this.rows, mask.rows);
     }
 
     @Override
     public int hashCode() {
-        return Arrays.deepHashCode(mask);
+        return 31 * Arrays.deepHashCode(this.rows) + this.length;
     }
 
     @Override
     public String toString() {
-        return "Mask{" +
-            "mask=" + Arrays.deepToString(mask) +
-            '}';
+        StringBuilder builder = new StringBuilder("Mask{mask=[");
+
+        for (int row = 0; row < getHeight(); row++) {
+            if (row != 0) {
+                builder.append(", ");
+            }
+
+            for (int column = 0; column < getLength(); column++) {
+                builder.append(isEnabled(column, row) ? '1' : '0');
+            }
+        }
+
+        return builder.append("]}").toString();
     }
 }
@@ -57,4 +57,47 @@ public class GeometryUtil {
                                                                               int rotation) {
         return processClockwiseRotation(x, y, length, height, 360 - rotation);
     }
+
+    /**
+     * Creates a table that maps each position in a grid to the position it ends up at after first flipping and then
+     * rotating the grid clockwise. Positions are specified as an index of the form {@code y * length + x}. Positions
+     * that end up outside the grid are mapped to -1.
+     *
+     * @param length the length of the grid
+     * @param height the height of the grid
+     * @param flipHorizontally whether the grid is flipped horizontally
+     * @param flipVertically whether the grid is flipped vertically
+     * @param rotation the rotation in degrees
+     * @return the transformed position for each position
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static int[] createTransformTable(int length, int height, boolean flipHorizontally, boolean flipVertically,
+                                             int rotation) {
+        int[] table = new int[length * height];
+
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < length; x++) {
+                int newX = flipHorizontally ? length - x - 1 : x;
+                int newY = flipVertically ? height - y - 1 : y;
+
+                if (rotation != 0) {
+                    Map.Entry<Integer, Integer> coordinates = processClockwiseRotation(newX, newY, length, height,
+                        rotation);
+
+                    newX = coordinates.getKey();
+                    newY = coordinates.getValue();
+                }
+
+                if (newX < 0 || newX >= length || newY < 0 || newY >= height) {
+                    table[y * length + x] = -1;
+                } else {
+                    table[y * length + x] = newY * length + newX;
+                }
+            }
+        }
+
+        return table;
+    }
 }
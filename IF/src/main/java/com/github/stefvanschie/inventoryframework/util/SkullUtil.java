@@ -10,6 +10,7 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.inventory.meta.SkullMeta;
 import org.bukkit.profile.PlayerProfile;
 import org.bukkit.profile.PlayerTextures;
+import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.reflect.Field;
@@ -17,17 +18,32 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.net.URL;
-import java.util.Base64;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.*;
 
 /**
- * A utility class for working with skulls
+ * A utility class for working with skulls. Skulls are cached by their id, so repeatedly requesting the same skull only
+ * creates its profile once. The cache is bounded: the least recently used skulls are evicted once the cache is full.
  *
  * @since 0.5.0
  */
 public final class SkullUtil {
 
+    /**
+     * The maximum amount of skulls kept in the cache
+     */
+    private static final int CACHE_SIZE = 512;
+
+    /**
+     * The cached skulls by their id, in least recently used order. Access to this map must be synchronized on the map.
+     */
+    @NotNull
+    private static final Map<String, Skull> SKULLS = new LinkedHashMap<String, Skull>(16, 0.75F, true) {
+        @Override
+        protected boolean removeEldestEntry(@NotNull Map.Entry<String, Skull> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
     /**
      * A private constructor to ensure this class isn't instantiated
      *
@@ -37,7 +53,7 @@ public final class SkullUtil {
 
     /**
      * Gets a skull from the specified id. The id is the value from the textures.minecraft.net website after the last
-     * '/' character.
+     * '/' character. The returned item is a copy of a cached item and may be modified freely.
      *
      * @param id the skull id
      * @return the skull item
@@ -45,10 +61,17 @@ public final class SkullUtil {
      */
     @NotNull
     public static ItemStack getSkull(@NotNull String id) {
-        ItemStack item = new ItemStack(Material.PLAYER_HEAD);
-        ItemMeta itemMeta = Objects.requireNonNull(item.getItemMeta());
-        setSkull(itemMeta, id);
-        item.setItemMeta(itemMeta);
+        Skull skull = getCachedSkull(id);
+        ItemStack item = skull.item.clone();
+
+        if (skull.legacy) {
+            //a cloned meta still references the cached profile, so give the item a profile of its own
+            ItemMeta meta = Objects.requireNonNull(item.getItemMeta());
+
+            setSkullReflection(meta, copyGameProfile((GameProfile) skull.profile));
+            item.setItemMeta(meta);
+        }
+
         return item;
     }
 
@@ -60,25 +83,99 @@ public final class SkullUtil {
      * @param id the skull id
      */
     public static void setSkull(@NotNull ItemMeta meta, @NotNull String id) {
-        if (Version.getVersion().isOlderThan(Version.V1_18_2)) {
-            setSkullReflection(meta, id);
+        Skull skull = getCachedSkull(id);
+
+        if (skull.legacy) {
+            setSkullReflection(meta, copyGameProfile((GameProfile) skull.profile));
         } else {
-            setSkullProfile(meta, id);
+            setSkullProfile(meta, (PlayerProfile) skull.profile);
         }
     }
 
     /**
-     * Sets the skull's texture based on the player profile API introduced in 1.18.2.
+     * Clears all cached skulls.
      *
-     * @param meta the {@link ItemMeta} of the skull to set
-     * @param id the ID of the skin URL to apply
-     * @since 0.11.6
+     * @since 0.12.1
      */
-    private static void setSkullProfile(@NotNull ItemMeta meta, @NotNull String id) {
-        if (!(meta instanceof SkullMeta)) {
-            throw new IllegalArgumentException("Provided item meta is not of a skull");
+    public static void clearCache() {
+        synchronized (SKULLS) {
+            SKULLS.clear();
         }
+    }
+
+    /**
+     * Gets the cached skull for the specified id, creating and caching it if it isn't cached yet.
+     *
+     * @param id the skull id
+     * @return the cached skull
+     * @since 0.12.1
+     */
+    @NotNull
+    private static Skull getCachedSkull(@NotNull String id) {
+        Skull skull;
+
+        synchronized (SKULLS) {
+            skull = SKULLS.get(id);
+        }
+
+        if (skull != null) {
+            return skull;
+        }
+
+        //created outside the lock, since creating a skull is relatively expensive
+        skull = createSkull(id);
+
+        synchronized (SKULLS) {
+            Skull previous = SKULLS.putIfAbsent(id, skull);
+
+            return previous == null ? skull : previous;
+        }
+    }
+
+    /**
+     * Creates a new skull for the specified id.
+     *
+     * @param id the skull id
+     * @return the new skull
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static Skull createSkull(@NotNull String id) {
+        boolean legacy = Version.getVersion().isOlderThan(Version.V1_18_2);
+        ItemStack item = new ItemStack(Material.PLAYER_HEAD);
+        ItemMeta itemMeta = Objects.requireNonNull(item.getItemMeta());
+        Object profile;
+
+        //keep the profile types apart, since PlayerProfile does not exist on older versions
+        if (legacy) {
+            GameProfile gameProfile = createGameProfile(id);
+
+            setSkullReflection(itemMeta, gameProfile);
+            profile = gameProfile;
+        } else {
+            PlayerProfile playerProfile = createPlayerProfile(id);
+
+            setSkullProfile(itemMeta, playerProfile);
+            profile = playerProfile;
+        }
+
+        item.setItemMeta(itemMeta);
 
+        return new Skull(item, profile, legacy);
+    }
+
+    /**
+     * Creates a player profile with the texture of the specified id, based on the player profile API introduced in
+     * 1.18.2.
+     *
+     * @param id the ID of the skin URL to apply
+     * @return the player profile
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static PlayerProfile createPlayerProfile(@NotNull String id) {
         PlayerProfile profile = Bukkit.createPlayerProfile(UUID.randomUUID());
         PlayerTextures textures = profile.getTextures();
 
@@ -90,21 +187,68 @@ public final class SkullUtil {
 
         profile.setTextures(textures);
 
-        ((SkullMeta) meta).setOwnerProfile(profile);
+        return profile;
     }
 
     /**
-     * Sets the skull's texture via reflection.
+     * Creates a game profile with the texture of the specified id, for versions without the player profile API.
      *
-     * @param meta the {@link ItemMeta} of the skull to set
      * @param id the ID of the skin URL to apply
-     * @since 0.11.6
+     * @return the game profile
+     * @since 0.12.1
      */
-    private static void setSkullReflection(@NotNull ItemMeta meta, @NotNull String id) {
+    @NotNull
+    @Contract(pure = true)
+    private static GameProfile createGameProfile(@NotNull String id) {
         GameProfile profile = new GameProfile(UUID.randomUUID(), "");
         byte[] encodedData = Base64.getEncoder().encode(String.format("{textures:{SKIN:{url:\"%s\"}}}",
                 "http://textures.minecraft.net/texture/" + id).getBytes());
         profile.getProperties().put("textures", new Property("textures", new String(encodedData)));
+
+        return profile;
+    }
+
+    /**
+     * Creates a copy of the specified game profile, including its properties. Game profiles are mutable and applied to
+     * item metas by reference, so every meta should get its own copy of a cached profile.
+     *
+     * @param profile the profile to copy
+     * @return the copy
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static GameProfile copyGameProfile(@NotNull GameProfile profile) {
+        GameProfile copy = new GameProfile(profile.getId(), profile.getName());
+
+        copy.getProperties().putAll(profile.getProperties());
+
+        return copy;
+    }
+
+    /**
+     * Sets the skull's texture based on the player profile API introduced in 1.18.2.
+     *
+     * @param meta the {@link ItemMeta} of the skull to set
+     * @param profile the profile containing the texture to apply
+     * @since 0.11.6
+     */
+    private static void setSkullProfile(@NotNull ItemMeta meta, @NotNull PlayerProfile profile) {
+        if (!(meta instanceof SkullMeta)) {
+            throw new IllegalArgumentException("Provided item meta is not of a skull");
+        }
+
+        ((SkullMeta) meta).setOwnerProfile(profile);
+    }
+
+    /**
+     * Sets the skull's texture via reflection.
+     *
+     * @param meta the {@link ItemMeta} of the skull to set
+     * @param profile the profile containing the texture to apply
+     * @since 0.11.6
+     */
+    private static void setSkullReflection(@NotNull ItemMeta meta, @NotNull GameProfile profile) {
         String itemDisplayName = meta.getDisplayName();
 
         try {
@@ -124,4 +268,43 @@ public final class SkullUtil {
             throw new RuntimeException(e);
         } catch (NoSuchMethodException ignored) {}
     }
+
+    /**
+     * A cached skull: a prototype item together with the profile that was applied to it.
+     *
+     * @since 0.12.1
+     */
+    private static final class Skull {
+
+        /**
+         * The prototype item, which should never be handed out without copying it
+         */
+        @NotNull
+        private final ItemStack item;
+
+        /**
+         * The profile applied to the item: a {@link PlayerProfile}, or a {@link GameProfile} when legacy is true
+         */
+        @NotNull
+        private final Object profile;
+
+        /**
+         * Whether the profile is a {@link GameProfile} that has to be applied via reflection
+         */
+        private final boolean legacy;
+
+        /**
+         * Creates a new cached skull.
+         *
+         * @param item the prototype item
+         * @param profile the applied profile
+         * @param legacy whether the profile has to be applied via reflection
+         * @since 0.12.1
+         */
+        private Skull(@NotNull ItemStack item, @NotNull Object profile, boolean legacy) {
+            this.item = item;
+            this.profile = profile;
+            this.legacy = legacy;
+        }
+    }
 }
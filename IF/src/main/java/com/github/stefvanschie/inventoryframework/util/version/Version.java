@@ -5,6 +5,7 @@ import org.bukkit.Bukkit;
 import org.bukkit.inventory.InventoryView;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.EnumSet;
@@ -149,6 +150,12 @@ public enum Version {
      */
     V26_1;
 
+    /**
+     * The version of the server we're running on, or null if it hasn't been resolved yet
+     */
+    @Nullable
+    private static volatile Version current;
+
     /**
      * A collection of versions on which modern smithing tables are available.
      */
@@ -221,7 +228,8 @@ public enum Version {
 
     /**
      * Gets the version currently being used. If the used version is not supported, an
-     * {@link UnsupportedVersionException} will be thrown.
+     * {@link UnsupportedVersionException} will be thrown. The version is only resolved the first time this is called;
+     * subsequent calls return the same version.
      *
      * @return the version of the current instance
      * @since 0.8.0
@@ -229,6 +237,27 @@ public enum Version {
     @NotNull
     @Contract(pure = true)
     public static Version getVersion() {
+        Version version = current;
+
+        if (version == null) {
+            version = resolveVersion();
+
+            current = version;
+        }
+
+        return version;
+    }
+
+    /**
+     * Resolves the version currently being used from the Bukkit version. If the used version is not supported, an
+     * {@link UnsupportedVersionException} will be thrown.
+     *
+     * @return the version of the current instance
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    private static Version resolveVersion() {
         String version = Bukkit.getBukkitVersion().split("-")[0];
 
         if (version.indexOf('.') == 2) {
@@ -2,12 +2,12 @@ package com.github.stefvanschie.inventoryframework.util.version;
 
 import com.github.stefvanschie.inventoryframework.abstraction.*;
 import com.github.stefvanschie.inventoryframework.exception.UnsupportedVersionException;
-import com.github.stefvanschie.inventoryframework.nms.v1_19_4.LegacySmithingTableInventoryImpl;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.EnumMap;
+import java.util.function.Supplier;
 
 /**
  * Utility class containing versioning related methods.
@@ -19,52 +19,57 @@ public class VersionMatcher {
     /**
      * The different anvil inventories for different versions
      */
-    private static final EnumMap<Version, Class<? extends AnvilInventory>> ANVIL_INVENTORIES;
+    private static final EnumMap<Version, Supplier<? extends AnvilInventory>> ANVIL_INVENTORIES;
 
     /**
      * The different beacon inventories for different versions
      */
-    private static final EnumMap<Version, Class<? extends BeaconInventory>> BEACON_INVENTORIES;
+    private static final EnumMap<Version, Supplier<? extends BeaconInventory>> BEACON_INVENTORIES;
 
     /**
      * The different cartography table inventories for different versions
      */
-    private static final EnumMap<Version, Class<? extends CartographyTableInventory>> CARTOGRAPHY_TABLE_INVENTORIES;
+    private static final EnumMap<Version, Supplier<? extends CartographyTableInventory>> CARTOGRAPHY_TABLE_INVENTORIES;
+
+    /**
+     * The different container updaters for different versions
+     */
+    private static final EnumMap<Version, Supplier<? extends ContainerUpdater>> CONTAINER_UPDATERS;
 
     /**
      * The different enchanting table inventories for different versions
      */
-    private static final EnumMap<Version, Class<? extends EnchantingTableInventory>> ENCHANTING_TABLE_INVENTORIES;
+    private static final EnumMap<Version, Supplier<? extends EnchantingTableInventory>> ENCHANTING_TABLE_INVENTORIES;
 
     /**
      * The different grindstone inventories for different versions
      */
-    private static final EnumMap<Version, Class<? extends GrindstoneInventory>> GRINDSTONE_INVENTORIES;
+    private static final EnumMap<Version, Supplier<? extends GrindstoneInventory>> GRINDSTONE_INVENTORIES;
 
     /**
      * The different loom inventories for different versions.
      */
-    private static final EnumMap<Version, Class<? extends LoomInventory>> LOOM_INVENTORIES;
+    private static final EnumMap<Version, Supplier<? extends LoomInventory>> LOOM_INVENTORIES;
 
     /**
      * The different merchant inventories for different versions
      */
-    private static final EnumMap<Version, Class<? extends MerchantInventory>> MERCHANT_INVENTORIES;
+    private static final EnumMap<Version, Supplier<? extends MerchantInventory>> MERCHANT_INVENTORIES;
 
     /**
      * The different smithing table inventories for different versions
      */
-    private static final EnumMap<Version, Class<? extends SmithingTableInventory>> SMITHING_TABLE_INVENTORIES;
+    private static final EnumMap<Version, Supplier<? extends SmithingTableInventory>> SMITHING_TABLE_INVENTORIES;
 
     /**
      * The different legacy smithing table inventories for different versions
      */
-    private static final EnumMap<Version, Class<? extends SmithingTableInventory>> LEGACY_SMITHING_TABLE_INVENTORIES;
+    private static final EnumMap<Version, Supplier<? extends SmithingTableInventory>> LEGACY_SMITHING_TABLE_INVENTORIES;
 
     /**
      * The different stonecutter inventories for different versions
      */
-    private static final EnumMap<Version, Class<? extends StonecutterInventory>> STONECUTTER_INVENTORIES;
+    private static final EnumMap<Version, Supplier<? extends StonecutterInventory>> STONECUTTER_INVENTORIES;
 
     /**
      * Gets a new anvil inventory for the specified version of the specified inventory holder.
@@ -76,12 +81,19 @@ public class VersionMatcher {
     @NotNull
     @Contract(pure = true)
     public static AnvilInventory newAnvilInventory(@NotNull Version version) {
-        try {
-            return ANVIL_INVENTORIES.get(version).getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+        return ANVIL_INVENTORIES.get(version).get();
+    }
+
+    /**
+     * Gets a new anvil inventory for the version the server is running on.
+     *
+     * @return the anvil inventory
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static AnvilInventory newAnvilInventory() {
+        return DetectedVersion.ANVIL_INVENTORY.get();
     }
 
     /**
@@ -94,12 +106,19 @@ public class VersionMatcher {
     @NotNull
     @Contract(pure = true)
     public static BeaconInventory newBeaconInventory(@NotNull Version version) {
-        try {
-            return BEACON_INVENTORIES.get(version).getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+        return BEACON_INVENTORIES.get(version).get();
+    }
+
+    /**
+     * Gets a new beacon inventory for the version the server is running on.
+     *
+     * @return the beacon inventory
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static BeaconInventory newBeaconInventory() {
+        return DetectedVersion.BEACON_INVENTORY.get();
     }
 
     /**
@@ -112,12 +131,44 @@ public class VersionMatcher {
     @NotNull
     @Contract(pure = true)
     public static CartographyTableInventory newCartographyTableInventory(@NotNull Version version) {
-        try {
-            return CARTOGRAPHY_TABLE_INVENTORIES.get(version).getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+        return CARTOGRAPHY_TABLE_INVENTORIES.get(version).get();
+    }
+
+    /**
+     * Gets a new cartography table inventory for the version the server is running on.
+     *
+     * @return the cartography table inventory
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static CartographyTableInventory newCartographyTableInventory() {
+        return DetectedVersion.CARTOGRAPHY_TABLE_INVENTORY.get();
+    }
+
+    /**
+     * Gets a new container updater for the specified version.
+     *
+     * @param version the version to get the container updater of
+     * @return the container updater
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static ContainerUpdater newContainerUpdater(@NotNull Version version) {
+        return CONTAINER_UPDATERS.get(version).get();
+    }
+
+    /**
+     * Gets a new container updater for the version the server is running on.
+     *
+     * @return the container updater
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static ContainerUpdater newContainerUpdater() {
+        return DetectedVersion.CONTAINER_UPDATER.get();
     }
 
     /**
@@ -130,14 +181,19 @@ public class VersionMatcher {
     @NotNull
     @Contract(pure = true)
     public static EnchantingTableInventory newEnchantingTableInventory(@NotNull Version version) {
-        try {
-            Class<? extends EnchantingTableInventory> clazz = ENCHANTING_TABLE_INVENTORIES.get(version);
+        return ENCHANTING_TABLE_INVENTORIES.get(version).get();
+    }
 
-            return clazz.getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+    /**
+     * Gets a new enchanting table inventory for the version the server is running on.
+     *
+     * @return the enchanting table inventory
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static EnchantingTableInventory newEnchantingTableInventory() {
+        return DetectedVersion.ENCHANTING_TABLE_INVENTORY.get();
     }
 
     /**
@@ -150,14 +206,19 @@ public class VersionMatcher {
     @NotNull
     @Contract(pure = true)
     public static GrindstoneInventory newGrindstoneInventory(@NotNull Version version) {
-        try {
-            Class<? extends GrindstoneInventory> clazz = GRINDSTONE_INVENTORIES.get(version);
+        return GRINDSTONE_INVENTORIES.get(version).get();
+    }
 
-            return clazz.getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+    /**
+     * Gets a new grindstone inventory for the version the server is running on.
+     *
+     * @return the grindstone inventory
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static GrindstoneInventory newGrindstoneInventory() {
+        return DetectedVersion.GRINDSTONE_INVENTORY.get();
     }
 
     /**
@@ -170,14 +231,19 @@ public class VersionMatcher {
     @NotNull
     @Contract(pure = true)
     public static LoomInventory newLoomInventory(@NotNull Version version) {
-        try {
-            Class<? extends LoomInventory> clazz = LOOM_INVENTORIES.get(version);
+        return LOOM_INVENTORIES.get(version).get();
+    }
 
-            return clazz.getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-                 NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+    /**
+     * Gets a new loom inventory for the version the server is running on.
+     *
+     * @return the loom inventory
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static LoomInventory newLoomInventory() {
+        return DetectedVersion.LOOM_INVENTORY.get();
     }
 
     /**
@@ -190,12 +256,19 @@ public class VersionMatcher {
     @NotNull
     @Contract(pure = true)
     public static MerchantInventory newMerchantInventory(@NotNull Version version) {
-        try {
-            return MERCHANT_INVENTORIES.get(version).getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-                NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+        return MERCHANT_INVENTORIES.get(version).get();
+    }
+
+    /**
+     * Gets a new merchant inventory for the version the server is running on.
+     *
+     * @return the merchant inventory
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static MerchantInventory newMerchantInventory() {
+        return DetectedVersion.MERCHANT_INVENTORY.get();
     }
 
     /**
@@ -219,12 +292,27 @@ public class VersionMatcher {
             throw new UnsupportedVersionException("Modern smithing tables didn't exist in version " + version);
         }
 
-        try {
-            return SMITHING_TABLE_INVENTORIES.get(version).getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
+        return SMITHING_TABLE_INVENTORIES.get(version).get();
+    }
+
+    /**
+     * Gets a new smithing table inventory for the version the server is running on. If the server is running on a
+     * version without modern smithing tables, an {@link UnsupportedVersionException} is thrown.
+     *
+     * @return the smithing table inventory
+     * @since 0.12.1
+     * @throws UnsupportedVersionException when the server is running on a version without modern smithing tables
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static SmithingTableInventory newModernSmithingTableInventory() {
+        Supplier<? extends SmithingTableInventory> supplier = DetectedVersion.SMITHING_TABLE_INVENTORY;
+
+        if (supplier == null) {
+            return newModernSmithingTableInventory(DetectedVersion.VERSION);
         }
+
+        return supplier.get();
     }
 
     /**
@@ -248,12 +336,27 @@ public class VersionMatcher {
             throw new UnsupportedVersionException("Legacy smithing tables don't exist in version " + version);
         }
 
-        try {
-            return LEGACY_SMITHING_TABLE_INVENTORIES.get(version).getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-                 NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
+        return LEGACY_SMITHING_TABLE_INVENTORIES.get(version).get();
+    }
+
+    /**
+     * Gets a new legacy smithing table inventory for the version the server is running on. If the server is running on
+     * a version without legacy smithing tables, an {@link UnsupportedVersionException} is thrown.
+     *
+     * @return the smithing table inventory
+     * @since 0.12.1
+     * @throws UnsupportedVersionException when the server is running on a version without legacy smithing tables
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static SmithingTableInventory newSmithingTableInventory() {
+        Supplier<? extends SmithingTableInventory> supplier = DetectedVersion.LEGACY_SMITHING_TABLE_INVENTORY;
+
+        if (supplier == null) {
+            return newSmithingTableInventory(DetectedVersion.VERSION);
         }
+
+        return supplier.get();
     }
 
     /**
@@ -266,377 +369,521 @@ public class VersionMatcher {
     @NotNull
     @Contract(pure = true)
     public static StonecutterInventory newStonecutterInventory(@NotNull Version version) {
-        try {
-            return STONECUTTER_INVENTORIES.get(version).getConstructor().newInstance();
-        } catch (InstantiationException | IllegalAccessException | InvocationTargetException |
-            NoSuchMethodException exception) {
-            throw new IllegalStateException(exception);
-        }
+        return STONECUTTER_INVENTORIES.get(version).get();
     }
 
+    /**
+     * Gets a new stonecutter inventory for the version the server is running on.
+     *
+     * @return the stonecutter inventory
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    public static StonecutterInventory newStonecutterInventory() {
+        return DetectedVersion.STONECUTTER_INVENTORY.get();
+    }
+
+    /*
+    The inventories are registered as lambdas rather than class literals or constructor references, so only the NMS
+    classes of the version that is actually requested get loaded.
+     */
     static {
         ANVIL_INVENTORIES = new EnumMap<>(Version.class);
         ANVIL_INVENTORIES.put(Version.V1_16_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_5.AnvilInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_16_5.AnvilInventoryImpl());
         ANVIL_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.AnvilInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_17_1.AnvilInventoryImpl());
         ANVIL_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.AnvilInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_18_2.AnvilInventoryImpl());
         ANVIL_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.AnvilInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_19_4.AnvilInventoryImpl());
         ANVIL_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.AnvilInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_0.AnvilInventoryImpl());
         ANVIL_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.AnvilInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_1.AnvilInventoryImpl());
         ANVIL_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.AnvilInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_2.AnvilInventoryImpl());
         ANVIL_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.AnvilInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_3.AnvilInventoryImpl());
         ANVIL_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.AnvilInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_5.AnvilInventoryImpl());
         ANVIL_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.AnvilInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_6.AnvilInventoryImpl());
         ANVIL_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.AnvilInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_0.AnvilInventoryImpl());
         ANVIL_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.AnvilInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_1.AnvilInventoryImpl());
         ANVIL_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.AnvilInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.AnvilInventoryImpl());
         ANVIL_INVENTORIES.put(Version.V1_21_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_4.AnvilInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_4.AnvilInventoryImpl());
         ANVIL_INVENTORIES.put(Version.V1_21_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_5.AnvilInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_5.AnvilInventoryImpl());
         ANVIL_INVENTORIES.put(Version.V1_21_6_8,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.AnvilInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.AnvilInventoryImpl());
         ANVIL_INVENTORIES.put(Version.V1_21_9_10,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_9_10.AnvilInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_9_10.AnvilInventoryImpl());
         ANVIL_INVENTORIES.put(Version.V1_21_11,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_11.AnvilInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_11.AnvilInventoryImpl());
         ANVIL_INVENTORIES.put(Version.V26_1,
-            com.github.stefvanschie.inventoryframework.nms.v26_1.AnvilInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v26_1.AnvilInventoryImpl());
 
         BEACON_INVENTORIES = new EnumMap<>(Version.class);
         BEACON_INVENTORIES.put(Version.V1_16_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_5.BeaconInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_16_5.BeaconInventoryImpl());
         BEACON_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.BeaconInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_17_1.BeaconInventoryImpl());
         BEACON_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.BeaconInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_18_2.BeaconInventoryImpl());
         BEACON_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.BeaconInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_19_4.BeaconInventoryImpl());
         BEACON_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.BeaconInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_0.BeaconInventoryImpl());
         BEACON_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.BeaconInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_1.BeaconInventoryImpl());
         BEACON_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.BeaconInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_2.BeaconInventoryImpl());
         BEACON_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.BeaconInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_3.BeaconInventoryImpl());
         BEACON_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.BeaconInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_5.BeaconInventoryImpl());
         BEACON_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.BeaconInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_6.BeaconInventoryImpl());
         BEACON_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.BeaconInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_0.BeaconInventoryImpl());
         BEACON_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.BeaconInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_1.BeaconInventoryImpl());
         BEACON_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.BeaconInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.BeaconInventoryImpl());
         BEACON_INVENTORIES.put(Version.V1_21_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_4.BeaconInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_4.BeaconInventoryImpl());
         BEACON_INVENTORIES.put(Version.V1_21_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_5.BeaconInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_5.BeaconInventoryImpl());
         BEACON_INVENTORIES.put(Version.V1_21_6_8,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.BeaconInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.BeaconInventoryImpl());
         BEACON_INVENTORIES.put(Version.V1_21_9_10,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_9_10.BeaconInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_9_10.BeaconInventoryImpl());
         BEACON_INVENTORIES.put(Version.V1_21_11,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_11.BeaconInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_11.BeaconInventoryImpl());
         BEACON_INVENTORIES.put(Version.V26_1,
-            com.github.stefvanschie.inventoryframework.nms.v26_1.BeaconInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v26_1.BeaconInventoryImpl());
 
         CARTOGRAPHY_TABLE_INVENTORIES = new EnumMap<>(Version.class);
         CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_16_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_5.CartographyTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_16_5.CartographyTableInventoryImpl());
         CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.CartographyTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_17_1.CartographyTableInventoryImpl());
         CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.CartographyTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_18_2.CartographyTableInventoryImpl());
         CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.CartographyTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_19_4.CartographyTableInventoryImpl());
         CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.CartographyTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_0.CartographyTableInventoryImpl());
         CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.CartographyTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_1.CartographyTableInventoryImpl());
         CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.CartographyTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_2.CartographyTableInventoryImpl());
         CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.CartographyTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_3.CartographyTableInventoryImpl());
         CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.CartographyTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_5.CartographyTableInventoryImpl());
         CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.CartographyTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_6.CartographyTableInventoryImpl());
         CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.CartographyTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_0.CartographyTableInventoryImpl());
         CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.CartographyTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_1.CartographyTableInventoryImpl());
         CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.CartographyTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.CartographyTableInventoryImpl());
         CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_21_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_4.CartographyTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_4.CartographyTableInventoryImpl());
         CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_21_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_5.CartographyTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_5.CartographyTableInventoryImpl());
         CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_21_6_8,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.CartographyTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.CartographyTableInventoryImpl());
         CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_21_9_10,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_9_10.CartographyTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_9_10.CartographyTableInventoryImpl());
         CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V1_21_11,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_11.CartographyTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_11.CartographyTableInventoryImpl());
         CARTOGRAPHY_TABLE_INVENTORIES.put(Version.V26_1,
-            com.github.stefvanschie.inventoryframework.nms.v26_1.CartographyTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v26_1.CartographyTableInventoryImpl());
+
+        CONTAINER_UPDATERS = new EnumMap<>(Version.class);
+        CONTAINER_UPDATERS.put(Version.V1_16_5,
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_16_5.ContainerUpdaterImpl());
+        CONTAINER_UPDATERS.put(Version.V1_17_1,
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_17_1.ContainerUpdaterImpl());
+        CONTAINER_UPDATERS.put(Version.V1_18_2,
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_18_2.ContainerUpdaterImpl());
+        CONTAINER_UPDATERS.put(Version.V1_19_4,
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_19_4.ContainerUpdaterImpl());
+        CONTAINER_UPDATERS.put(Version.V1_20_0,
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_0.ContainerUpdaterImpl());
+        CONTAINER_UPDATERS.put(Version.V1_20_1,
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_1.ContainerUpdaterImpl());
+        CONTAINER_UPDATERS.put(Version.V1_20_2,
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_2.ContainerUpdaterImpl());
+        CONTAINER_UPDATERS.put(Version.V1_20_3_4,
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_3.ContainerUpdaterImpl());
+        CONTAINER_UPDATERS.put(Version.V1_20_5,
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_5.ContainerUpdaterImpl());
+        CONTAINER_UPDATERS.put(Version.V1_20_6,
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_6.ContainerUpdaterImpl());
+        CONTAINER_UPDATERS.put(Version.V1_21_0,
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_0.ContainerUpdaterImpl());
+        CONTAINER_UPDATERS.put(Version.V1_21_1,
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_1.ContainerUpdaterImpl());
+        CONTAINER_UPDATERS.put(Version.V1_21_2_3,
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.ContainerUpdaterImpl());
+        CONTAINER_UPDATERS.put(Version.V1_21_4,
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_4.ContainerUpdaterImpl());
+        CONTAINER_UPDATERS.put(Version.V1_21_5,
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_5.ContainerUpdaterImpl());
+        CONTAINER_UPDATERS.put(Version.V1_21_6_8,
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.ContainerUpdaterImpl());
+        CONTAINER_UPDATERS.put(Version.V1_21_9_10,
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_9_10.ContainerUpdaterImpl());
+        CONTAINER_UPDATERS.put(Version.V1_21_11,
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_11.ContainerUpdaterImpl());
+        CONTAINER_UPDATERS.put(Version.V26_1,
+            () -> new com.github.stefvanschie.inventoryframework.nms.v26_1.ContainerUpdaterImpl());
 
         ENCHANTING_TABLE_INVENTORIES = new EnumMap<>(Version.class);
         ENCHANTING_TABLE_INVENTORIES.put(Version.V1_16_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_5.EnchantingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_16_5.EnchantingTableInventoryImpl());
         ENCHANTING_TABLE_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.EnchantingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_17_1.EnchantingTableInventoryImpl());
         ENCHANTING_TABLE_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.EnchantingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_18_2.EnchantingTableInventoryImpl());
         ENCHANTING_TABLE_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.EnchantingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_19_4.EnchantingTableInventoryImpl());
         ENCHANTING_TABLE_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.EnchantingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_0.EnchantingTableInventoryImpl());
         ENCHANTING_TABLE_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.EnchantingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_1.EnchantingTableInventoryImpl());
         ENCHANTING_TABLE_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.EnchantingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_2.EnchantingTableInventoryImpl());
         ENCHANTING_TABLE_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.EnchantingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_3.EnchantingTableInventoryImpl());
         ENCHANTING_TABLE_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.EnchantingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_5.EnchantingTableInventoryImpl());
         ENCHANTING_TABLE_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.EnchantingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_6.EnchantingTableInventoryImpl());
         ENCHANTING_TABLE_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.EnchantingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_0.EnchantingTableInventoryImpl());
         ENCHANTING_TABLE_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.EnchantingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_1.EnchantingTableInventoryImpl());
         ENCHANTING_TABLE_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.EnchantingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.EnchantingTableInventoryImpl());
         ENCHANTING_TABLE_INVENTORIES.put(Version.V1_21_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_4.EnchantingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_4.EnchantingTableInventoryImpl());
         ENCHANTING_TABLE_INVENTORIES.put(Version.V1_21_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_5.EnchantingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_5.EnchantingTableInventoryImpl());
         ENCHANTING_TABLE_INVENTORIES.put(Version.V1_21_6_8,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.EnchantingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.EnchantingTableInventoryImpl());
         ENCHANTING_TABLE_INVENTORIES.put(Version.V1_21_9_10,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_9_10.EnchantingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_9_10.EnchantingTableInventoryImpl());
         ENCHANTING_TABLE_INVENTORIES.put(Version.V1_21_11,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_11.EnchantingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_11.EnchantingTableInventoryImpl());
         ENCHANTING_TABLE_INVENTORIES.put(Version.V26_1,
-            com.github.stefvanschie.inventoryframework.nms.v26_1.EnchantingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v26_1.EnchantingTableInventoryImpl());
 
         GRINDSTONE_INVENTORIES = new EnumMap<>(Version.class);
         GRINDSTONE_INVENTORIES.put(Version.V1_16_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_5.GrindstoneInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_16_5.GrindstoneInventoryImpl());
         GRINDSTONE_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.GrindstoneInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_17_1.GrindstoneInventoryImpl());
         GRINDSTONE_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.GrindstoneInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_18_2.GrindstoneInventoryImpl());
         GRINDSTONE_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.GrindstoneInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_19_4.GrindstoneInventoryImpl());
         GRINDSTONE_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.GrindstoneInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_0.GrindstoneInventoryImpl());
         GRINDSTONE_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.GrindstoneInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_1.GrindstoneInventoryImpl());
         GRINDSTONE_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.GrindstoneInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_2.GrindstoneInventoryImpl());
         GRINDSTONE_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.GrindstoneInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_3.GrindstoneInventoryImpl());
         GRINDSTONE_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.GrindstoneInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_5.GrindstoneInventoryImpl());
         GRINDSTONE_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.GrindstoneInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_6.GrindstoneInventoryImpl());
         GRINDSTONE_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.GrindstoneInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_0.GrindstoneInventoryImpl());
         GRINDSTONE_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.GrindstoneInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_1.GrindstoneInventoryImpl());
         GRINDSTONE_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.GrindstoneInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.GrindstoneInventoryImpl());
         GRINDSTONE_INVENTORIES.put(Version.V1_21_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_4.GrindstoneInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_4.GrindstoneInventoryImpl());
         GRINDSTONE_INVENTORIES.put(Version.V1_21_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_5.GrindstoneInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_5.GrindstoneInventoryImpl());
         GRINDSTONE_INVENTORIES.put(Version.V1_21_6_8,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.GrindstoneInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.GrindstoneInventoryImpl());
         GRINDSTONE_INVENTORIES.put(Version.V1_21_9_10,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_9_10.GrindstoneInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_9_10.GrindstoneInventoryImpl());
         GRINDSTONE_INVENTORIES.put(Version.V1_21_11,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_11.GrindstoneInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_11.GrindstoneInventoryImpl());
         GRINDSTONE_INVENTORIES.put(Version.V26_1,
-            com.github.stefvanschie.inventoryframework.nms.v26_1.GrindstoneInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v26_1.GrindstoneInventoryImpl());
 
         LOOM_INVENTORIES = new EnumMap<>(Version.class);
         LOOM_INVENTORIES.put(Version.V1_16_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_5.LoomInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_16_5.LoomInventoryImpl());
         LOOM_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.LoomInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_17_1.LoomInventoryImpl());
         LOOM_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.LoomInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_18_2.LoomInventoryImpl());
         LOOM_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.LoomInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_19_4.LoomInventoryImpl());
         LOOM_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.LoomInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_0.LoomInventoryImpl());
         LOOM_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.LoomInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_1.LoomInventoryImpl());
         LOOM_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.LoomInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_2.LoomInventoryImpl());
         LOOM_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.LoomInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_3.LoomInventoryImpl());
         LOOM_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.LoomInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_5.LoomInventoryImpl());
         LOOM_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.LoomInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_6.LoomInventoryImpl());
         LOOM_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.LoomInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_0.LoomInventoryImpl());
         LOOM_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.LoomInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_1.LoomInventoryImpl());
         LOOM_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.LoomInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.LoomInventoryImpl());
         LOOM_INVENTORIES.put(Version.V1_21_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_4.LoomInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_4.LoomInventoryImpl());
         LOOM_INVENTORIES.put(Version.V1_21_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_5.LoomInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_5.LoomInventoryImpl());
         LOOM_INVENTORIES.put(Version.V1_21_6_8,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.LoomInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.LoomInventoryImpl());
         LOOM_INVENTORIES.put(Version.V1_21_9_10,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_9_10.LoomInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_9_10.LoomInventoryImpl());
         LOOM_INVENTORIES.put(Version.V1_21_11,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_11.LoomInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_11.LoomInventoryImpl());
         LOOM_INVENTORIES.put(Version.V26_1,
-            com.github.stefvanschie.inventoryframework.nms.v26_1.LoomInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v26_1.LoomInventoryImpl());
 
         MERCHANT_INVENTORIES = new EnumMap<>(Version.class);
         MERCHANT_INVENTORIES.put(Version.V1_16_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_5.MerchantInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_16_5.MerchantInventoryImpl());
         MERCHANT_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.MerchantInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_17_1.MerchantInventoryImpl());
         MERCHANT_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.MerchantInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_18_2.MerchantInventoryImpl());
         MERCHANT_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.MerchantInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_19_4.MerchantInventoryImpl());
         MERCHANT_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.MerchantInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_0.MerchantInventoryImpl());
         MERCHANT_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.MerchantInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_1.MerchantInventoryImpl());
         MERCHANT_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.MerchantInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_2.MerchantInventoryImpl());
         MERCHANT_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.MerchantInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_3.MerchantInventoryImpl());
         MERCHANT_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.MerchantInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_5.MerchantInventoryImpl());
         MERCHANT_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.MerchantInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_6.MerchantInventoryImpl());
         MERCHANT_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.MerchantInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_0.MerchantInventoryImpl());
         MERCHANT_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.MerchantInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_1.MerchantInventoryImpl());
         MERCHANT_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.MerchantInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.MerchantInventoryImpl());
         MERCHANT_INVENTORIES.put(Version.V1_21_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_4.MerchantInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_4.MerchantInventoryImpl());
         MERCHANT_INVENTORIES.put(Version.V1_21_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_5.MerchantInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_5.MerchantInventoryImpl());
         MERCHANT_INVENTORIES.put(Version.V1_21_6_8,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.MerchantInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.MerchantInventoryImpl());
         MERCHANT_INVENTORIES.put(Version.V1_21_9_10,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_9_10.MerchantInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_9_10.MerchantInventoryImpl());
         MERCHANT_INVENTORIES.put(Version.V1_21_11,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_11.MerchantInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_11.MerchantInventoryImpl());
         MERCHANT_INVENTORIES.put(Version.V26_1,
-            com.github.stefvanschie.inventoryframework.nms.v26_1.MerchantInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v26_1.MerchantInventoryImpl());
 
         SMITHING_TABLE_INVENTORIES = new EnumMap<>(Version.class);
         SMITHING_TABLE_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.SmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_19_4.SmithingTableInventoryImpl());
         SMITHING_TABLE_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.SmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_0.SmithingTableInventoryImpl());
         SMITHING_TABLE_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.SmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_1.SmithingTableInventoryImpl());
         SMITHING_TABLE_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.SmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_2.SmithingTableInventoryImpl());
         SMITHING_TABLE_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.SmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_3.SmithingTableInventoryImpl());
         SMITHING_TABLE_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.SmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_5.SmithingTableInventoryImpl());
         SMITHING_TABLE_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.SmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_6.SmithingTableInventoryImpl());
         SMITHING_TABLE_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.SmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_0.SmithingTableInventoryImpl());
         SMITHING_TABLE_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.SmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_1.SmithingTableInventoryImpl());
         SMITHING_TABLE_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.SmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.SmithingTableInventoryImpl());
         SMITHING_TABLE_INVENTORIES.put(Version.V1_21_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_4.SmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_4.SmithingTableInventoryImpl());
         SMITHING_TABLE_INVENTORIES.put(Version.V1_21_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_5.SmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_5.SmithingTableInventoryImpl());
         SMITHING_TABLE_INVENTORIES.put(Version.V1_21_6_8,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.SmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.SmithingTableInventoryImpl());
         SMITHING_TABLE_INVENTORIES.put(Version.V1_21_9_10,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_9_10.SmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_9_10.SmithingTableInventoryImpl());
         SMITHING_TABLE_INVENTORIES.put(Version.V1_21_11,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_11.SmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_11.SmithingTableInventoryImpl());
         SMITHING_TABLE_INVENTORIES.put(Version.V26_1,
-            com.github.stefvanschie.inventoryframework.nms.v26_1.SmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v26_1.SmithingTableInventoryImpl());
 
         LEGACY_SMITHING_TABLE_INVENTORIES = new EnumMap<>(Version.class);
         LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_16_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_5.SmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_16_5.SmithingTableInventoryImpl());
         LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.SmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_17_1.SmithingTableInventoryImpl());
         LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.SmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_18_2.SmithingTableInventoryImpl());
         LEGACY_SMITHING_TABLE_INVENTORIES.put(Version.V1_19_4,
-            LegacySmithingTableInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_19_4.LegacySmithingTableInventoryImpl());
 
         STONECUTTER_INVENTORIES = new EnumMap<>(Version.class);
         STONECUTTER_INVENTORIES.put(Version.V1_16_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_16_5.StonecutterInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_16_5.StonecutterInventoryImpl());
         STONECUTTER_INVENTORIES.put(Version.V1_17_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_17_1.StonecutterInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_17_1.StonecutterInventoryImpl());
         STONECUTTER_INVENTORIES.put(Version.V1_18_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_18_2.StonecutterInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_18_2.StonecutterInventoryImpl());
         STONECUTTER_INVENTORIES.put(Version.V1_19_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_19_4.StonecutterInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_19_4.StonecutterInventoryImpl());
         STONECUTTER_INVENTORIES.put(Version.V1_20_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_0.StonecutterInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_0.StonecutterInventoryImpl());
         STONECUTTER_INVENTORIES.put(Version.V1_20_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_1.StonecutterInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_1.StonecutterInventoryImpl());
         STONECUTTER_INVENTORIES.put(Version.V1_20_2,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_2.StonecutterInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_2.StonecutterInventoryImpl());
         STONECUTTER_INVENTORIES.put(Version.V1_20_3_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_3.StonecutterInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_3.StonecutterInventoryImpl());
         STONECUTTER_INVENTORIES.put(Version.V1_20_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_5.StonecutterInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_5.StonecutterInventoryImpl());
         STONECUTTER_INVENTORIES.put(Version.V1_20_6,
-            com.github.stefvanschie.inventoryframework.nms.v1_20_6.StonecutterInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_20_6.StonecutterInventoryImpl());
         STONECUTTER_INVENTORIES.put(Version.V1_21_0,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_0.StonecutterInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_0.StonecutterInventoryImpl());
         STONECUTTER_INVENTORIES.put(Version.V1_21_1,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_1.StonecutterInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_1.StonecutterInventoryImpl());
         STONECUTTER_INVENTORIES.put(Version.V1_21_2_3,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.StonecutterInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_2_3.StonecutterInventoryImpl());
         STONECUTTER_INVENTORIES.put(Version.V1_21_4,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_4.StonecutterInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_4.StonecutterInventoryImpl());
         STONECUTTER_INVENTORIES.put(Version.V1_21_5,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_5.StonecutterInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_5.StonecutterInventoryImpl());
         STONECUTTER_INVENTORIES.put(Version.V1_21_6_8,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.StonecutterInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_6_8.StonecutterInventoryImpl());
         STONECUTTER_INVENTORIES.put(Version.V1_21_9_10,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_9_10.StonecutterInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_9_10.StonecutterInventoryImpl());
         STONECUTTER_INVENTORIES.put(Version.V1_21_11,
-            com.github.stefvanschie.inventoryframework.nms.v1_21_11.StonecutterInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v1_21_11.StonecutterInventoryImpl());
         STONECUTTER_INVENTORIES.put(Version.V26_1,
-            com.github.stefvanschie.inventoryframework.nms.v26_1.StonecutterInventoryImpl.class);
+            () -> new com.github.stefvanschie.inventoryframework.nms.v26_1.StonecutterInventoryImpl());
+    }
+
+    /**
+     * The suppliers for the version the server is running on. These are resolved once, when any of them is first used.
+     *
+     * @since 0.12.1
+     */
+    private static final class DetectedVersion {
+
+        /**
+         * The version the server is running on
+         */
+        @NotNull
+        private static final Version VERSION = Version.getVersion();
+
+        /**
+         * The supplier of anvil inventories for the version the server is running on
+         */
+        @NotNull
+        private static final Supplier<? extends AnvilInventory> ANVIL_INVENTORY =
+            ANVIL_INVENTORIES.get(VERSION);
+
+        /**
+         * The supplier of beacon inventories for the version the server is running on
+         */
+        @NotNull
+        private static final Supplier<? extends BeaconInventory> BEACON_INVENTORY =
+            BEACON_INVENTORIES.get(VERSION);
+
+        /**
+         * The supplier of cartography table inventories for the version the server is running on
+         */
+        @NotNull
+        private static final Supplier<? extends CartographyTableInventory> CARTOGRAPHY_TABLE_INVENTORY =
+            CARTOGRAPHY_TABLE_INVENTORIES.get(VERSION);
+
+        /**
+         * The supplier of container updaters for the version the server is running on
+         */
+        @NotNull
+        private static final Supplier<? extends ContainerUpdater> CONTAINER_UPDATER =
+            CONTAINER_UPDATERS.get(VERSION);
+
+        /**
+         * The supplier of enchanting table inventories for the version the server is running on
+         */
+        @NotNull
+        private static final Supplier<? extends EnchantingTableInventory> ENCHANTING_TABLE_INVENTORY =
+            ENCHANTING_TABLE_INVENTORIES.get(VERSION);
+
+        /**
+         * The supplier of grindstone inventories for the version the server is running on
+         */
+        @NotNull
+        private static final Supplier<? extends GrindstoneInventory> GRINDSTONE_INVENTORY =
+            GRINDSTONE_INVENTORIES.get(VERSION);
+
+        /**
+         * The supplier of loom inventories for the version the server is running on
+         */
+        @NotNull
+        private static final Supplier<? extends LoomInventory> LOOM_INVENTORY =
+            LOOM_INVENTORIES.get(VERSION);
+
+        /**
+         * The supplier of merchant inventories for the version the server is running on
+         */
+        @NotNull
+        private static final Supplier<? extends MerchantInventory> MERCHANT_INVENTORY =
+            MERCHANT_INVENTORIES.get(VERSION);
+
+        /**
+         * The supplier of stonecutter inventories for the version the server is running on
+         */
+        @NotNull
+        private static final Supplier<? extends StonecutterInventory> STONECUTTER_INVENTORY =
+            STONECUTTER_INVENTORIES.get(VERSION);
+
+        /**
+         * The supplier of smithing table inventories for the version the server is running on, or null if this version
+         * has no modern smithing tables
+         */
+        @Nullable
+        private static final Supplier<? extends SmithingTableInventory> SMITHING_TABLE_INVENTORY =
+            SMITHING_TABLE_INVENTORIES.get(VERSION);
+
+        /**
+         * The supplier of legacy smithing table inventories for the version the server is running on, or null if this
+         * version has no legacy smithing tables
+         */
+        @Nullable
+        private static final Supplier<? extends SmithingTableInventory> LEGACY_SMITHING_TABLE_INVENTORY =
+            LEGACY_SMITHING_TABLE_INVENTORIES.get(VERSION);
     }
 }
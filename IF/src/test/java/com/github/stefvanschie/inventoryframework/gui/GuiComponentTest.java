@@ -1,7 +1,11 @@
 package com.github.stefvanschie.inventoryframework.gui;
 
 import com.github.stefvanschie.inventoryframework.pane.*;
+import com.github.stefvanschie.inventoryframework.pane.util.GuiItemContainer;
 import com.github.stefvanschie.inventoryframework.pane.util.Slot;
+import com.github.stefvanschie.inventoryframework.util.TestUtil;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
@@ -91,4 +95,96 @@ public class GuiComponentTest {
         assertEquals(Pane.Priority.HIGHEST, panes.get(1).getPriority());
         assertEquals(Pane.Priority.MONITOR, panes.get(2).getPriority());
     }
+
+    @Test
+    void testDisplayEqualPriorityLastAddedWins() {
+        GuiComponent guiComponent = new GuiComponent(1, 1);
+
+        guiComponent.addPane(Slot.fromXY(0, 0), createPane(1, 1, Pane.Priority.NORMAL, Material.STONE));
+        guiComponent.addPane(Slot.fromXY(0, 0), createPane(1, 1, Pane.Priority.NORMAL, Material.DIRT));
+
+        assertArrayEquals(new Material[] {Material.DIRT}, display(guiComponent));
+    }
+
+    @Test
+    void testDisplayPartiallyCovered() {
+        GuiComponent guiComponent = new GuiComponent(3, 1);
+        StaticPane high = new StaticPane(2, 1, Pane.Priority.HIGH);
+
+        high.addItem(TestUtil.createItem(Material.DIRT), 0, 0);
+
+        guiComponent.addPane(Slot.fromXY(0, 0), createPane(3, 1, Pane.Priority.LOW, Material.STONE));
+        guiComponent.addPane(Slot.fromXY(0, 0), high);
+
+        assertArrayEquals(new Material[] {Material.DIRT, Material.STONE, Material.STONE}, display(guiComponent));
+    }
+
+    @Test
+    void testDisplayLooseItemsLowest() {
+        GuiComponent guiComponent = new GuiComponent(2, 1);
+
+        guiComponent.setItem(TestUtil.createItem(Material.SAND), Slot.fromXY(0, 0));
+        guiComponent.setItem(TestUtil.createItem(Material.SAND), Slot.fromXY(1, 0));
+        guiComponent.addPane(Slot.fromXY(0, 0), createPane(1, 1, Pane.Priority.LOWEST, Material.STONE));
+
+        assertArrayEquals(new Material[] {Material.STONE, Material.SAND}, display(guiComponent));
+    }
+
+    @Test
+    void testDisplayCoveredPaneSkipped() {
+        GuiComponent guiComponent = new GuiComponent(2, 1);
+        int[] displayCount = new int[2];
+
+        StaticPane covered = new StaticPane(1, 1, Pane.Priority.LOW) {
+            @Override
+            public GuiItemContainer display() {
+                displayCount[0]++;
+
+                return super.display();
+            }
+        };
+        StaticPane partiallyCovered = new StaticPane(2, 1, Pane.Priority.LOW) {
+            @Override
+            public GuiItemContainer display() {
+                displayCount[1]++;
+
+                return super.display();
+            }
+        };
+
+        guiComponent.addPane(Slot.fromXY(1, 0), covered);
+        guiComponent.addPane(Slot.fromXY(0, 0), partiallyCovered);
+        guiComponent.addPane(Slot.fromXY(1, 0), createPane(1, 1, Pane.Priority.HIGH, Material.DIRT));
+
+        guiComponent.display();
+
+        assertEquals(0, displayCount[0]);
+        assertEquals(1, displayCount[1]);
+    }
+
+    private static StaticPane createPane(int length, int height, Pane.Priority priority, Material material) {
+        StaticPane pane = new StaticPane(length, height, priority);
+
+        for (int x = 0; x < length; x++) {
+            for (int y = 0; y < height; y++) {
+                pane.addItem(TestUtil.createItem(material), x, y);
+            }
+        }
+
+        return pane;
+    }
+
+    private static Material[] display(GuiComponent guiComponent) {
+        ItemStack[] items = new ItemStack[guiComponent.getLength() * guiComponent.getHeight()];
+        Material[] materials = new Material[items.length];
+
+        guiComponent.display();
+        guiComponent.placeItems(items, 0);
+
+        for (int index = 0; index < items.length; index++) {
+            materials[index] = items[index] == null ? null : items[index].getType();
+        }
+
+        return materials;
+    }
 }
@@ -0,0 +1,112 @@
+package com.github.stefvanschie.inventoryframework.gui.type.util;
+
+import com.github.stefvanschie.inventoryframework.exception.XMLLoadException;
+import com.github.stefvanschie.inventoryframework.pane.PaginatedPane;
+import com.github.stefvanschie.inventoryframework.pane.StaticPane;
+import com.github.stefvanschie.inventoryframework.pane.component.Slider;
+import com.github.stefvanschie.inventoryframework.pane.component.ToggleButton;
+import com.github.stefvanschie.inventoryframework.pane.util.Slot;
+import com.github.stefvanschie.inventoryframework.util.TestUtil;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Element;
+import org.xml.sax.InputSource;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.StringReader;
+import java.lang.reflect.Field;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GuiTemplateWatcherTest {
+
+    @Test
+    void testTransferFieldStates() throws Exception {
+        Holder holder = new Holder();
+        holder.pages = createPaginatedPane(3);
+        holder.pages.setPage(2);
+        holder.toggle = new ToggleButton(1, 1, true, TestUtil.getPlugin());
+        holder.slider = new Slider(4, 1, TestUtil.getPlugin());
+        holder.slider.setValue(0.5F);
+
+        Map<Field, Object> oldValues = GuiTemplateWatcher.getFieldValues(holder, parse(
+            "<gui><paginatedpane field=\"pages\"/><togglebutton field=\"toggle\"/><slider field=\"slider\"/></gui>"
+        ));
+
+        holder.pages = createPaginatedPane(3);
+        holder.toggle = new ToggleButton(1, 1, false, TestUtil.getPlugin());
+        holder.slider = new Slider(4, 1, TestUtil.getPlugin());
+
+        GuiTemplateWatcher.transferFieldStates(holder, oldValues);
+
+        assertEquals(2, holder.pages.getPage());
+        assertTrue(holder.toggle.isEnabled());
+        assertEquals(0.5F, holder.slider.getValue());
+    }
+
+    @Test
+    void testTransferStatePageRemoved() {
+        PaginatedPane oldPane = createPaginatedPane(3);
+        oldPane.setPage(2);
+
+        PaginatedPane newPane = createPaginatedPane(2);
+
+        GuiTemplateWatcher.transferState(oldPane, newPane);
+
+        assertEquals(0, newPane.getPage());
+    }
+
+    @Test
+    void testTransferStateDifferentType() {
+        ToggleButton oldButton = new ToggleButton(1, 1, true, TestUtil.getPlugin());
+        Slider newSlider = new Slider(4, 1, TestUtil.getPlugin());
+
+        GuiTemplateWatcher.transferState(oldButton, newSlider);
+
+        assertEquals(0, newSlider.getValue());
+    }
+
+    @Test
+    void testRebuildFailureRestoresFields() throws Exception {
+        Gui.registerGui("template-watcher-test", (instance, element, plugin) -> {
+            ((Holder) instance).pages = new PaginatedPane(1, 1);
+
+            throw new XMLLoadException("Loading failed after the field was set");
+        });
+
+        Holder holder = new Holder();
+        PaginatedPane pages = createPaginatedPane(1);
+        holder.pages = pages;
+
+        GuiTemplateWatcher watcher = new GuiTemplateWatcher(TestUtil.getPlugin());
+        Element element = parse("<gui type=\"template-watcher-test\"><paginatedpane field=\"pages\"/></gui>");
+
+        assertThrows(XMLLoadException.class, () -> watcher.rebuild(holder, element));
+        assertSame(pages, holder.pages);
+    }
+
+    private static PaginatedPane createPaginatedPane(int pages) {
+        PaginatedPane pane = new PaginatedPane(1, 1);
+
+        for (int page = 0; page < pages; page++) {
+            pane.addPage(Slot.fromXY(0, 0), new StaticPane(1, 1));
+        }
+
+        return pane;
+    }
+
+    private static Element parse(String xml) throws Exception {
+        return DocumentBuilderFactory.newInstance().newDocumentBuilder()
+            .parse(new InputSource(new StringReader(xml)))
+            .getDocumentElement();
+    }
+
+    public static class Holder {
+
+        public PaginatedPane pages;
+
+        public ToggleButton toggle;
+
+        public Slider slider;
+    }
+}
@@ -1,8 +1,13 @@
 package com.github.stefvanschie.inventoryframework.pane;
 
+import com.github.stefvanschie.inventoryframework.gui.GuiItem;
 import com.github.stefvanschie.inventoryframework.pane.component.CycleButton;
+import com.github.stefvanschie.inventoryframework.pane.util.GuiItemContainer;
+import com.github.stefvanschie.inventoryframework.util.TestUtil;
+import org.bukkit.Material;
 import org.junit.jupiter.api.Test;
 
+import static com.github.stefvanschie.inventoryframework.util.TestUtil.assertDisplayed;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class MasonryPaneTest {
@@ -31,4 +36,103 @@ public class MasonryPaneTest {
         assertEquals(original.getPanes().size(), copy.getPanes().size());
         assertEquals(original.getUUID(), copy.getUUID());
     }
+
+    @Test
+    void testDisplayAfterChildResize() {
+        MasonryPane pane = new MasonryPane(3, 1);
+        StaticPane first = new StaticPane(1, 1);
+        StaticPane second = new StaticPane(1, 1);
+        GuiItem item = TestUtil.createItem(Material.STONE);
+
+        second.addItem(item, 0, 0);
+
+        pane.addPane(first);
+        pane.addPane(second);
+
+        assertDisplayed(item, pane.display(), 1, 0);
+
+        first.setLength(2);
+
+        GuiItemContainer container = pane.display();
+
+        assertDisplayed(null, container, 1, 0);
+        assertDisplayed(item, container, 2, 0);
+    }
+
+    @Test
+    void testDisplayAfterVisibilityToggle() {
+        MasonryPane pane = new MasonryPane(2, 1);
+        StaticPane first = new StaticPane(1, 1);
+        StaticPane second = new StaticPane(1, 1);
+        GuiItem firstItem = TestUtil.createItem(Material.STONE);
+        GuiItem secondItem = TestUtil.createItem(Material.DIRT);
+
+        first.addItem(firstItem, 0, 0);
+        second.addItem(secondItem, 0, 0);
+
+        pane.addPane(first);
+        pane.addPane(second);
+
+        assertDisplayed(secondItem, pane.display(), 1, 0);
+
+        first.setVisible(false);
+
+        GuiItemContainer container = pane.display();
+
+        assertDisplayed(secondItem, container, 0, 0);
+        assertDisplayed(null, container, 1, 0);
+
+        first.setVisible(true);
+
+        container = pane.display();
+
+        assertDisplayed(firstItem, container, 0, 0);
+        assertDisplayed(secondItem, container, 1, 0);
+    }
+
+    @Test
+    void testDisplayAfterAddPane() {
+        MasonryPane pane = new MasonryPane(2, 1);
+        StaticPane first = new StaticPane(1, 1);
+        StaticPane second = new StaticPane(1, 1);
+        GuiItem item = TestUtil.createItem(Material.STONE);
+
+        second.addItem(item, 0, 0);
+
+        pane.addPane(first);
+
+        assertDisplayed(null, pane.display(), 1, 0);
+
+        pane.addPane(second);
+
+        assertDisplayed(item, pane.display(), 1, 0);
+    }
+
+    @Test
+    void testDisplayWide() {
+        MasonryPane pane = new MasonryPane(70, 1);
+        StaticPane first = new StaticPane(65, 1);
+        StaticPane second = new StaticPane(3, 1);
+        StaticPane third = new StaticPane(3, 1);
+        GuiItem firstItem = TestUtil.createItem(Material.STONE);
+        GuiItem secondItem = TestUtil.createItem(Material.DIRT);
+        GuiItem thirdItem = TestUtil.createItem(Material.SAND);
+
+        first.addItem(firstItem, 64, 0);
+        second.addItem(secondItem, 0, 0);
+        third.addItem(thirdItem, 0, 0);
+
+        pane.addPane(first);
+        pane.addPane(second);
+        pane.addPane(third);
+
+        GuiItemContainer container = pane.display();
+
+        assertDisplayed(firstItem, container, 64, 0);
+        assertDisplayed(secondItem, container, 65, 0);
+
+        for (int x = 66; x < 70; x++) {
+            assertDisplayed(null, container, x, 0);
+        }
+    }
 }
@@ -1,8 +1,13 @@
 package com.github.stefvanschie.inventoryframework.pane;
 
+import com.github.stefvanschie.inventoryframework.gui.GuiItem;
+import com.github.stefvanschie.inventoryframework.pane.util.GuiItemContainer;
 import com.github.stefvanschie.inventoryframework.pane.util.Mask;
+import com.github.stefvanschie.inventoryframework.util.TestUtil;
+import org.bukkit.Material;
 import org.junit.jupiter.api.Test;
 
+import static com.github.stefvanschie.inventoryframework.util.TestUtil.assertDisplayed;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class OutlinePaneTest {
@@ -44,4 +49,121 @@ public class OutlinePaneTest {
         assertEquals(original.getAlignment(), copy.getAlignment());
         assertEquals(original.getUUID(), copy.getUUID());
     }
+
+    @Test
+    void testDisplayAfterSetGap() {
+        OutlinePane pane = new OutlinePane(3, 1);
+        GuiItem first = TestUtil.createItem(Material.STONE);
+        GuiItem second = TestUtil.createItem(Material.DIRT);
+
+        pane.addItem(first);
+        pane.addItem(second);
+
+        assertDisplayed(second, pane.display(), 1, 0);
+
+        pane.setGap(1);
+
+        GuiItemContainer container = pane.display();
+
+        assertDisplayed(first, container, 0, 0);
+        assertDisplayed(null, container, 1, 0);
+        assertDisplayed(second, container, 2, 0);
+    }
+
+    @Test
+    void testDisplayAfterAlign() {
+        OutlinePane pane = new OutlinePane(3, 1);
+        GuiItem item = TestUtil.createItem(Material.STONE);
+
+        pane.addItem(item);
+
+        assertDisplayed(item, pane.display(), 0, 0);
+
+        pane.align(OutlinePane.Alignment.CENTER);
+
+        GuiItemContainer container = pane.display();
+
+        assertDisplayed(null, container, 0, 0);
+        assertDisplayed(item, container, 1, 0);
+    }
+
+    @Test
+    void testDisplayAfterSetRepeat() {
+        OutlinePane pane = new OutlinePane(3, 1);
+        GuiItem item = TestUtil.createItem(Material.STONE);
+
+        pane.addItem(item);
+
+        assertDisplayed(null, pane.display(), 2, 0);
+
+        pane.setRepeat(true);
+
+        GuiItemContainer container = pane.display();
+
+        for (int x = 0; x < 3; x++) {
+            assertDisplayed(item, container, x, 0);
+        }
+    }
+
+    @Test
+    void testDisplayAfterSetOrientation() {
+        OutlinePane pane = new OutlinePane(2, 2);
+        GuiItem first = TestUtil.createItem(Material.STONE);
+        GuiItem second = TestUtil.createItem(Material.DIRT);
+
+        pane.addItem(first);
+        pane.addItem(second);
+
+        assertDisplayed(second, pane.display(), 1, 0);
+
+        pane.setOrientation(Orientable.Orientation.VERTICAL);
+
+        GuiItemContainer container = pane.display();
+
+        assertDisplayed(first, container, 0, 0);
+        assertDisplayed(second, container, 0, 1);
+        assertDisplayed(null, container, 1, 0);
+    }
+
+    @Test
+    void testDisplayAfterApplyMask() {
+        OutlinePane pane = new OutlinePane(3, 1);
+        GuiItem first = TestUtil.createItem(Material.STONE);
+        GuiItem second = TestUtil.createItem(Material.DIRT);
+
+        pane.addItem(first);
+        pane.addItem(second);
+
+        assertDisplayed(second, pane.display(), 1, 0);
+
+        pane.applyMask(new Mask("101"));
+
+        GuiItemContainer container = pane.display();
+
+        assertDisplayed(first, container, 0, 0);
+        assertDisplayed(null, container, 1, 0);
+        assertDisplayed(second, container, 2, 0);
+    }
+
+    @Test
+    void testDisplayAfterItemCountChange() {
+        OutlinePane pane = new OutlinePane(3, 1);
+        GuiItem first = TestUtil.createItem(Material.STONE);
+        GuiItem second = TestUtil.createItem(Material.DIRT);
+
+        pane.addItem(first);
+
+        assertDisplayed(null, pane.display(), 1, 0);
+
+        pane.addItem(second);
+
+        assertDisplayed(second, pane.display(), 1, 0);
+
+        pane.removeItem(first);
+
+        GuiItemContainer container = pane.display();
+
+        assertDisplayed(second, container, 0, 0);
+        assertDisplayed(null, container, 1, 0);
+    }
 }
@@ -1,14 +1,22 @@
 package com.github.stefvanschie.inventoryframework.pane;
 
+import com.github.stefvanschie.inventoryframework.gui.GuiItem;
+import com.github.stefvanschie.inventoryframework.pane.util.GuiItemContainer;
+import com.github.stefvanschie.inventoryframework.pane.util.PositionedPane;
 import com.github.stefvanschie.inventoryframework.pane.util.Slot;
+import com.github.stefvanschie.inventoryframework.util.TestUtil;
+import org.bukkit.Material;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
+import static com.github.stefvanschie.inventoryframework.util.TestUtil.assertDisplayed;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class PaginatedPaneTest {
@@ -48,6 +56,98 @@ public class PaginatedPaneTest {
         });
     }
 
+    @Test
+    void testAddPaneOrder() {
+        PaginatedPane paginatedPane = new PaginatedPane(1, 1);
+
+        StaticPane high = new StaticPane(1, 1, Pane.Priority.HIGH);
+        StaticPane low = new StaticPane(1, 1, Pane.Priority.LOW);
+        StaticPane normal1 = new StaticPane(1, 1);
+        StaticPane normal2 = new StaticPane(1, 1);
+
+        paginatedPane.addPane(0, Slot.fromXY(0, 0), high);
+        paginatedPane.addPane(0, Slot.fromXY(0, 0), normal1);
+        paginatedPane.addPane(0, Slot.fromXY(0, 0), low);
+        paginatedPane.addPane(0, Slot.fromXY(0, 0), normal2);
+
+        assertIterableEquals(Arrays.asList(low, normal1, normal2, high), paginatedPane.getPanes(0));
+    }
+
+    @Test
+    void testAddPanes() {
+        PaginatedPane paginatedPane = new PaginatedPane(1, 1);
+
+        StaticPane high = new StaticPane(1, 1, Pane.Priority.HIGH);
+        StaticPane low = new StaticPane(1, 1, Pane.Priority.LOW);
+        StaticPane normal = new StaticPane(1, 1);
+
+        paginatedPane.addPanes(0, Arrays.asList(
+            new PositionedPane(Slot.fromXY(0, 0), high),
+            new PositionedPane(Slot.fromXY(0, 0), normal),
+            new PositionedPane(Slot.fromXY(0, 0), low)
+        ));
+
+        assertEquals(1, paginatedPane.getPages());
+        assertIterableEquals(Arrays.asList(low, normal, high), paginatedPane.getPanes(0));
+        assertThrows(IllegalArgumentException.class, () -> paginatedPane.addPanes(2, Collections.emptyList()));
+    }
+
+    @Test
+    void testGetPanesView() {
+        PaginatedPane paginatedPane = new PaginatedPane(1, 1);
+
+        StaticPane staticPane1 = new StaticPane(1, 1);
+        StaticPane staticPane2 = new StaticPane(1, 1);
+
+        paginatedPane.addPane(0, Slot.fromXY(0, 0), staticPane1);
+
+        Collection<Pane> panes = paginatedPane.getPanes();
+
+        paginatedPane.addPane(1, Slot.fromXY(0, 0), staticPane2);
+        paginatedPane.addPane(1, Slot.fromXY(0, 0), staticPane1);
+
+        assertEquals(3, panes.size());
+        assertIterableEquals(Arrays.asList(staticPane1, staticPane2, staticPane1), panes);
+        assertThrows(UnsupportedOperationException.class, () -> panes.add(staticPane2));
+    }
+
+    @Test
+    void testGetItemsView() {
+        PaginatedPane paginatedPane = new PaginatedPane(1, 1);
+
+        OutlinePane outlinePane = new OutlinePane(1, 1);
+        GuiItem item1 = TestUtil.createItem(Material.STONE);
+        GuiItem item2 = TestUtil.createItem(Material.DIRT);
+
+        outlinePane.addItem(item1);
+
+        paginatedPane.addPane(0, Slot.fromXY(0, 0), outlinePane);
+
+        Collection<GuiItem> items = paginatedPane.getItems();
+
+        outlinePane.addItem(item2);
+
+        assertEquals(2, items.size());
+        assertIterableEquals(Arrays.asList(item1, item2), items);
+    }
+
+    @Test
+    void testGetPanesPageView() {
+        PaginatedPane paginatedPane = new PaginatedPane(1, 1);
+
+        StaticPane staticPane1 = new StaticPane(1, 1);
+        StaticPane staticPane2 = new StaticPane(1, 1);
+
+        paginatedPane.addPane(0, Slot.fromXY(0, 0), staticPane1);
+
+        Collection<Pane> page = paginatedPane.getPanes(0);
+
+        paginatedPane.addPane(0, Slot.fromXY(0, 0), staticPane2);
+        paginatedPane.addPane(1, Slot.fromXY(0, 0), staticPane1);
+
+        assertIterableEquals(Arrays.asList(staticPane1, staticPane2), page);
+    }
+
     @Test
     void testAddPaneNegative() {
         PaginatedPane paginatedPane = new PaginatedPane( 1, 1);
@@ -185,4 +285,85 @@ public class PaginatedPaneTest {
 
         assertDoesNotThrow(() -> pane.deletePage(index));
     }
+
+    @Test
+    void testDisplayEqualPriorityLastAddedWins() {
+        PaginatedPane paginatedPane = new PaginatedPane(1, 1);
+        StaticPane first = new StaticPane(1, 1);
+        StaticPane second = new StaticPane(1, 1);
+        GuiItem item = TestUtil.createItem(Material.DIRT);
+
+        first.addItem(TestUtil.createItem(Material.STONE), 0, 0);
+        second.addItem(item, 0, 0);
+
+        paginatedPane.addPane(0, Slot.fromXY(0, 0), first);
+        paginatedPane.addPane(0, Slot.fromXY(0, 0), second);
+
+        assertDisplayed(item, paginatedPane.display(), 0, 0);
+    }
+
+    @Test
+    void testDisplayPartiallyCovered() {
+        PaginatedPane paginatedPane = new PaginatedPane(2, 1);
+        StaticPane low = new StaticPane(2, 1, Pane.Priority.LOW);
+        StaticPane high = new StaticPane(2, 1, Pane.Priority.HIGH);
+        GuiItem lowItem = TestUtil.createItem(Material.STONE);
+        GuiItem highItem = TestUtil.createItem(Material.DIRT);
+
+        low.addItem(TestUtil.createItem(Material.STONE), 0, 0);
+        low.addItem(lowItem, 1, 0);
+        high.addItem(highItem, 0, 0);
+
+        paginatedPane.addPane(0, Slot.fromXY(0, 0), low);
+        paginatedPane.addPane(0, Slot.fromXY(0, 0), high);
+
+        GuiItemContainer container = paginatedPane.display();
+
+        assertDisplayed(highItem, container, 0, 0);
+        assertDisplayed(lowItem, container, 1, 0);
+    }
+
+    @Test
+    void testDisplayCoveredPaneSkipped() {
+        PaginatedPane paginatedPane = new PaginatedPane(1, 1);
+        StaticPane high = new StaticPane(1, 1, Pane.Priority.HIGH);
+        int[] displayCount = new int[1];
+
+        high.addItem(TestUtil.createItem(Material.DIRT), 0, 0);
+
+        paginatedPane.addPane(0, Slot.fromXY(0, 0), new StaticPane(1, 1, Pane.Priority.LOW) {
+            @Override
+            public GuiItemContainer display() {
+                displayCount[0]++;
+
+                return super.display();
+            }
+        });
+        paginatedPane.addPane(0, Slot.fromXY(0, 0), high);
+
+        paginatedPane.display();
+
+        assertEquals(0, displayCount[0]);
+    }
+
+    @Test
+    void testDisplayReturnsNewContainer() {
+        PaginatedPane paginatedPane = new PaginatedPane(1, 1);
+        OutlinePane outlinePane = new OutlinePane(1, 1);
+        GuiItem item = TestUtil.createItem(Material.STONE);
+
+        outlinePane.addItem(item);
+        paginatedPane.addPane(0, Slot.fromXY(0, 0), outlinePane);
+
+        GuiItemContainer first = paginatedPane.display();
+        GuiItemContainer second = paginatedPane.display();
+
+        assertNotSame(first, second);
+
+        paginatedPane.displayForCompositing();
+        paginatedPane.displayForCompositing();
+
+        assertDisplayed(item, first, 0, 0);
+        assertDisplayed(item, second, 0, 0);
+    }
 }
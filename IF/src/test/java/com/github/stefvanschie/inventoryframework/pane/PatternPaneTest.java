@@ -1,8 +1,13 @@
 package com.github.stefvanschie.inventoryframework.pane;
 
+import com.github.stefvanschie.inventoryframework.gui.GuiItem;
+import com.github.stefvanschie.inventoryframework.pane.util.GuiItemContainer;
 import com.github.stefvanschie.inventoryframework.pane.util.Pattern;
+import com.github.stefvanschie.inventoryframework.util.TestUtil;
+import org.bukkit.Material;
 import org.junit.jupiter.api.Test;
 
+import static com.github.stefvanschie.inventoryframework.util.TestUtil.assertDisplayed;
 import static org.junit.jupiter.api.Assertions.*;
 
 public class PatternPaneTest {
@@ -47,4 +52,110 @@ public class PatternPaneTest {
         assertEquals(original.getPattern(), copy.getPattern());
         assertEquals(original.getUUID(), copy.getUUID());
     }
+
+    @Test
+    void testBindItemAfterDisplay() {
+        PatternPane pane = new PatternPane(2, 1, new Pattern("01"));
+        GuiItem first = TestUtil.createItem(Material.STONE);
+        GuiItem second = TestUtil.createItem(Material.DIRT);
+        GuiItem third = TestUtil.createItem(Material.SAND);
+
+        pane.bindItem('0', first);
+
+        assertDisplayed(null, pane.display(), 1, 0);
+
+        pane.bindItem('1', second);
+        pane.bindItem('0', third);
+
+        GuiItemContainer container = pane.display();
+
+        assertDisplayed(third, container, 0, 0);
+        assertDisplayed(second, container, 1, 0);
+    }
+
+    @Test
+    void testSetPatternAfterDisplay() {
+        PatternPane pane = new PatternPane(2, 1, new Pattern("01"));
+        GuiItem first = TestUtil.createItem(Material.STONE);
+        GuiItem second = TestUtil.createItem(Material.DIRT);
+
+        pane.bindItem('0', first);
+        pane.bindItem('1', second);
+
+        assertDisplayed(first, pane.display(), 0, 0);
+
+        pane.setPattern(new Pattern("10"));
+
+        GuiItemContainer container = pane.display();
+
+        assertDisplayed(second, container, 0, 0);
+        assertDisplayed(first, container, 1, 0);
+    }
+
+    @Test
+    void testResizeAfterDisplay() {
+        PatternPane pane = new PatternPane(2, 1, new Pattern("01"));
+        GuiItem first = TestUtil.createItem(Material.STONE);
+        GuiItem second = TestUtil.createItem(Material.DIRT);
+
+        pane.bindItem('0', first);
+        pane.bindItem('1', second);
+
+        assertDisplayed(second, pane.display(), 1, 0);
+
+        pane.setLength(3);
+        pane.setHeight(2);
+
+        GuiItemContainer container = pane.display();
+
+        assertDisplayed(first, container, 0, 0);
+        assertDisplayed(second, container, 2, 0);
+        assertDisplayed(first, container, 0, 1);
+        assertDisplayed(second, container, 2, 1);
+    }
+
+    @Test
+    void testDisplayedItemFlipped() {
+        PatternPane pane = new PatternPane(2, 1, new Pattern("01"));
+        GuiItem first = TestUtil.createItem(Material.STONE);
+        GuiItem second = TestUtil.createItem(Material.DIRT);
+
+        pane.bindItem('0', first);
+        pane.bindItem('1', second);
+
+        assertSame(first, pane.getDisplayedItem(0, 0));
+
+        pane.flipHorizontally(true);
+
+        assertSame(second, pane.getDisplayedItem(0, 0));
+        assertSame(first, pane.getDisplayedItem(1, 0));
+        assertDisplayed(second, pane.display(), 0, 0);
+    }
+
+    @Test
+    void testDisplayedItemRotated() {
+        PatternPane pane = new PatternPane(2, 2, new Pattern("01", "23"));
+        GuiItem[] items = new GuiItem[4];
+
+        for (int index = 0; index < items.length; index++) {
+            items[index] = TestUtil.createItem(Material.STONE);
+
+            pane.bindItem((char) ('0' + index), items[index]);
+        }
+
+        pane.setRotation(90);
+
+        assertSame(items[2], pane.getDisplayedItem(0, 0));
+        assertSame(items[0], pane.getDisplayedItem(1, 0));
+        assertSame(items[3], pane.getDisplayedItem(0, 1));
+        assertSame(items[1], pane.getDisplayedItem(1, 1));
+
+        GuiItemContainer container = pane.display();
+
+        for (int x = 0; x < 2; x++) {
+            for (int y = 0; y < 2; y++) {
+                assertDisplayed(pane.getDisplayedItem(x, y), container, x, y);
+            }
+        }
+    }
 }
@@ -1,6 +1,10 @@
 package com.github.stefvanschie.inventoryframework.pane;
 
+import com.github.stefvanschie.inventoryframework.gui.GuiItem;
+import com.github.stefvanschie.inventoryframework.pane.util.GuiItemContainer;
 import com.github.stefvanschie.inventoryframework.pane.util.Slot;
+import com.github.stefvanschie.inventoryframework.util.TestUtil;
+import org.bukkit.Material;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -42,4 +46,108 @@ public class StaticPaneTest {
 
         assertDoesNotThrow(() -> pane.removeItem(Slot.fromXY(0, 0)));
     }
+
+    @Test
+    void testRemoveItemOutOfBounds() {
+        StaticPane pane = new StaticPane(1, 1);
+
+        assertDoesNotThrow(() -> pane.removeItem(3, -1));
+        assertDoesNotThrow(() -> pane.removeItem(Slot.fromIndex(5)));
+    }
+
+    @Test
+    void testResize() {
+        StaticPane pane = new StaticPane(2, 2);
+
+        pane.setLength(3);
+        pane.setHeight(1);
+
+        assertNull(pane.getItem(Slot.fromXY(2, 0)));
+        assertTrue(pane.getItems().isEmpty());
+        assertTrue(pane.getSlottedItems().isEmpty());
+    }
+
+    @Test
+    void testAddItemReplace() {
+        StaticPane pane = new StaticPane(3, 2);
+        GuiItem first = TestUtil.createItem(Material.STONE);
+        GuiItem second = TestUtil.createItem(Material.DIRT);
+
+        pane.addItem(first, Slot.fromXY(1, 1));
+        pane.addItem(second, Slot.fromIndex(4));
+
+        assertSame(second, pane.getItem(Slot.fromXY(1, 1)));
+        assertEquals(1, pane.getItems().size());
+        assertEquals(second.getUUID(), pane.display().getItem(1, 1).getUUID());
+    }
+
+    @Test
+    void testRemoveItemCoordinatesWithItem() {
+        StaticPane pane = new StaticPane(3, 2);
+
+        pane.addItem(TestUtil.createItem(Material.STONE), Slot.fromIndex(4));
+        pane.removeItem(1, 1);
+
+        assertNull(pane.getItem(Slot.fromXY(1, 1)));
+        assertFalse(pane.display().hasItem());
+    }
+
+    @Test
+    void testRemoveItemIndexSlotWithItem() {
+        StaticPane pane = new StaticPane(3, 2);
+
+        pane.addItem(TestUtil.createItem(Material.STONE), Slot.fromXY(2, 1));
+        pane.removeItem(Slot.fromIndex(5));
+
+        assertNull(pane.getItem(Slot.fromXY(2, 1)));
+        assertTrue(pane.getItems().isEmpty());
+    }
+
+    @Test
+    void testShrinkKeepsItems() {
+        StaticPane pane = new StaticPane(3, 3);
+        GuiItem item = TestUtil.createItem(Material.STONE);
+
+        pane.addItem(item, Slot.fromXY(2, 2));
+        pane.setLength(2);
+
+        assertSame(item, pane.getItem(Slot.fromXY(2, 2)));
+        assertFalse(pane.display().hasItem());
+
+        pane.setLength(3);
+
+        GuiItemContainer container = pane.display();
+
+        assertEquals(item.getUUID(), container.getItem(2, 2).getUUID());
+    }
+
+    @Test
+    void testShrinkDropsRemovedItems() {
+        StaticPane pane = new StaticPane(3, 3);
+
+        pane.addItem(TestUtil.createItem(Material.STONE), Slot.fromXY(2, 2));
+        pane.setHeight(2);
+        pane.removeItem(2, 2);
+        pane.setHeight(3);
+
+        assertNull(pane.getItem(Slot.fromXY(2, 2)));
+        assertFalse(pane.display().hasItem());
+    }
+
+    @Test
+    void testResizeIndexSlot() {
+        StaticPane pane = new StaticPane(3, 2);
+        GuiItem item = TestUtil.createItem(Material.STONE);
+
+        pane.addItem(item, Slot.fromIndex(4));
+        pane.setLength(2);
+
+        assertFalse(pane.display().hasItem());
+        assertSame(item, pane.getItem(Slot.fromXY(0, 2)));
+
+        pane.setHeight(3);
+
+        assertEquals(item.getUUID(), pane.display().getItem(0, 2).getUUID());
+        assertNull(pane.display().getItem(1, 1));
+    }
 }
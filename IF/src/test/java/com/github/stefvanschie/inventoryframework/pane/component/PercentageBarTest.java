@@ -0,0 +1,139 @@
+package com.github.stefvanschie.inventoryframework.pane.component;
+
+import com.github.stefvanschie.inventoryframework.gui.GuiItem;
+import com.github.stefvanschie.inventoryframework.pane.Orientable;
+import com.github.stefvanschie.inventoryframework.pane.util.GuiItemContainer;
+import com.github.stefvanschie.inventoryframework.util.TestUtil;
+import org.bukkit.Material;
+import org.junit.jupiter.api.Test;
+
+import static com.github.stefvanschie.inventoryframework.util.TestUtil.assertDisplayed;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+public class PercentageBarTest {
+
+    @Test
+    void testDisplayEmpty() {
+        PercentageBar bar = new PercentageBar(3, 1, TestUtil.getPlugin());
+        GuiItem fill = TestUtil.createItem(Material.STONE);
+        GuiItem background = TestUtil.createItem(Material.DIRT);
+
+        bar.setFillItem(fill);
+        bar.setBackgroundItem(background);
+        bar.setPercentage(1);
+        bar.setPercentage(0);
+
+        GuiItemContainer container = bar.display();
+
+        for (int x = 0; x < 3; x++) {
+            assertDisplayed(background, container, x, 0);
+        }
+    }
+
+    @Test
+    void testDisplayFull() {
+        PercentageBar bar = new PercentageBar(3, 2, TestUtil.getPlugin());
+        GuiItem fill = TestUtil.createItem(Material.STONE);
+
+        bar.setFillItem(fill);
+        bar.setPercentage(1);
+
+        GuiItemContainer container = bar.display();
+
+        for (int x = 0; x < 3; x++) {
+            for (int y = 0; y < 2; y++) {
+                assertDisplayed(fill, container, x, y);
+            }
+        }
+    }
+
+    @Test
+    void testDisplayAfterResize() {
+        PercentageBar bar = new PercentageBar(4, 1, TestUtil.getPlugin());
+        GuiItem fill = TestUtil.createItem(Material.STONE);
+        GuiItem background = TestUtil.createItem(Material.DIRT);
+
+        bar.setFillItem(fill);
+        bar.setBackgroundItem(background);
+        bar.setPercentage(0.5F);
+
+        GuiItemContainer container = bar.display();
+
+        assertDisplayed(fill, container, 1, 0);
+        assertDisplayed(background, container, 2, 0);
+
+        bar.setLength(2);
+
+        container = bar.display();
+
+        assertDisplayed(fill, container, 0, 0);
+        assertDisplayed(background, container, 1, 0);
+    }
+
+    @Test
+    void testDisplayAfterSetOrientation() {
+        PercentageBar bar = new PercentageBar(2, 2, TestUtil.getPlugin());
+        GuiItem fill = TestUtil.createItem(Material.STONE);
+        GuiItem background = TestUtil.createItem(Material.DIRT);
+
+        bar.setFillItem(fill);
+        bar.setBackgroundItem(background);
+        bar.setPercentage(0.5F);
+
+        GuiItemContainer container = bar.display();
+
+        assertDisplayed(fill, container, 0, 1);
+        assertDisplayed(background, container, 1, 0);
+
+        bar.setOrientation(Orientable.Orientation.VERTICAL);
+
+        container = bar.display();
+
+        assertDisplayed(fill, container, 0, 0);
+        assertDisplayed(fill, container, 1, 0);
+        assertDisplayed(background, container, 0, 1);
+        assertDisplayed(background, container, 1, 1);
+    }
+
+    @Test
+    void testGetChangedSlotsHorizontal() {
+        PercentageBar bar = new PercentageBar(4, 2, TestUtil.getPlugin());
+
+        bar.setPercentage(0.5F);
+
+        assertArrayEquals(new int[] {0, 4, 1, 5}, bar.getChangedSlots());
+
+        bar.setPercentage(0.25F);
+
+        assertArrayEquals(new int[] {1, 5}, bar.getChangedSlots());
+
+        bar.setPercentage(0.25F);
+
+        assertArrayEquals(new int[0], bar.getChangedSlots());
+    }
+
+    @Test
+    void testGetChangedSlotsVertical() {
+        PercentageBar bar = new PercentageBar(2, 3, TestUtil.getPlugin());
+
+        bar.setOrientation(Orientable.Orientation.VERTICAL);
+        bar.display();
+        bar.setPercentage(1F / 3);
+
+        assertArrayEquals(new int[] {0, 1}, bar.getChangedSlots());
+
+        bar.setPercentage(1);
+
+        assertArrayEquals(new int[] {2, 3, 4, 5}, bar.getChangedSlots());
+    }
+
+    @Test
+    void testGetChangedSlotsAfterResize() {
+        PercentageBar bar = new PercentageBar(2, 1, TestUtil.getPlugin());
+
+        bar.setPercentage(0.5F);
+        bar.setLength(3);
+
+        assertArrayEquals(new int[] {0, 1, 2}, bar.getChangedSlots());
+    }
+}
@@ -62,4 +62,14 @@ public class GuiItemContainerTest {
 
         assertThrows(IllegalArgumentException.class, () -> container.hasItem(8, 3));
     }
+
+    @Test
+    void testIsFilled() {
+        GuiItemContainer container = new GuiItemContainer(4, 3);
+
+        assertFalse(container.isFilled(0, 0, 4, 3));
+        assertFalse(container.isFilled(-2, -2, 3, 3));
+        assertTrue(container.isFilled(4, 0, 2, 3));
+        assertTrue(container.isFilled(0, 3, 4, 1));
+    }
 }
@@ -33,6 +33,118 @@ public class MaskTest {
         ).amountOfEnabledSlots());
     }
 
+    @Test
+    void testAmountOfEnabledSlotsInRowAndColumn() {
+        Mask mask = new Mask(
+            "1101",
+            "0001"
+        );
+
+        assertEquals(3, mask.amountOfEnabledSlotsInRow(0));
+        assertEquals(1, mask.amountOfEnabledSlotsInRow(1));
+        assertEquals(0, mask.amountOfEnabledSlotsInColumn(2));
+        assertEquals(2, mask.amountOfEnabledSlotsInColumn(3));
+    }
+
+    @Test
+    void testNextEnabled() {
+        Mask mask = new Mask(
+            "0101",
+            "1001"
+        );
+
+        assertEquals(1, mask.nextEnabledInRow(0, 0));
+        assertEquals(3, mask.nextEnabledInRow(0, 2));
+        assertEquals(-1, mask.nextEnabledInRow(0, 4));
+        assertEquals(1, mask.nextEnabledInColumn(0, 0));
+        assertEquals(-1, mask.nextEnabledInColumn(1, 1));
+    }
+
+    @Test
+    void testNextEnabledLongRow() {
+        StringBuilder row = new StringBuilder();
+
+        for (int i = 0; i < 100; i++) {
+            row.append(i == 70 ? '1' : '0');
+        }
+
+        Mask mask = new Mask(row.toString());
+
+        assertEquals(70, mask.nextEnabledInRow(0, 0));
+        assertEquals(-1, mask.nextEnabledInRow(0, 71));
+        assertEquals(1, mask.amountOfEnabledSlots());
+    }
+
+    @Test
+    void testAnd() {
+        assertEquals(new Mask(
+            "10",
+            "00"
+        ), new Mask(
+            "11",
+            "01"
+        ).and(new Mask(
+            "10",
+            "10"
+        )));
+    }
+
+    @Test
+    void testOr() {
+        assertEquals(new Mask(
+            "11",
+            "11"
+        ), new Mask(
+            "11",
+            "01"
+        ).or(new Mask(
+            "10",
+            "10"
+        )));
+    }
+
+    @Test
+    void testInvert() {
+        Mask inverted = new Mask(
+            "110",
+            "001"
+        ).invert();
+
+        assertEquals(new Mask(
+            "001",
+            "110"
+        ), inverted);
+        assertEquals(3, inverted.amountOfEnabledSlots());
+    }
+
+    @Test
+    void testCombineDifferentDimensions() {
+        assertThrows(IllegalArgumentException.class, () -> new Mask("1").and(new Mask("11")));
+    }
+
+    @Test
+    void testFull() {
+        assertEquals(new Mask(
+            "111",
+            "111"
+        ), Mask.full(3, 2));
+    }
+
+    @Test
+    void testBorder() {
+        assertEquals(new Mask(
+            "111",
+            "101",
+            "111"
+        ), Mask.border(3, 3));
+
+        assertEquals(new Mask(
+            "1",
+            "1",
+            "1"
+        ), Mask.border(1, 3));
+    }
+
     @Test
     void testGetColumn() {
         assertArrayEquals(new boolean[] {true, false}, new Mask(
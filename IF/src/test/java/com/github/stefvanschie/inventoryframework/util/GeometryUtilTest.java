@@ -25,6 +25,16 @@ public class GeometryUtilTest {
         testRotation(3, 1, GeometryUtil.processCounterClockwiseRotation(1, 0, 4, 4, 270));
     }
 
+    @Test
+    void testCreateTransformTable() {
+        assertArrayEquals(new int[] {0, 1, 2, 3}, GeometryUtil.createTransformTable(2, 2, false, false, 0));
+        assertArrayEquals(new int[] {1, 0, 3, 2}, GeometryUtil.createTransformTable(2, 2, true, false, 0));
+        assertArrayEquals(new int[] {2, 3, 0, 1}, GeometryUtil.createTransformTable(2, 2, false, true, 0));
+        assertArrayEquals(new int[] {1, 3, 0, 2}, GeometryUtil.createTransformTable(2, 2, false, false, 90));
+        assertArrayEquals(new int[] {3, 1, 2, 0}, GeometryUtil.createTransformTable(2, 2, true, false, 90));
+        assertArrayEquals(new int[] {3, 2, 1, 0}, GeometryUtil.createTransformTable(2, 2, false, false, 180));
+    }
+
     void testRotation(int expectedX, int expectedY, @NotNull Map.Entry<Integer, Integer> coordinates) {
         assertEquals(expectedX, (int) coordinates.getKey());
         assertEquals(expectedY, (int) coordinates.getValue());
@@ -0,0 +1,145 @@
+package com.github.stefvanschie.inventoryframework.util;
+
+import com.github.stefvanschie.inventoryframework.gui.GuiItem;
+import com.github.stefvanschie.inventoryframework.pane.util.GuiItemContainer;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.inventory.ItemFactory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.logging.Logger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stand-ins for the parts of Bukkit that are needed to create gui items in tests. The plugin and server only answer
+ * the calls made while creating and copying items: every other call returns a default value.
+ */
+public final class TestUtil {
+
+    /**
+     * The plugin owning the items created by {@link #createItem(Material)}
+     */
+    @NotNull
+    private static final Plugin PLUGIN = createProxy(Plugin.class);
+
+    static {
+        if (Bukkit.getServer() == null) {
+            Bukkit.setServer(createProxy(Server.class));
+        }
+    }
+
+    private TestUtil() {}
+
+    /**
+     * Gets a plugin that can be used as the owner of gui items. A stand-in server is installed if no server is present,
+     * so panes that create their own items can be constructed with this plugin.
+     *
+     * @return the plugin
+     */
+    @NotNull
+    public static Plugin getPlugin() {
+        return PLUGIN;
+    }
+
+    /**
+     * Creates a new gui item of the provided material, owned by the plugin returned by {@link #getPlugin()}.
+     *
+     * @param material the material of the item
+     * @return the gui item
+     */
+    @NotNull
+    public static GuiItem createItem(@NotNull Material material) {
+        return new GuiItem(new ItemStack(material), PLUGIN);
+    }
+
+    /**
+     * Asserts that the specified item is displayed at the specified position of the container, or that nothing is
+     * displayed there if the item is null. Items are compared by their UUID, since containers hold copies of the items.
+     *
+     * @param expected the item that should be displayed, or null
+     * @param container the container to check
+     * @param x the x coordinate
+     * @param y the y coordinate
+     */
+    public static void assertDisplayed(@Nullable GuiItem expected, @NotNull GuiItemContainer container, int x, int y) {
+        GuiItem item = container.getItem(x, y);
+
+        if (expected == null) {
+            assertNull(item);
+        } else {
+            assertNotNull(item);
+            assertEquals(expected.getUUID(), item.getUUID());
+        }
+    }
+
+    /**
+     * Creates an implementation of the provided interface that returns a default value for every method.
+     *
+     * @param type the interface to implement
+     * @param <T> the type of the interface
+     * @return the implementation
+     */
+    @NotNull
+    private static <T> T createProxy(@NotNull Class<T> type) {
+        Object proxy = Proxy.newProxyInstance(TestUtil.class.getClassLoader(), new Class<?>[] {type},
+            (instance, method, arguments) -> getDefaultValue(instance, method, arguments));
+
+        return type.cast(proxy);
+    }
+
+    /**
+     * Gets the value a proxy created by {@link #createProxy(Class)} returns for the provided method.
+     *
+     * @param instance the proxy
+     * @param method the method being called
+     * @param arguments the arguments of the call, or null if there are none
+     * @return the value to return
+     */
+    private static Object getDefaultValue(@NotNull Object instance, @NotNull Method method, Object[] arguments) {
+        Class<?> returnType = method.getReturnType();
+
+        if (method.getName().equals("hashCode")) {
+            return System.identityHashCode(instance);
+        }
+
+        if (method.getName().equals("equals")) {
+            return instance == arguments[0];
+        }
+
+        if (returnType == String.class) {
+            return "test";
+        } else if (returnType == Logger.class) {
+            return Logger.getLogger("test");
+        } else if (returnType == File.class) {
+            return new File(System.getProperty("java.io.tmpdir"));
+        } else if (returnType == ItemFactory.class) {
+            return createProxy(ItemFactory.class);
+        } else if (returnType == boolean.class) {
+            return false;
+        } else if (returnType == int.class) {
+            return 0;
+        } else if (returnType == long.class) {
+            return 0L;
+        } else if (returnType == double.class) {
+            return 0D;
+        } else if (returnType == float.class) {
+            return 0F;
+        } else if (returnType == short.class) {
+            return (short) 0;
+        } else if (returnType == byte.class) {
+            return (byte) 0;
+        } else if (returnType == char.class) {
+            return (char) 0;
+        }
+
+        return null;
+    }
+}
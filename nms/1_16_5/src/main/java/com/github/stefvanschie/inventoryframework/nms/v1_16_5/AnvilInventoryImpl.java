@@ -7,17 +7,17 @@ import net.minecraft.server.v1_16_R3.BlockPosition;
 import net.minecraft.server.v1_16_R3.Container;
 import net.minecraft.server.v1_16_R3.ContainerAccess;
 import net.minecraft.server.v1_16_R3.ContainerAnvil;
-import net.minecraft.server.v1_16_R3.ContainerProperty;
 import net.minecraft.server.v1_16_R3.EntityHuman;
 import net.minecraft.server.v1_16_R3.EntityPlayer;
 import net.minecraft.server.v1_16_R3.IChatBaseComponent;
-import net.minecraft.server.v1_16_R3.ICrafting;
 import net.minecraft.server.v1_16_R3.IInventory;
 import net.minecraft.server.v1_16_R3.ITileInventory;
 import net.minecraft.server.v1_16_R3.InventoryClickType;
 import net.minecraft.server.v1_16_R3.InventoryLargeChest;
 import net.minecraft.server.v1_16_R3.InventorySubcontainer;
 import net.minecraft.server.v1_16_R3.ItemStack;
+import net.minecraft.server.v1_16_R3.PacketPlayOutSetSlot;
+import net.minecraft.server.v1_16_R3.PacketPlayOutWindowData;
 import net.minecraft.server.v1_16_R3.PlayerInventory;
 import net.minecraft.server.v1_16_R3.Slot;
 import net.minecraft.server.v1_16_R3.World;
@@ -29,9 +29,6 @@ import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.lang.reflect.Field;
-import java.util.List;
-
 /**
  * Internal anvil inventory for 1.16 R3
  *
@@ -40,9 +37,10 @@ import java.util.List;
 public class AnvilInventoryImpl extends AnvilInventory {
 
     @NotNull
-    @Contract(pure = true)
     @Override
     public Inventory createInventory(@NotNull TextHolder title) {
+        setTitle(title);
+
         InventorySubcontainer inputSlots = new InventorySubcontainer(2);
         InventorySubcontainer resultSlot = new InventorySubcontainer(1);
 
@@ -72,7 +70,7 @@ public class AnvilInventoryImpl extends AnvilInventory {
                     @Contract(pure = true)
                     @Override
                     public IChatBaseComponent getScoreboardDisplayName() {
-                        return TextHolderUtil.toComponent(title);
+                        return TextHolderUtil.toComponent(AnvilInventoryImpl.super.title);
                     }
                 };
             }
@@ -115,16 +113,10 @@ public class AnvilInventoryImpl extends AnvilInventory {
         private CraftInventoryView bukkitEntity;
 
         /**
-         * The field containing the properties.
+         * Whether the result slot and the enchantment cost should be sent again on the next broadcast, because the
+         * client may have predicted a different value for them.
          */
-        @NotNull
-        private final Field propertiesField;
-
-        /**
-         * The field containing the listeners.
-         */
-        @NotNull
-        private final Field listenersField;
+        private boolean resultOutdated;
 
         /**
          * Creates a new custom anvil container for the specified player.
@@ -154,16 +146,6 @@ public class AnvilInventoryImpl extends AnvilInventory {
             updateSlot(0, compoundContainer);
             updateSlot(1, compoundContainer);
             updateSlot(2, compoundContainer);
-
-            try {
-                this.propertiesField = Container.class.getDeclaredField("d");
-                this.propertiesField.setAccessible(true);
-
-                this.listenersField = Container.class.getDeclaredField("listeners");
-                this.listenersField.setAccessible(true);
-            } catch (NoSuchFieldException exception) {
-                throw new IllegalStateException(exception);
-            }
         }
 
         @NotNull
@@ -187,15 +169,12 @@ public class AnvilInventoryImpl extends AnvilInventory {
 
         @Override
         public void c() {
-            if (super.levelCost.c()) {
-                broadcastFullState();
-            } else {
-                for (int index = 0; index < super.slots.size(); index++) {
-                    if (!ItemStack.matches(super.items.get(index), super.slots.get(index).getItem())) {
-                        broadcastFullState();
-                        return;
-                    }
-                }
+            super.c();
+
+            if (this.resultOutdated) {
+                this.resultOutdated = false;
+
+                sendResult();
             }
         }
 
@@ -209,16 +188,16 @@ public class AnvilInventoryImpl extends AnvilInventory {
                 AnvilInventoryImpl.super.observableText.set(name);
             }
 
-            //the client predicts the output result, so we broadcast the state again to override it
-            broadcastFullState();
+            //the client predicts the output result, so we send the result again on the next broadcast to override it
+            this.resultOutdated = true;
         }
 
         @Override
         public ItemStack a(int index, int dragData, @NotNull InventoryClickType clickType, @NotNull EntityHuman player) {
             ItemStack item = super.a(index, dragData, clickType, player);
 
-            //client predicts first slot, so send data to override
-            broadcastFullState();
+            //client predicts the result slot, so send it again on the next broadcast to override it
+            this.resultOutdated = true;
 
             return item;
         }
@@ -243,37 +222,23 @@ public class AnvilInventoryImpl extends AnvilInventory {
         protected void a(@NotNull EntityHuman player, @NotNull World world, @NotNull IInventory inventory) {}
 
         /**
-         * Broadcasts the full menu state to the client.
+         * Sends the result slot and the enchantment cost to the player, overriding any values the client predicted for
+         * them. Only the result slot and the cost are sent, rather than the full state of this menu.
          *
-         * @since 0.11.0
+         * @since 0.12.1
          */
-        private void broadcastFullState() {
-            List<ContainerProperty> properties;
-            try {
-                //noinspection unchecked
-                properties = (List<ContainerProperty>) this.propertiesField.get(this);
-            } catch (IllegalAccessException exception) {
-                throw new IllegalStateException(exception);
+        private void sendResult() {
+            if (!(super.player instanceof EntityPlayer)) {
+                return;
             }
 
-            for (int index = 0; index < properties.size(); index++) {
-                ContainerProperty property = properties.get(index);
-
-                if (property.c()) {
-                    try {
-                        //noinspection unchecked
-                        for (ICrafting listener : (List<ICrafting>) this.listenersField.get(this)) {
-                            listener.setContainerData(this, index, property.get());
-                        }
-                    } catch (IllegalAccessException exception) {
-                        throw new IllegalStateException(exception);
-                    }
-                }
-            }
+            EntityPlayer entityPlayer = (EntityPlayer) super.player;
+            ItemStack result = super.slots.get(2).getItem().cloneItemStack();
 
-            if (super.player instanceof EntityPlayer) {
-                ((EntityPlayer) super.player).updateInventory(this);
-            }
+            int cost = super.levelCost.get();
+
+            entityPlayer.playerConnection.sendPacket(new PacketPlayOutSetSlot(super.windowId, 2, result));
+            entityPlayer.playerConnection.sendPacket(new PacketPlayOutWindowData(super.windowId, 0, cost));
         }
 
         /**
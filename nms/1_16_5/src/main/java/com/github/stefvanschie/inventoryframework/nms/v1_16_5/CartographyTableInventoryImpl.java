@@ -21,9 +21,10 @@ import org.jetbrains.annotations.Nullable;
 public class CartographyTableInventoryImpl extends CartographyTableInventory {
 
     @NotNull
-    @Contract(pure = true)
     @Override
     public Inventory createInventory(@NotNull TextHolder title) {
+        setTitle(title);
+
         InventorySubcontainer resultSlot = new InventorySubcontainer(1);
 
         IInventory container = new InventoryViewProvider() {
@@ -42,7 +43,7 @@ public class CartographyTableInventoryImpl extends CartographyTableInventory {
             @Contract(pure = true)
             @Override
             public IChatBaseComponent getScoreboardDisplayName() {
-                return TextHolderUtil.toComponent(title);
+                return TextHolderUtil.toComponent(CartographyTableInventoryImpl.super.title);
             }
         };
 
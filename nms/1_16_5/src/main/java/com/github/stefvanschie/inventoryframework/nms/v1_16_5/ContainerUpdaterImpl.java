@@ -0,0 +1,164 @@
+package com.github.stefvanschie.inventoryframework.nms.v1_16_5;
+
+import com.github.stefvanschie.inventoryframework.abstraction.ContainerUpdater;
+import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
+import com.github.stefvanschie.inventoryframework.nms.v1_16_5.util.TextHolderUtil;
+import net.minecraft.server.v1_16_R3.Container;
+import net.minecraft.server.v1_16_R3.Containers;
+import net.minecraft.server.v1_16_R3.EntityPlayer;
+import net.minecraft.server.v1_16_R3.NonNullList;
+import net.minecraft.server.v1_16_R3.PacketPlayOutOpenWindow;
+import net.minecraft.server.v1_16_R3.PacketPlayOutSetSlot;
+import net.minecraft.server.v1_16_R3.PacketPlayOutWindowItems;
+import net.minecraft.server.v1_16_R3.PlayerInventory;
+import org.bukkit.craftbukkit.v1_16_R3.entity.CraftPlayer;
+import org.bukkit.craftbukkit.v1_16_R3.inventory.CraftItemStack;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Internal container updater for 1.16.4 - 1.16.5
+ *
+ * @since 0.12.1
+ */
+public class ContainerUpdaterImpl extends ContainerUpdater {
+
+    @Override
+    public void updateTitle(@NotNull Player player, @NotNull TextHolder title) {
+        EntityPlayer entityPlayer = ((CraftPlayer) player).getHandle();
+        Container container = entityPlayer.activeContainer;
+
+        if (container == entityPlayer.defaultContainer) {
+            return;
+        }
+
+        entityPlayer.playerConnection.sendPacket(new PacketPlayOutOpenWindow(
+                container.windowId, container.getType(), TextHolderUtil.toComponent(title)
+        ));
+
+        player.updateInventory();
+    }
+
+    @Override
+    public void sendContents(@NotNull Player player) {
+        EntityPlayer entityPlayer = ((CraftPlayer) player).getHandle();
+        Container container = entityPlayer.activeContainer;
+
+        if (container == entityPlayer.defaultContainer) {
+            return;
+        }
+
+        //mark the items as sent, so they aren't sent again when the container detects changes
+        for (int index = 0; index < container.slots.size(); index++) {
+            container.items.set(index, container.slots.get(index).getItem().cloneItemStack());
+        }
+
+        entityPlayer.updateInventory(container);
+    }
+
+    @Override
+    public void setProperty(@NotNull Player player, int id, int value) {
+        EntityPlayer entityPlayer = ((CraftPlayer) player).getHandle();
+        Container container = entityPlayer.activeContainer;
+
+        if (container == entityPlayer.defaultContainer) {
+            return;
+        }
+
+        container.setContainerData(id, value);
+    }
+
+    @Override
+    public void sendItems(@NotNull Player player, @Nullable ItemStack @NotNull [] items) {
+        EntityPlayer entityPlayer = ((CraftPlayer) player).getHandle();
+        Container container = entityPlayer.activeContainer;
+
+        if (container == entityPlayer.defaultContainer) {
+            return;
+        }
+
+        for (int slot = 0; slot < items.length; slot++) {
+            ItemStack item = items[slot];
+
+            if (item == null) {
+                continue;
+            }
+
+            //mark the slot as sent, so its next synchronization doesn't overwrite the item sent here
+            container.items.set(slot, container.slots.get(slot).getItem().cloneItemStack());
+
+            PacketPlayOutSetSlot packet = new PacketPlayOutSetSlot(
+                    container.windowId, slot, CraftItemStack.asNMSCopy(item)
+            );
+
+            entityPlayer.playerConnection.sendPacket(packet);
+        }
+    }
+
+    @Override
+    public void openVirtualChest(
+            @NotNull Player player,
+            @NotNull TextHolder title,
+            @Nullable ItemStack @NotNull [] items
+    ) {
+        EntityPlayer entityPlayer = ((CraftPlayer) player).getHandle();
+        PlayerInventory inventory = entityPlayer.inventory;
+        Containers<?> containerType = getChestContainerType(items.length);
+        int windowId = entityPlayer.nextContainerCounter();
+
+        NonNullList<net.minecraft.server.v1_16_R3.ItemStack> contents = NonNullList.a();
+
+        for (ItemStack item : items) {
+            contents.add(CraftItemStack.asNMSCopy(item));
+        }
+
+        //the main inventory comes first, followed by the hotbar
+        for (int index = 9; index < 36; index++) {
+            contents.add(inventory.getItem(index).cloneItemStack());
+        }
+
+        for (int index = 0; index < 9; index++) {
+            contents.add(inventory.getItem(index).cloneItemStack());
+        }
+
+        net.minecraft.server.v1_16_R3.ItemStack carried = inventory.getCarried().cloneItemStack();
+
+        entityPlayer.playerConnection.sendPacket(new PacketPlayOutOpenWindow(
+                windowId, containerType, TextHolderUtil.toComponent(title)
+        ));
+        entityPlayer.playerConnection.sendPacket(new PacketPlayOutWindowItems(windowId, contents));
+        entityPlayer.playerConnection.sendPacket(new PacketPlayOutSetSlot(-1, -1, carried));
+    }
+
+    /**
+     * Gets the container type of a chest that can hold the specified amount of items.
+     *
+     * @param size the amount of items
+     * @return the container type
+     * @throws IllegalArgumentException if the size is not a multiple of nine between nine and fifty-four
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    private Containers<?> getChestContainerType(int size) {
+        switch (size) {
+            case 9:
+                return Containers.GENERIC_9X1;
+            case 18:
+                return Containers.GENERIC_9X2;
+            case 27:
+                return Containers.GENERIC_9X3;
+            case 36:
+                return Containers.GENERIC_9X4;
+            case 45:
+                return Containers.GENERIC_9X5;
+            case 54:
+                return Containers.GENERIC_9X6;
+            default:
+                throw new IllegalArgumentException("Size should be a multiple of 9 between 9 and 54");
+        }
+    }
+}
@@ -21,9 +21,10 @@ import org.jetbrains.annotations.Nullable;
 public class EnchantingTableInventoryImpl extends EnchantingTableInventory {
 
     @NotNull
-    @Contract(pure = true)
     @Override
     public Inventory createInventory(@NotNull TextHolder title) {
+        setTitle(title);
+
         IInventory container = new InventoryViewProvider() {
             @NotNull
             @Contract(pure = true)
@@ -40,7 +41,7 @@ public class EnchantingTableInventoryImpl extends EnchantingTableInventory {
             @Contract(pure = true)
             @Override
             public IChatBaseComponent getScoreboardDisplayName() {
-                return TextHolderUtil.toComponent(title);
+                return TextHolderUtil.toComponent(EnchantingTableInventoryImpl.super.title);
             }
         };
 
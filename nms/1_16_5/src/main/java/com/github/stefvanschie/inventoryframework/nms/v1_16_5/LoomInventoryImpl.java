@@ -22,9 +22,10 @@ import org.jetbrains.annotations.Nullable;
 public class LoomInventoryImpl extends LoomInventory {
 
     @NotNull
-    @Contract(pure = true)
     @Override
     public Inventory createInventory(@NotNull TextHolder title) {
+        setTitle(title);
+
         InventoryCraftResult resultSlot = new InventoryCraftResult() {
             @Override
             public void setItem(int slot, @NotNull ItemStack itemStack) {
@@ -49,7 +50,7 @@ public class LoomInventoryImpl extends LoomInventory {
             @Contract(pure = true)
             @Override
             public IChatBaseComponent getScoreboardDisplayName() {
-                return TextHolderUtil.toComponent(title);
+                return TextHolderUtil.toComponent(LoomInventoryImpl.super.title);
             }
 
             @Override
@@ -41,10 +41,18 @@ import java.util.Map;
  */
 public class MerchantInventoryImpl extends MerchantInventory {
 
+    /**
+     * The merchant offers converted from the trades the last time they were sent, or null if the trades have not been
+     * converted since they last changed
+     */
+    @Nullable
+    private MerchantRecipeList offers;
+
     @NotNull
-    @Contract(pure = true)
     @Override
     public Inventory createInventory(@NotNull TextHolder title) {
+        setTitle(title);
+
         IMerchant merchant = new MerchantWrapper(null);
 
         InventoryMerchant container = new InventoryViewProvider(merchant) {
@@ -63,7 +71,7 @@ public class MerchantInventoryImpl extends MerchantInventory {
             @Contract(pure = true)
             @Override
             public IChatBaseComponent getScoreboardDisplayName() {
-                return TextHolderUtil.toComponent(title);
+                return TextHolderUtil.toComponent(MerchantInventoryImpl.super.title);
             }
         };
 
@@ -86,47 +94,139 @@ public class MerchantInventoryImpl extends MerchantInventory {
     public void sendMerchantOffers(@NotNull Player player,
                                    @NotNull List<? extends Map.Entry<? extends MerchantRecipe, ? extends Integer>> trades,
                                    int level, int experience) {
+        if (this.offers == null) {
+            this.offers = convertTrades(trades);
+        }
+
+        EntityPlayer entityPlayer = getEntityPlayer(player);
+
+        entityPlayer.openTrade(getWindowId(entityPlayer), this.offers, level, experience, true, false);
+    }
+
+    @Override
+    public void invalidateMerchantOffers() {
+        this.offers = null;
+    }
+
+    @Override
+    public void addMerchantOffer(@NotNull Map.Entry<? extends MerchantRecipe, ? extends Integer> trade) {
+        if (this.offers == null) {
+            return;
+        }
+
+        MerchantRecipeList offers = copyOffers(this.offers);
+        offers.add(convertTrade(trade));
+
+        this.offers = offers;
+    }
+
+    @Override
+    public void setMerchantOffer(int index, @NotNull Map.Entry<? extends MerchantRecipe, ? extends Integer> trade) {
+        if (this.offers == null) {
+            return;
+        }
+
+        MerchantRecipeList offers = copyOffers(this.offers);
+        offers.set(index, convertTrade(trade));
+
+        this.offers = offers;
+    }
+
+    @Override
+    public void removeMerchantOffer(int index) {
+        if (this.offers == null) {
+            return;
+        }
+
+        MerchantRecipeList offers = copyOffers(this.offers);
+        offers.remove(index);
+
+        this.offers = offers;
+    }
+
+    /**
+     * Converts the specified trades to merchant offers.
+     *
+     * @param trades the trades to convert
+     * @return the merchant offers
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    private MerchantRecipeList convertTrades(
+            @NotNull List<? extends Map.Entry<? extends MerchantRecipe, ? extends Integer>> trades
+    ) {
         MerchantRecipeList offers = new MerchantRecipeList();
 
         for (Map.Entry<? extends MerchantRecipe, ? extends Integer> entry : trades) {
-            MerchantRecipe recipe = entry.getKey();
-            List<ItemStack> ingredients = recipe.getIngredients();
+            offers.add(convertTrade(entry));
+        }
 
-            if (ingredients.size() < 1) {
-                throw new IllegalStateException("Merchant recipe has no ingredients");
-            }
+        return offers;
+    }
 
-            ItemStack itemA = ingredients.get(0);
-            ItemStack itemB = null;
+    /**
+     * Converts the specified trade to a merchant offer.
+     *
+     * @param trade the trade to convert
+     * @return the merchant offer
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    private net.minecraft.server.v1_16_R3.MerchantRecipe convertTrade(
+            @NotNull Map.Entry<? extends MerchantRecipe, ? extends Integer> trade
+    ) {
+        MerchantRecipe recipe = trade.getKey();
+        List<ItemStack> ingredients = recipe.getIngredients();
+
+        if (ingredients.size() < 1) {
+            throw new IllegalStateException("Merchant recipe has no ingredients");
+        }
 
-            if (ingredients.size() >= 2) {
-                itemB = ingredients.get(1);
-            }
+        ItemStack itemA = ingredients.get(0);
+        ItemStack itemB = null;
 
-            net.minecraft.server.v1_16_R3.ItemStack nmsItemA = CraftItemStack.asNMSCopy(itemA);
-            net.minecraft.server.v1_16_R3.ItemStack nmsItemB = net.minecraft.server.v1_16_R3.ItemStack.b;
-            net.minecraft.server.v1_16_R3.ItemStack nmsItemResult = CraftItemStack.asNMSCopy(recipe.getResult());
+        if (ingredients.size() >= 2) {
+            itemB = ingredients.get(1);
+        }
 
-            if (itemB != null) {
-                nmsItemB = CraftItemStack.asNMSCopy(itemB);
-            }
+        net.minecraft.server.v1_16_R3.ItemStack nmsItemA = CraftItemStack.asNMSCopy(itemA);
+        net.minecraft.server.v1_16_R3.ItemStack nmsItemB = net.minecraft.server.v1_16_R3.ItemStack.b;
+        net.minecraft.server.v1_16_R3.ItemStack nmsItemResult = CraftItemStack.asNMSCopy(recipe.getResult());
 
-            int uses = recipe.getUses();
-            int maxUses = recipe.getMaxUses();
-            int exp = recipe.getVillagerExperience();
-            float multiplier = recipe.getPriceMultiplier();
+        if (itemB != null) {
+            nmsItemB = CraftItemStack.asNMSCopy(itemB);
+        }
 
-            net.minecraft.server.v1_16_R3.MerchantRecipe merchantOffer = new net.minecraft.server.v1_16_R3.MerchantRecipe(
-                    nmsItemA, nmsItemB, nmsItemResult, uses, maxUses, exp, multiplier
-            );
-            merchantOffer.setSpecialPrice(entry.getValue());
+        int uses = recipe.getUses();
+        int maxUses = recipe.getMaxUses();
+        int exp = recipe.getVillagerExperience();
+        float multiplier = recipe.getPriceMultiplier();
 
-            offers.add(merchantOffer);
-        }
+        net.minecraft.server.v1_16_R3.MerchantRecipe merchantOffer = new net.minecraft.server.v1_16_R3.MerchantRecipe(
+                nmsItemA, nmsItemB, nmsItemResult, uses, maxUses, exp, multiplier
+        );
+        merchantOffer.setSpecialPrice(trade.getValue());
 
-        EntityPlayer entityPlayer = getEntityPlayer(player);
+        return merchantOffer;
+    }
+
+    /**
+     * Creates a copy of the cached merchant offers. The cached offers are never modified in place, since a packet
+     * containing them may still be in the process of being sent.
+     *
+     * @param offers the offers to copy
+     * @return the copied offers
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    private MerchantRecipeList copyOffers(@NotNull MerchantRecipeList offers) {
+        MerchantRecipeList copy = new MerchantRecipeList();
+        copy.addAll(offers);
 
-        entityPlayer.openTrade(getWindowId(entityPlayer), offers, level, experience, true, false);
+        return copy;
     }
 
     /**
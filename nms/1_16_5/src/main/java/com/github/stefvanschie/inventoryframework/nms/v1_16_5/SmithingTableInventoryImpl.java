@@ -22,9 +22,10 @@ import org.jetbrains.annotations.Nullable;
 public class SmithingTableInventoryImpl extends SmithingTableInventory {
 
     @NotNull
-    @Contract(pure = true)
     @Override
     public Inventory createInventory(@NotNull TextHolder title) {
+        setTitle(title);
+
         InventoryCraftResult resultSlot = new InventoryCraftResult();
 
         IInventory container = new InventoryViewProvider() {
@@ -43,7 +44,7 @@ public class SmithingTableInventoryImpl extends SmithingTableInventory {
             @Contract(pure = true)
             @Override
             public IChatBaseComponent getScoreboardDisplayName() {
-                return TextHolderUtil.toComponent(title);
+                return TextHolderUtil.toComponent(SmithingTableInventoryImpl.super.title);
             }
         };
 
@@ -21,9 +21,10 @@ import org.jetbrains.annotations.Nullable;
 public class StonecutterInventoryImpl extends StonecutterInventory {
 
     @NotNull
-    @Contract(pure = true)
     @Override
     public Inventory createInventory(@NotNull TextHolder title) {
+        setTitle(title);
+
         InventorySubcontainer resultSlot = new InventorySubcontainer(1);
 
         IInventory container = new InventoryViewProvider() {
@@ -42,7 +43,7 @@ public class StonecutterInventoryImpl extends StonecutterInventory {
             @Contract(pure = true)
             @Override
             public IChatBaseComponent getScoreboardDisplayName() {
-                return TextHolderUtil.toComponent(title);
+                return TextHolderUtil.toComponent(StonecutterInventoryImpl.super.title);
             }
         };
 
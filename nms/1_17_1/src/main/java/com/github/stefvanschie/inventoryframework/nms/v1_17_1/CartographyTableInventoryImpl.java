@@ -31,9 +31,10 @@ import org.jetbrains.annotations.Nullable;
 public class CartographyTableInventoryImpl extends CartographyTableInventory {
 
     @NotNull
-    @Contract(pure = true)
     @Override
     public Inventory createInventory(@NotNull TextHolder title) {
+        setTitle(title);
+
         SimpleContainer resultSlot = new SimpleContainer(1);
 
         Container container = new InventoryViewProvider() {
@@ -52,7 +53,7 @@ public class CartographyTableInventoryImpl extends CartographyTableInventory {
             @Contract(pure = true)
             @Override
             public Component getDisplayName() {
-                return TextHolderUtil.toComponent(title);
+                return TextHolderUtil.toComponent(CartographyTableInventoryImpl.super.title);
             }
         };
 
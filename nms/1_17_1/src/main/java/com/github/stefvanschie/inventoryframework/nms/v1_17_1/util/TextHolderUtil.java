@@ -8,6 +8,8 @@ import net.minecraft.network.chat.TextComponent;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -17,12 +19,31 @@ import java.util.Objects;
  */
 public final class TextHolderUtil {
     
+    /**
+     * The maximum amount of converted components to keep cached
+     */
+    private static final int CACHE_SIZE = 256;
+
+    /**
+     * The converted components by their text holder, in least recently used order. Access to this map must be
+     * synchronized on the map.
+     */
+    @NotNull
+    private static final Map<TextHolder, Component> COMPONENTS =
+        new LinkedHashMap<TextHolder, Component>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(@NotNull Map.Entry<TextHolder, Component> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+
     private TextHolderUtil() {
         //private constructor to prevent construction
     }
     
     /**
-     * Converts the specified value to a vanilla component.
+     * Converts the specified value to a vanilla component. Conversions are cached per text holder, so the same
+     * component may be returned for equal holders; the returned component must therefore not be modified.
      *
      * @param holder the value to convert
      * @return the value as a vanilla component
@@ -31,11 +52,27 @@ public final class TextHolderUtil {
     @NotNull
     @Contract(pure = true)
     public static Component toComponent(@NotNull TextHolder holder) {
+        Component component;
+
+        synchronized (COMPONENTS) {
+            component = COMPONENTS.get(holder);
+        }
+
+        if (component != null) {
+            return component;
+        }
+
         if (holder instanceof StringHolder) {
-            return toComponent((StringHolder) holder);
+            component = toComponent((StringHolder) holder);
         } else {
-            return toComponent((ComponentHolder) holder);
+            component = toComponent((ComponentHolder) holder);
         }
+
+        synchronized (COMPONENTS) {
+            COMPONENTS.put(holder, component);
+        }
+
+        return component;
     }
     
     /**
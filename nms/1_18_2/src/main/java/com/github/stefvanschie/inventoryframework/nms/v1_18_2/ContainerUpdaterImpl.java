@@ -0,0 +1,156 @@
+package com.github.stefvanschie.inventoryframework.nms.v1_18_2;
+
+import com.github.stefvanschie.inventoryframework.abstraction.ContainerUpdater;
+import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
+import com.github.stefvanschie.inventoryframework.nms.v1_18_2.util.TextHolderUtil;
+import net.minecraft.core.NonNullList;
+import net.minecraft.network.protocol.game.ClientboundContainerSetContentPacket;
+import net.minecraft.network.protocol.game.ClientboundContainerSetSlotPacket;
+import net.minecraft.network.protocol.game.ClientboundOpenScreenPacket;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.MenuType;
+import org.bukkit.craftbukkit.v1_18_R2.entity.CraftPlayer;
+import org.bukkit.craftbukkit.v1_18_R2.inventory.CraftItemStack;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Internal container updater for 1.18.2
+ *
+ * @since 0.12.1
+ */
+public class ContainerUpdaterImpl extends ContainerUpdater {
+
+    @Override
+    public void updateTitle(@NotNull Player player, @NotNull TextHolder title) {
+        ServerPlayer serverPlayer = ((CraftPlayer) player).getHandle();
+        AbstractContainerMenu menu = serverPlayer.containerMenu;
+
+        if (menu == serverPlayer.inventoryMenu) {
+            return;
+        }
+
+        serverPlayer.connection.send(new ClientboundOpenScreenPacket(
+                menu.containerId, menu.getType(), TextHolderUtil.toComponent(title)
+        ));
+
+        player.updateInventory();
+    }
+
+    @Override
+    public void sendContents(@NotNull Player player) {
+        ServerPlayer serverPlayer = ((CraftPlayer) player).getHandle();
+        AbstractContainerMenu menu = serverPlayer.containerMenu;
+
+        if (menu == serverPlayer.inventoryMenu) {
+            return;
+        }
+
+        menu.sendAllDataToRemote();
+    }
+
+    @Override
+    public void setProperty(@NotNull Player player, int id, int value) {
+        ServerPlayer serverPlayer = ((CraftPlayer) player).getHandle();
+        AbstractContainerMenu menu = serverPlayer.containerMenu;
+
+        if (menu == serverPlayer.inventoryMenu) {
+            return;
+        }
+
+        menu.setData(id, value);
+    }
+
+    @Override
+    public void sendItems(@NotNull Player player, @Nullable ItemStack @NotNull [] items) {
+        ServerPlayer serverPlayer = ((CraftPlayer) player).getHandle();
+        AbstractContainerMenu menu = serverPlayer.containerMenu;
+
+        if (menu == serverPlayer.inventoryMenu) {
+            return;
+        }
+
+        for (int slot = 0; slot < items.length; slot++) {
+            ItemStack item = items[slot];
+
+            if (item == null) {
+                continue;
+            }
+
+            //mark the slot as sent, so its next synchronization doesn't overwrite the item sent here
+            menu.setRemoteSlot(slot, menu.getSlot(slot).getItem());
+
+            serverPlayer.connection.send(new ClientboundContainerSetSlotPacket(
+                    menu.containerId, menu.getStateId(), slot, CraftItemStack.asNMSCopy(item)
+            ));
+        }
+    }
+
+    @Override
+    public void openVirtualChest(
+            @NotNull Player player,
+            @NotNull TextHolder title,
+            @Nullable ItemStack @NotNull [] items
+    ) {
+        ServerPlayer serverPlayer = ((CraftPlayer) player).getHandle();
+        Inventory inventory = serverPlayer.getInventory();
+        MenuType<?> menuType = getChestMenuType(items.length);
+        int containerId = serverPlayer.nextContainerCounter();
+
+        NonNullList<net.minecraft.world.item.ItemStack> contents = NonNullList.create();
+
+        for (ItemStack item : items) {
+            contents.add(CraftItemStack.asNMSCopy(item));
+        }
+
+        //the main inventory comes first, followed by the hotbar
+        for (int index = 9; index < 36; index++) {
+            contents.add(inventory.getItem(index).copy());
+        }
+
+        for (int index = 0; index < 9; index++) {
+            contents.add(inventory.getItem(index).copy());
+        }
+
+        net.minecraft.world.item.ItemStack carried = serverPlayer.containerMenu.getCarried().copy();
+
+        serverPlayer.connection.send(new ClientboundOpenScreenPacket(
+                containerId, menuType, TextHolderUtil.toComponent(title)
+        ));
+        serverPlayer.connection.send(new ClientboundContainerSetContentPacket(containerId, 0, contents, carried));
+    }
+
+    /**
+     * Gets the menu type of a chest that can hold the specified amount of items.
+     *
+     * @param size the amount of items
+     * @return the menu type
+     * @throws IllegalArgumentException if the size is not a multiple of nine between nine and fifty-four
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    private MenuType<?> getChestMenuType(int size) {
+        switch (size) {
+            case 9:
+                return MenuType.GENERIC_9x1;
+            case 18:
+                return MenuType.GENERIC_9x2;
+            case 27:
+                return MenuType.GENERIC_9x3;
+            case 36:
+                return MenuType.GENERIC_9x4;
+            case 45:
+                return MenuType.GENERIC_9x5;
+            case 54:
+                return MenuType.GENERIC_9x6;
+            default:
+                throw new IllegalArgumentException("Size should be a multiple of 9 between 9 and 54");
+        }
+    }
+}
@@ -30,9 +30,10 @@ import org.jetbrains.annotations.Nullable;
 public class EnchantingTableInventoryImpl extends EnchantingTableInventory {
 
     @NotNull
-    @Contract(pure = true)
     @Override
     public Inventory createInventory(@NotNull TextHolder title) {
+        setTitle(title);
+
         Container container = new InventoryViewProvider() {
             @NotNull
             @Contract(pure = true)
@@ -49,7 +50,7 @@ public class EnchantingTableInventoryImpl extends EnchantingTableInventory {
             @Contract(pure = true)
             @Override
             public Component getDisplayName() {
-                return TextHolderUtil.toComponent(title);
+                return TextHolderUtil.toComponent(EnchantingTableInventoryImpl.super.title);
             }
         };
 
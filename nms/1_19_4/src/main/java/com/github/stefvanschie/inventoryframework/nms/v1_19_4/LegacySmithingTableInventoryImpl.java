@@ -36,9 +36,10 @@ import org.jetbrains.annotations.Nullable;
 public class LegacySmithingTableInventoryImpl extends SmithingTableInventory {
 
     @NotNull
-    @Contract(pure = true)
     @Override
     public Inventory createInventory(@NotNull TextHolder title) {
+        setTitle(title);
+
         ResultContainer resultSlot = new ResultContainer();
 
         Container container = new InventoryViewProvider() {
@@ -57,7 +58,7 @@ public class LegacySmithingTableInventoryImpl extends SmithingTableInventory {
             @Contract(pure = true)
             @Override
             public Component getDisplayName() {
-                return TextHolderUtil.toComponent(title);
+                return TextHolderUtil.toComponent(LegacySmithingTableInventoryImpl.super.title);
             }
         };
 
@@ -5,6 +5,9 @@ import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
 import com.github.stefvanschie.inventoryframework.nms.v1_20_0.util.TextHolderUtil;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
+import net.minecraft.network.protocol.game.ClientboundContainerSetDataPacket;
+import net.minecraft.network.protocol.game.ClientboundContainerSetSlotPacket;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.CompoundContainer;
 import net.minecraft.world.Container;
 import net.minecraft.world.MenuProvider;
@@ -32,9 +35,10 @@ import org.jetbrains.annotations.Nullable;
 public class AnvilInventoryImpl extends AnvilInventory {
 
     @NotNull
-    @Contract(pure = true)
     @Override
     public Inventory createInventory(@NotNull TextHolder title) {
+        setTitle(title);
+
         SimpleContainer inputSlots = new SimpleContainer(2);
         SimpleContainer resultSlot = new SimpleContainer(1);
 
@@ -64,7 +68,7 @@ public class AnvilInventoryImpl extends AnvilInventory {
                     @Contract(pure = true)
                     @Override
                     public Component getDisplayName() {
-                        return TextHolderUtil.toComponent(title);
+                        return TextHolderUtil.toComponent(AnvilInventoryImpl.super.title);
                     }
                 };
             }
@@ -106,6 +110,12 @@ public class AnvilInventoryImpl extends AnvilInventory {
         @Nullable
         private CraftInventoryView bukkitEntity;
 
+        /**
+         * Whether the result slot and the enchantment cost should be sent again on the next broadcast, because the
+         * client may have predicted a different value for them.
+         */
+        private boolean resultOutdated;
+
         /**
          * Creates a new custom anvil container for the specified player.
          *
@@ -157,15 +167,12 @@ public class AnvilInventoryImpl extends AnvilInventory {
 
         @Override
         public void broadcastChanges() {
-            if (super.cost.checkAndClearUpdateFlag()) {
-                broadcastFullState();
-            } else {
-                for (int index = 0; index < super.slots.size(); index++) {
-                    if (!ItemStack.matches(super.remoteSlots.get(index), super.slots.get(index).getItem())) {
-                        broadcastFullState();
-                        return;
-                    }
-                }
+            super.broadcastChanges();
+
+            if (this.resultOutdated) {
+                this.resultOutdated = false;
+
+                sendResult();
             }
         }
 
@@ -179,8 +186,8 @@ public class AnvilInventoryImpl extends AnvilInventory {
                 AnvilInventoryImpl.super.observableText.set(name);
             }
 
-            //the client predicts the output result, so we broadcast the state again to override it
-            broadcastFullState();
+            //the client predicts the output result, so we send the result again on the next broadcast to override it
+            this.resultOutdated = true;
             return true; //no idea what this is for
         }
 
@@ -193,8 +200,8 @@ public class AnvilInventoryImpl extends AnvilInventory {
         public void clicked(int index, int dragData, @NotNull ClickType clickType, @NotNull Player player) {
             super.clicked(index, dragData, clickType, player);
 
-            //client predicts first slot, so send data to override
-            broadcastFullState();
+            //client predicts the result slot, so send it again on the next broadcast to override it
+            this.resultOutdated = true;
         }
 
         @Override
@@ -209,6 +216,26 @@ public class AnvilInventoryImpl extends AnvilInventory {
         @Override
         protected void onTake(@NotNull Player player, @NotNull ItemStack stack) {}
 
+        /**
+         * Sends the result slot and the enchantment cost to the player, overriding any values the client predicted for
+         * them. Only the result slot and the cost are sent, rather than the full state of this menu.
+         *
+         * @since 0.12.1
+         */
+        private void sendResult() {
+            if (!(super.player instanceof ServerPlayer)) {
+                return;
+            }
+
+            ServerPlayer serverPlayer = (ServerPlayer) super.player;
+            ItemStack result = super.slots.get(2).getItem().copy();
+
+            serverPlayer.connection.send(
+                    new ClientboundContainerSetSlotPacket(super.containerId, incrementStateId(), 2, result)
+            );
+            serverPlayer.connection.send(new ClientboundContainerSetDataPacket(super.containerId, 0, super.cost.get()));
+        }
+
         /**
          * Updates the current slot at the specified index to a new slot. The new slot will have the same slot, x, y,
          * and index as the original. The container of the new slot will be set to the value specified.
@@ -28,9 +28,10 @@ import org.jetbrains.annotations.Nullable;
 public class StonecutterInventoryImpl extends StonecutterInventory {
 
     @NotNull
-    @Contract(pure = true)
     @Override
     public Inventory createInventory(@NotNull TextHolder title) {
+        setTitle(title);
+
         SimpleContainer resultSlot = new SimpleContainer(1);
 
         Container container = new InventoryViewProvider() {
@@ -49,7 +50,7 @@ public class StonecutterInventoryImpl extends StonecutterInventory {
             @Contract(pure = true)
             @Override
             public Component getDisplayName() {
-                return TextHolderUtil.toComponent(title);
+                return TextHolderUtil.toComponent(StonecutterInventoryImpl.super.title);
             }
         };
 
@@ -8,6 +8,8 @@ import net.minecraft.network.chat.Component;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
 
@@ -18,12 +20,37 @@ import java.util.stream.Stream;
  */
 public final class TextHolderUtil {
     
+    /**
+     * The maximum amount of converted components to keep cached
+     */
+    private static final int CACHE_SIZE = 256;
+
+    /**
+     * The converted components by their text holder, in least recently used order. Access to this map must be
+     * synchronized on the map.
+     */
+    @NotNull
+    private static final Map<TextHolder, Component> COMPONENTS =
+        new LinkedHashMap<TextHolder, Component>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(@NotNull Map.Entry<TextHolder, Component> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+
+    /**
+     * The registry lookup used for parsing components. This is created once, since creating it is expensive.
+     */
+    @NotNull
+    private static final HolderLookup.Provider PROVIDER = HolderLookup.Provider.create(Stream.empty());
+
     private TextHolderUtil() {
         //private constructor to prevent construction
     }
     
     /**
-     * Converts the specified value to a vanilla component.
+     * Converts the specified value to a vanilla component. Conversions are cached per text holder, so the same
+     * component may be returned for equal holders; the returned component must therefore not be modified.
      *
      * @param holder the value to convert
      * @return the value as a vanilla component
@@ -32,11 +59,27 @@ public final class TextHolderUtil {
     @NotNull
     @Contract(pure = true)
     public static Component toComponent(@NotNull TextHolder holder) {
+        Component component;
+
+        synchronized (COMPONENTS) {
+            component = COMPONENTS.get(holder);
+        }
+
+        if (component != null) {
+            return component;
+        }
+
         if (holder instanceof StringHolder) {
-            return toComponent((StringHolder) holder);
+            component = toComponent((StringHolder) holder);
         } else {
-            return toComponent((ComponentHolder) holder);
+            component = toComponent((ComponentHolder) holder);
+        }
+
+        synchronized (COMPONENTS) {
+            COMPONENTS.put(holder, component);
         }
+
+        return component;
     }
     
     /**
@@ -62,6 +105,6 @@ public final class TextHolderUtil {
     @NotNull
     @Contract(pure = true)
     private static Component toComponent(@NotNull ComponentHolder holder) {
-        return Objects.requireNonNull(Component.Serializer.fromJson(holder.asJson(), HolderLookup.Provider.create(Stream.empty())));
+        return Objects.requireNonNull(Component.Serializer.fromJson(holder.asJson(), PROVIDER));
     }
 }
@@ -30,9 +30,10 @@ import org.jetbrains.annotations.Nullable;
 public class LoomInventoryImpl extends LoomInventory {
 
     @NotNull
-    @Contract(pure = true)
     @Override
     public Inventory createInventory(@NotNull TextHolder title) {
+        setTitle(title);
+
         ResultContainer resultSlot = new ResultContainer() {
             @Override
             public void setItem(int slot, @NotNull ItemStack itemStack) {
@@ -60,7 +61,7 @@ public class LoomInventoryImpl extends LoomInventory {
             @Contract(pure = true)
             @Override
             public Component getDisplayName() {
-                return TextHolderUtil.toComponent(title);
+                return TextHolderUtil.toComponent(LoomInventoryImpl.super.title);
             }
 
             @Override
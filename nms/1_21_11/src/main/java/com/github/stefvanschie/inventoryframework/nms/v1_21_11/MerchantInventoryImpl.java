@@ -42,10 +42,18 @@ import java.util.Optional;
  */
 public class MerchantInventoryImpl extends MerchantInventory {
 
+    /**
+     * The merchant offers converted from the trades the last time they were sent, or null if the trades have not been
+     * converted since they last changed
+     */
+    @Nullable
+    private MerchantOffers offers;
+
     @NotNull
-    @Contract(pure = true)
     @Override
     public Inventory createInventory(@NotNull TextHolder title) {
+        setTitle(title);
+
         Merchant merchant = new ClientSideMerchant(null);
 
         MerchantContainer container = new InventoryViewProvider(merchant) {
@@ -64,7 +72,7 @@ public class MerchantInventoryImpl extends MerchantInventory {
             @Contract(pure = true)
             @Override
             public Component getDisplayName() {
-                return TextHolderUtil.toComponent(title);
+                return TextHolderUtil.toComponent(MerchantInventoryImpl.super.title);
             }
         };
 
@@ -87,51 +95,141 @@ public class MerchantInventoryImpl extends MerchantInventory {
     public void sendMerchantOffers(@NotNull org.bukkit.entity.Player player,
                                    @NotNull List<? extends Map.Entry<? extends MerchantRecipe, ? extends Integer>> trades,
                                    int level, int experience) {
+        if (this.offers == null) {
+            this.offers = convertTrades(trades);
+        }
+
+        ServerPlayer serverPlayer = getServerPlayer(player);
+        int containerId = getContainerId(serverPlayer);
+
+        serverPlayer.sendMerchantOffers(containerId, this.offers, level, experience, true, false);
+    }
+
+    @Override
+    public void invalidateMerchantOffers() {
+        this.offers = null;
+    }
+
+    @Override
+    public void addMerchantOffer(@NotNull Map.Entry<? extends MerchantRecipe, ? extends Integer> trade) {
+        if (this.offers == null) {
+            return;
+        }
+
+        MerchantOffers offers = copyOffers(this.offers);
+        offers.add(convertTrade(trade));
+
+        this.offers = offers;
+    }
+
+    @Override
+    public void setMerchantOffer(int index, @NotNull Map.Entry<? extends MerchantRecipe, ? extends Integer> trade) {
+        if (this.offers == null) {
+            return;
+        }
+
+        MerchantOffers offers = copyOffers(this.offers);
+        offers.set(index, convertTrade(trade));
+
+        this.offers = offers;
+    }
+
+    @Override
+    public void removeMerchantOffer(int index) {
+        if (this.offers == null) {
+            return;
+        }
+
+        MerchantOffers offers = copyOffers(this.offers);
+        offers.remove(index);
+
+        this.offers = offers;
+    }
+
+    /**
+     * Converts the specified trades to merchant offers.
+     *
+     * @param trades the trades to convert
+     * @return the merchant offers
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    private MerchantOffers convertTrades(
+            @NotNull List<? extends Map.Entry<? extends MerchantRecipe, ? extends Integer>> trades
+    ) {
         MerchantOffers offers = new MerchantOffers();
 
         for (Map.Entry<? extends MerchantRecipe, ? extends Integer> entry : trades) {
-            MerchantRecipe recipe = entry.getKey();
-            List<ItemStack> ingredients = recipe.getIngredients();
+            offers.add(convertTrade(entry));
+        }
 
-            if (ingredients.size() < 1) {
-                throw new IllegalStateException("Merchant recipe has no ingredients");
-            }
+        return offers;
+    }
 
-            ItemStack itemA = ingredients.get(0);
-            ItemStack itemB = null;
+    /**
+     * Converts the specified trade to a merchant offer.
+     *
+     * @param trade the trade to convert
+     * @return the merchant offer
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    private MerchantOffer convertTrade(@NotNull Map.Entry<? extends MerchantRecipe, ? extends Integer> trade) {
+        MerchantRecipe recipe = trade.getKey();
+        List<ItemStack> ingredients = recipe.getIngredients();
 
-            if (ingredients.size() >= 2) {
-                itemB = ingredients.get(1);
-            }
+        if (ingredients.size() < 1) {
+            throw new IllegalStateException("Merchant recipe has no ingredients");
+        }
 
-            net.minecraft.world.item.ItemStack nmsItemA = CraftItemStack.asNMSCopy(itemA);
-            net.minecraft.world.item.ItemStack nmsItemB = net.minecraft.world.item.ItemStack.EMPTY;
-            net.minecraft.world.item.ItemStack nmsItemResult = CraftItemStack.asNMSCopy(recipe.getResult());
+        ItemStack itemA = ingredients.get(0);
+        ItemStack itemB = null;
 
-            if (itemB != null) {
-                nmsItemB = CraftItemStack.asNMSCopy(itemB);
-            }
+        if (ingredients.size() >= 2) {
+            itemB = ingredients.get(1);
+        }
+
+        net.minecraft.world.item.ItemStack nmsItemA = CraftItemStack.asNMSCopy(itemA);
+        net.minecraft.world.item.ItemStack nmsItemB = net.minecraft.world.item.ItemStack.EMPTY;
+        net.minecraft.world.item.ItemStack nmsItemResult = CraftItemStack.asNMSCopy(recipe.getResult());
 
-            ItemCost itemCostA = convertItemStackToItemCost(nmsItemA);
-            ItemCost itemCostB = convertItemStackToItemCost(nmsItemB);
+        if (itemB != null) {
+            nmsItemB = CraftItemStack.asNMSCopy(itemB);
+        }
 
-            int uses = recipe.getUses();
-            int maxUses = recipe.getMaxUses();
-            int exp = recipe.getVillagerExperience();
-            float multiplier = recipe.getPriceMultiplier();
+        ItemCost itemCostA = convertItemStackToItemCost(nmsItemA);
+        ItemCost itemCostB = convertItemStackToItemCost(nmsItemB);
 
-            MerchantOffer merchantOffer = new MerchantOffer(
-                    itemCostA, Optional.of(itemCostB), nmsItemResult, uses, maxUses, exp, multiplier
-            );
-            merchantOffer.setSpecialPriceDiff(entry.getValue());
+        int uses = recipe.getUses();
+        int maxUses = recipe.getMaxUses();
+        int exp = recipe.getVillagerExperience();
+        float multiplier = recipe.getPriceMultiplier();
 
-            offers.add(merchantOffer);
-        }
+        MerchantOffer merchantOffer = new MerchantOffer(
+                itemCostA, Optional.of(itemCostB), nmsItemResult, uses, maxUses, exp, multiplier
+        );
+        merchantOffer.setSpecialPriceDiff(trade.getValue());
 
-        ServerPlayer serverPlayer = getServerPlayer(player);
-        int containerId = getContainerId(serverPlayer);
+        return merchantOffer;
+    }
+
+    /**
+     * Creates a copy of the cached merchant offers. The cached offers are never modified in place, since a packet
+     * containing them may still be in the process of being sent.
+     *
+     * @param offers the offers to copy
+     * @return the copied offers
+     * @since 0.12.1
+     */
+    @NotNull
+    @Contract(pure = true)
+    private MerchantOffers copyOffers(@NotNull MerchantOffers offers) {
+        MerchantOffers copy = new MerchantOffers();
+        copy.addAll(offers);
 
-        serverPlayer.sendMerchantOffers(containerId, offers, level, experience, true, false);
+        return copy;
     }
 
     /**
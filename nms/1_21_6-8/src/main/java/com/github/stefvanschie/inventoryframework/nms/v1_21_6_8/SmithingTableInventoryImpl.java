@@ -30,9 +30,10 @@ import org.jetbrains.annotations.Nullable;
 public class SmithingTableInventoryImpl extends SmithingTableInventory {
 
     @NotNull
-    @Contract(pure = true)
     @Override
     public Inventory createInventory(@NotNull TextHolder title) {
+        setTitle(title);
+
         ResultContainer resultSlot = new ResultContainer();
 
         Container container = new InventoryViewProvider() {
@@ -51,7 +52,7 @@ public class SmithingTableInventoryImpl extends SmithingTableInventory {
             @Contract(pure = true)
             @Override
             public Component getDisplayName() {
-                return TextHolderUtil.toComponent(title);
+                return TextHolderUtil.toComponent(SmithingTableInventoryImpl.super.title);
             }
         };
 
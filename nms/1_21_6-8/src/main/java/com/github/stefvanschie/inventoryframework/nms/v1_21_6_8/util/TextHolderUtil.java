@@ -14,6 +14,8 @@ import net.minecraft.resources.RegistryOps;
 import org.jetbrains.annotations.Contract;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.stream.Stream;
 
 /**
@@ -23,12 +25,38 @@ import java.util.stream.Stream;
  */
 public final class TextHolderUtil {
     
+    /**
+     * The maximum amount of converted components to keep cached
+     */
+    private static final int CACHE_SIZE = 256;
+
+    /**
+     * The converted components by their text holder, in least recently used order. Access to this map must be
+     * synchronized on the map.
+     */
+    @NotNull
+    private static final Map<TextHolder, Component> COMPONENTS =
+        new LinkedHashMap<TextHolder, Component>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(@NotNull Map.Entry<TextHolder, Component> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+
+    /**
+     * The serialization context used for parsing components. This is created once, since creating it is expensive.
+     */
+    @NotNull
+    private static final RegistryOps<? super JsonElement> SERIALIZATION_CONTEXT =
+        HolderLookup.Provider.create(Stream.empty()).createSerializationContext(JsonOps.INSTANCE);
+
     private TextHolderUtil() {
         //private constructor to prevent construction
     }
     
     /**
-     * Converts the specified value to a vanilla component.
+     * Converts the specified value to a vanilla component. Conversions are cached per text holder, so the same
+     * component may be returned for equal holders; the returned component must therefore not be modified.
      *
      * @param holder the value to convert
      * @return the value as a vanilla component
@@ -37,11 +65,27 @@ public final class TextHolderUtil {
     @NotNull
     @Contract(pure = true)
     public static Component toComponent(@NotNull TextHolder holder) {
+        Component component;
+
+        synchronized (COMPONENTS) {
+            component = COMPONENTS.get(holder);
+        }
+
+        if (component != null) {
+            return component;
+        }
+
         if (holder instanceof StringHolder) {
-            return toComponent((StringHolder) holder);
+            component = toComponent((StringHolder) holder);
         } else {
-            return toComponent((ComponentHolder) holder);
+            component = toComponent((ComponentHolder) holder);
+        }
+
+        synchronized (COMPONENTS) {
+            COMPONENTS.put(holder, component);
         }
+
+        return component;
     }
     
     /**
@@ -68,9 +112,7 @@ public final class TextHolderUtil {
     @Contract(pure = true)
     private static Component toComponent(@NotNull ComponentHolder holder) {
         Codec<? extends Component> codec = ComponentSerialization.CODEC;
-        HolderLookup.Provider provider = HolderLookup.Provider.create(Stream.empty());
-        RegistryOps<? super JsonElement> serializationContext = provider.createSerializationContext(JsonOps.INSTANCE);
 
-        return codec.parse(serializationContext, holder.asJson()).getOrThrow(JsonParseException::new);
+        return codec.parse(SERIALIZATION_CONTEXT, holder.asJson()).getOrThrow(JsonParseException::new);
     }
 }
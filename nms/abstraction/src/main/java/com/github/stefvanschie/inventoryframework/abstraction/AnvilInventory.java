@@ -1,6 +1,7 @@
 package com.github.stefvanschie.inventoryframework.abstraction;
 
 import com.github.stefvanschie.inventoryframework.abstraction.util.ObservableValue;
+import com.github.stefvanschie.inventoryframework.adventuresupport.StringHolder;
 import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
 import org.bukkit.inventory.Inventory;
 import org.jetbrains.annotations.Contract;
@@ -15,6 +16,12 @@ import java.util.function.Consumer;
  */
 public abstract class AnvilInventory {
 
+    /**
+     * The title of the inventory created by this. This is read whenever the inventory is opened.
+     */
+    @NotNull
+    protected TextHolder title = StringHolder.empty();
+
     /**
      * The name input text.
      */
@@ -44,7 +51,8 @@ public abstract class AnvilInventory {
     }
 
     /**
-     * Creates an anvil inventory.
+     * Creates an anvil inventory. The title is read whenever the inventory is opened, so it can be changed afterwards
+     * via {@link #setTitle(TextHolder)}.
      *
      * @param title the title of the inventory
      * @return the inventory
@@ -53,6 +61,17 @@ public abstract class AnvilInventory {
     @NotNull
     public abstract Inventory createInventory(@NotNull TextHolder title);
 
+    /**
+     * Sets the title of the inventory created by this. The existing inventory is kept, but players opening it from now
+     * on will see the new title. Players that already have the inventory open keep seeing the old title.
+     *
+     * @param title the new title
+     * @since 0.12.1
+     */
+    public void setTitle(@NotNull TextHolder title) {
+        this.title = title;
+    }
+
     /**
      * Gets the text shown in the rename slot of the anvil
      *
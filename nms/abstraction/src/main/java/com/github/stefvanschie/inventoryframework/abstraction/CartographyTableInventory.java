@@ -1,5 +1,6 @@
 package com.github.stefvanschie.inventoryframework.abstraction;
 
+import com.github.stefvanschie.inventoryframework.adventuresupport.StringHolder;
 import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
 import org.bukkit.inventory.Inventory;
 import org.jetbrains.annotations.NotNull;
@@ -12,7 +13,14 @@ import org.jetbrains.annotations.NotNull;
 public abstract class CartographyTableInventory {
 
     /**
-     * Creates a cartography table inventory.
+     * The title of the inventory created by this. This is read whenever the inventory is opened.
+     */
+    @NotNull
+    protected TextHolder title = StringHolder.empty();
+
+    /**
+     * Creates a cartography table inventory. The title is read whenever the inventory is opened, so it can be changed
+     * afterwards via {@link #setTitle(TextHolder)}.
      *
      * @param title the title of the inventory
      * @return the inventory
@@ -20,4 +28,15 @@ public abstract class CartographyTableInventory {
      */
     @NotNull
     public abstract Inventory createInventory(@NotNull TextHolder title);
+
+    /**
+     * Sets the title of the inventory created by this. The existing inventory is kept, but players opening it from now
+     * on will see the new title. Players that already have the inventory open keep seeing the old title.
+     *
+     * @param title the new title
+     * @since 0.12.1
+     */
+    public void setTitle(@NotNull TextHolder title) {
+        this.title = title;
+    }
 }
@@ -0,0 +1,87 @@
+package com.github.stefvanschie.inventoryframework.abstraction;
+
+import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Updates the container a player currently has open by sending packets directly to the player, rather than by
+ * creating and opening a new inventory.
+ *
+ * @since 0.12.1
+ */
+public abstract class ContainerUpdater {
+
+    /**
+     * Changes the title of the container the player currently has open. The screen is reopened on the client with the
+     * same container id, after which the contents of the container are resent. No new container is created on the
+     * server and no inventory open or close events are fired. If the player does not have a container open, this does
+     * nothing.
+     *
+     * @param player the player to update the title for
+     * @param title the new title
+     * @since 0.12.1
+     */
+    public abstract void updateTitle(@NotNull Player player, @NotNull TextHolder title);
+
+    /**
+     * Sends the entire contents of the container the player currently has open, including the player's own inventory,
+     * in a single packet. The container will consider these contents as synchronized, so slots that have been changed
+     * up to this point will not be sent again individually. If the player does not have a container open, this does
+     * nothing.
+     *
+     * @param player the player to send the contents to
+     * @since 0.12.1
+     */
+    public abstract void sendContents(@NotNull Player player);
+
+    /**
+     * Sets a data property of the container the player currently has open, such as the progress of a furnace's cook
+     * arrow. The value is stored in the container and sent to the player the next time the container broadcasts its
+     * changes, in a single small packet. No slots are resent. If the player does not have a container open, this does
+     * nothing. The ids and meaning of the properties depend on the type of container.
+     *
+     * @param player the player whose container to set the property of
+     * @param id the id of the property
+     * @param value the new value of the property
+     * @since 0.12.1
+     */
+    public abstract void setProperty(@NotNull Player player, int id, int value);
+
+    /**
+     * Sends items to the player as if they are in the container the player currently has open, without changing the
+     * container itself. The index of each item is the slot it is shown in, and null items are not sent. The slots the
+     * items are sent to are marked as synchronized with the container, so pending changes of those slots are not sent
+     * afterwards and do not overwrite these items. The items will be shown until the slots are sent again, for example
+     * when they change or the contents are resynchronized. If the player does not have a container open, this does
+     * nothing.
+     *
+     * @param player the player to send the items to
+     * @param items the items to send
+     * @since 0.12.1
+     */
+    public abstract void sendItems(@NotNull Player player, @Nullable ItemStack @NotNull [] items);
+
+    /**
+     * Opens a chest window for the player that only exists on the client. No container is created on the server: the
+     * server keeps treating the player as if they have their own inventory open. The amount of rows of the chest is
+     * determined by the length of the provided items, which must be a multiple of nine between nine and fifty-four. The
+     * bottom part of the window shows the current contents of the player's inventory.
+     * <p>
+     * Since the server does not know about this window, clicks made in it are ignored by the server. Items the player
+     * moves around are only moved on the client and should be resynchronized, for example via
+     * {@link Player#updateInventory()}, once the window is closed.
+     *
+     * @param player the player to open the window for
+     * @param title the title of the window
+     * @param items the items to show in the chest
+     * @since 0.12.1
+     */
+    public abstract void openVirtualChest(
+            @NotNull Player player,
+            @NotNull TextHolder title,
+            @Nullable ItemStack @NotNull [] items
+    );
+}
@@ -1,5 +1,6 @@
 package com.github.stefvanschie.inventoryframework.abstraction;
 
+import com.github.stefvanschie.inventoryframework.adventuresupport.StringHolder;
 import com.github.stefvanschie.inventoryframework.adventuresupport.TextHolder;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
@@ -17,7 +18,14 @@ import java.util.Map;
 public abstract class MerchantInventory {
 
     /**
-     * Creates a merchant inventory.
+     * The title of the inventory created by this. This is read whenever the inventory is opened.
+     */
+    @NotNull
+    protected TextHolder title = StringHolder.empty();
+
+    /**
+     * Creates a merchant inventory. The title is read whenever the inventory is opened, so it can be changed afterwards
+     * via {@link #setTitle(TextHolder)}.
      *
      * @param title the title of the inventory
      * @return the inventory
@@ -27,7 +35,20 @@ public abstract class MerchantInventory {
     public abstract Inventory createInventory(@NotNull TextHolder title);
 
     /**
-     * Sends the merchant offers to the player, combined with the merchants level and experience.
+     * Sets the title of the inventory created by this. The existing inventory is kept, but players opening it from now
+     * on will see the new title. Players that already have the inventory open keep seeing the old title.
+     *
+     * @param title the new title
+     * @since 0.12.1
+     */
+    public void setTitle(@NotNull TextHolder title) {
+        this.title = title;
+    }
+
+    /**
+     * Sends the merchant offers to the player, combined with the merchants level and experience. The trades are only
+     * converted to merchant offers the first time they are sent. Afterwards, the converted offers are reused until
+     * {@link #invalidateMerchantOffers()} is called.
      *
      * @param player the player to send this to
      * @param trades the trades to send
@@ -41,4 +62,44 @@ public abstract class MerchantInventory {
             int level,
             int experience
     );
+
+    /**
+     * Discards the merchant offers that were converted from the trades when they were last sent, so the trades will be
+     * converted again the next time they are sent. This must be called whenever the trades change.
+     *
+     * @since 0.12.1
+     */
+    public abstract void invalidateMerchantOffers();
+
+    /**
+     * Appends a merchant offer for the specified trade to the merchant offers that were converted when the trades were
+     * last sent. Only the specified trade is converted. If the trades have not been converted yet, this does nothing.
+     *
+     * @param trade the trade that was added
+     * @since 0.12.1
+     */
+    public abstract void addMerchantOffer(@NotNull Map.Entry<? extends MerchantRecipe, ? extends Integer> trade);
+
+    /**
+     * Replaces the merchant offer at the specified index of the merchant offers that were converted when the trades
+     * were last sent with a merchant offer for the specified trade. Only the specified trade is converted. If the
+     * trades have not been converted yet, this does nothing.
+     *
+     * @param index the index of the trade that changed
+     * @param trade the new trade
+     * @since 0.12.1
+     */
+    public abstract void setMerchantOffer(
+            int index,
+            @NotNull Map.Entry<? extends MerchantRecipe, ? extends Integer> trade
+    );
+
+    /**
+     * Removes the merchant offer at the specified index from the merchant offers that were converted when the trades
+     * were last sent. If the trades have not been converted yet, this does nothing.
+     *
+     * @param index the index of the trade that was removed
+     * @since 0.12.1
+     */
+    public abstract void removeMerchantOffer(int index);
 }